@@ -0,0 +1,147 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.util.Random;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * RosterGenerator builds synthetic rosters of Students with a chosen shape, for
+ * measuring sorters on inputs of any size. The same shape, size, and seed
+ * always give the same roster.
+ *
+ * @author Jake Donovan
+ *
+ */
+public class RosterGenerator {
+
+	/** The number of distinct Students in a {@link Shape#FEW_UNIQUE} roster */
+	public static final int FEW_UNIQUE_VALUES = 16;
+
+	/** The number of letters in a generated name */
+	private static final int NAME_LENGTH = 6;
+
+	/** The number of names of NAME_LENGTH letters, 26 to the power NAME_LENGTH */
+	private static final int NAME_VALUES = 308_915_776;
+
+	/**
+	 * The shapes of roster that RosterGenerator can build
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	public enum Shape {
+		/** Random names and GPAs, with the IDs 1 to n in random order */
+		RANDOM,
+		/** Students already in natural order and in ID order */
+		ASCENDING,
+		/** Students in reverse natural order and reverse ID order */
+		DESCENDING,
+		/** Random picks from only {@link RosterGenerator#FEW_UNIQUE_VALUES} distinct Students */
+		FEW_UNIQUE,
+		/** Random names and GPAs, with random IDs spread over the whole non-negative int range */
+		SPARSE_IDS
+	}
+
+	/**
+	 * RosterGenerator only provides static behaviors
+	 */
+	private RosterGenerator() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Returns a new roster
+	 *
+	 * @param shape the shape of the roster
+	 * @param size  the number of Students
+	 * @param seed  the seed for the random choices
+	 * @return a roster of size Students with the given shape
+	 * @throws IllegalArgumentException if shape is null or size is negative
+	 */
+	public static Student[] generate(Shape shape, int size, long seed) {
+		if (shape == null) {
+			throw new IllegalArgumentException("Shape must not be null");
+		}
+		if (size < 0) {
+			throw new IllegalArgumentException("Size must not be negative: " + size);
+		}
+		Random random = new Random(seed);
+		Student[] roster = new Student[size];
+		switch (shape) {
+		case ASCENDING:
+			for (int i = 0; i < size; i++) {
+				roster[i] = student(name(i), name(i), i + 1, random);
+			}
+			break;
+		case DESCENDING:
+			for (int i = 0; i < size; i++) {
+				int rank = size - 1 - i;
+				roster[i] = student(name(rank), name(rank), rank + 1, random);
+			}
+			break;
+		case FEW_UNIQUE:
+			for (int i = 0; i < size; i++) {
+				int value = random.nextInt(FEW_UNIQUE_VALUES);
+				roster[i] = new Student(name(value), name(value), value + 1, 15, value / 4.0, "unity" + value);
+			}
+			break;
+		case SPARSE_IDS:
+			for (int i = 0; i < size; i++) {
+				roster[i] = student(name(random.nextInt(NAME_VALUES)), name(random.nextInt(NAME_VALUES)),
+						random.nextInt(Integer.MAX_VALUE), random);
+			}
+			break;
+		default:
+			int[] ids = new int[size];
+			for (int i = 0; i < size; i++) {
+				ids[i] = i + 1;
+			}
+			// Fisher-Yates shuffle
+			for (int i = size - 1; i > 0; i--) {
+				int j = random.nextInt(i + 1);
+				int temp = ids[i];
+				ids[i] = ids[j];
+				ids[j] = temp;
+			}
+			for (int i = 0; i < size; i++) {
+				roster[i] = student(name(random.nextInt(NAME_VALUES)), name(random.nextInt(NAME_VALUES)),
+						ids[i], random);
+			}
+			break;
+		}
+		return roster;
+	}
+
+	/**
+	 * Returns a Student with a random GPA and credit hours
+	 *
+	 * @param first  the first name
+	 * @param last   the last name
+	 * @param id     the ID
+	 * @param random the source of the GPA and credit hours
+	 * @return the new Student
+	 */
+	private static Student student(String first, String last, int id, Random random) {
+		return new Student(first, last, id, 1 + random.nextInt(18), random.nextInt(401) / 100.0, "unity" + id);
+	}
+
+	/**
+	 * Returns a capitalized name of NAME_LENGTH letters that spells value in base
+	 * 26, so a larger value gives a later name
+	 *
+	 * @param value a non-negative number; values of at least NAME_VALUES give a
+	 *              first character past 'Z'
+	 * @return the name for value
+	 */
+	static String name(int value) {
+		char[] letters = new char[NAME_LENGTH];
+		int rest = value;
+		for (int i = NAME_LENGTH - 1; i > 0; i--) {
+			letters[i] = (char) ('a' + rest % 26);
+			rest /= 26;
+		}
+		// The first letter takes the rest of the value; past 'Z' it is not a letter, but it stays in order
+		letters[0] = (char) ('A' + rest);
+		return new String(letters);
+	}
+}
@@ -0,0 +1,485 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import edu.ncsu.csc316.dsa.benchmark.RosterGenerator.Shape;
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.data.StudentKeys;
+import edu.ncsu.csc316.dsa.sorter.AdaptiveStudentSorter;
+import edu.ncsu.csc316.dsa.sorter.BubbleSorter;
+import edu.ncsu.csc316.dsa.sorter.BufferedMergeSorter;
+import edu.ncsu.csc316.dsa.sorter.CountingSorter;
+import edu.ncsu.csc316.dsa.sorter.GPABucketSorter;
+import edu.ncsu.csc316.dsa.sorter.HeapSorter;
+import edu.ncsu.csc316.dsa.sorter.InsertionSorter;
+import edu.ncsu.csc316.dsa.sorter.IntroSorter;
+import edu.ncsu.csc316.dsa.sorter.KeyExtractedSorter;
+import edu.ncsu.csc316.dsa.sorter.MergeSorter;
+import edu.ncsu.csc316.dsa.sorter.ParallelMergeSorter;
+import edu.ncsu.csc316.dsa.sorter.ParallelSampleSorter;
+import edu.ncsu.csc316.dsa.sorter.QuickSorter;
+import edu.ncsu.csc316.dsa.sorter.QuickSorter.PartitionScheme;
+import edu.ncsu.csc316.dsa.sorter.QuickSorter.PivotSelector;
+import edu.ncsu.csc316.dsa.sorter.RadixSorter;
+import edu.ncsu.csc316.dsa.sorter.RunMergeSorter;
+import edu.ncsu.csc316.dsa.sorter.SelectionSorter;
+import edu.ncsu.csc316.dsa.sorter.SortInstrumentation;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
+import edu.ncsu.csc316.dsa.sorter.StudentNameSorter;
+
+/**
+ * SorterBenchmark times every Sorter on synthetic rosters from
+ * {@link RosterGenerator}, so regressions and the sizes where one sorter
+ * overtakes another can be measured. Each measurement sorts a fresh copy of
+ * the roster for a number of warmup iterations, which let the JIT compile the
+ * sorter, and then for a number of measured iterations, whose median and
+ * minimum times are reported. The result of the last iteration is checked to
+ * be in order, and one more instrumented sort counts the comparisons and moves.
+ *
+ * Comparison sorters sort into Students' natural order, except GPABucketSorter,
+ * which sorts into GPA order; CountingSorter and RadixSorter sort by ID.
+ * Sorters that take quadratic time on a shape (the elementary sorters, and
+ * Lomuto quicksort on few unique Students or with a first or last pivot on
+ * sorted input) are skipped above {@link #QUADRATIC_LIMIT} Students.
+ *
+ * Run it with the options --sorters, --shapes, --sizes, --warmup, and
+ * --iterations, each followed by a value or comma-separated list; one CSV line
+ * is printed per measurement. Since the JIT profiles whatever ran before, the
+ * most comparable numbers come from measuring one sorter per JVM. Rosters of
+ * 10M Students need a heap of a few gigabytes.
+ *
+ * @author Jake Donovan
+ *
+ */
+public class SorterBenchmark {
+
+	/** The roster sizes measured when none are given */
+	public static final int[] DEFAULT_SIZES = { 1_000, 10_000, 100_000, 1_000_000 };
+
+	/** The largest roster that a sorter taking quadratic time is measured on */
+	public static final int QUADRATIC_LIMIT = 10_000;
+
+	/** The default number of warmup iterations */
+	public static final int DEFAULT_WARMUP = 3;
+
+	/** The default number of measured iterations */
+	public static final int DEFAULT_ITERATIONS = 5;
+
+	/**
+	 * The stack size of the thread that runs the measurements, which is large
+	 * enough for the recursion of quicksort on its quadratic inputs
+	 */
+	private static final long STACK_BYTES = 256L * 1024 * 1024;
+
+	/** The seed used for every roster, so all sorters see the same input */
+	private static final long SEED = 316;
+
+	/** The sorters that can be measured, by name */
+	private static final Map<String, Entry> SORTERS = sorters();
+
+	/** The number of warmup iterations */
+	private int warmup;
+
+	/** The number of measured iterations */
+	private int iterations;
+
+	/**
+	 * Constructs a new SorterBenchmark
+	 *
+	 * @param warmup     the number of iterations run before measuring
+	 * @param iterations the number of measured iterations
+	 * @throws IllegalArgumentException if warmup is negative or iterations is
+	 *                                  less than 1
+	 */
+	public SorterBenchmark(int warmup, int iterations) {
+		if (warmup < 0) {
+			throw new IllegalArgumentException("Warmup must not be negative: " + warmup);
+		}
+		if (iterations < 1) {
+			throw new IllegalArgumentException("Iterations must be at least 1: " + iterations);
+		}
+		this.warmup = warmup;
+		this.iterations = iterations;
+	}
+
+	/**
+	 * Constructs a new SorterBenchmark with the default warmup and measured
+	 * iterations
+	 */
+	public SorterBenchmark() {
+		this(DEFAULT_WARMUP, DEFAULT_ITERATIONS);
+	}
+
+	/**
+	 * Returns the names of the sorters that can be measured
+	 *
+	 * @return the sorter names, in the order they are measured by default
+	 */
+	public static List<String> getSorterNames() {
+		return Collections.unmodifiableList(new ArrayList<String>(SORTERS.keySet()));
+	}
+
+	/**
+	 * Returns whether a sorter is measured on a roster shape and size, which is
+	 * false when the sorter takes quadratic time on the shape and the size is
+	 * above QUADRATIC_LIMIT
+	 *
+	 * @param sorter the name of the sorter
+	 * @param shape  the roster shape
+	 * @param size   the roster size
+	 * @return true if the sorter is measured on the shape and size
+	 * @throws IllegalArgumentException if there is no sorter with the name
+	 */
+	public static boolean isMeasured(String sorter, Shape shape, int size) {
+		return !entry(sorter).quadratic.contains(shape) || size <= QUADRATIC_LIMIT;
+	}
+
+	/**
+	 * Measures a sorter on a roster
+	 *
+	 * @param sorter the name of the sorter
+	 * @param shape  the roster shape
+	 * @param size   the roster size
+	 * @return the measurements
+	 * @throws IllegalArgumentException if there is no sorter with the name
+	 * @throws IllegalStateException    if the sorter leaves the roster out of order
+	 */
+	public Result measure(String sorter, Shape shape, int size) {
+		Entry entry = entry(sorter);
+		Student[] roster = RosterGenerator.generate(shape, size, SEED);
+		Sorter<Student> instance = entry.factory.get();
+		long[] times = new long[iterations];
+		Student[] data = null;
+		for (int i = 0; i < warmup + iterations; i++) {
+			data = roster.clone();
+			long start = System.nanoTime();
+			instance.sort(data);
+			long elapsed = System.nanoTime() - start;
+			if (i >= warmup) {
+				times[i - warmup] = elapsed;
+			}
+		}
+		for (int i = 1; i < size; i++) {
+			if (entry.ordering.compare(data[i - 1], data[i]) > 0) {
+				throw new IllegalStateException(sorter + " left a " + shape + " roster out of order at index " + i);
+			}
+		}
+
+		SortInstrumentation instrumentation = new SortInstrumentation();
+		instance.setInstrumentation(instrumentation);
+		instance.sort(roster.clone());
+		SortInstrumentation.Snapshot counts = instrumentation.snapshot();
+
+		Arrays.sort(times);
+		return new Result(sorter, shape, size, times[(iterations - 1) / 2], times[0], counts.getComparisons(),
+				counts.getMoves());
+	}
+
+	/**
+	 * Measures the sorters, shapes, and sizes given as options and prints one CSV
+	 * line per measurement. The measurements run on a thread with a stack of
+	 * STACK_BYTES.
+	 *
+	 * @param args the options: --sorters, --shapes, --sizes, --warmup, and
+	 *             --iterations, each followed by its value
+	 * @throws InterruptedException if interrupted while waiting for the
+	 *                              measurements
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		List<String> sorters = getSorterNames();
+		List<Shape> shapes = Arrays.asList(Shape.values());
+		int[] sizes = DEFAULT_SIZES;
+		int warmup = DEFAULT_WARMUP;
+		int iterations = DEFAULT_ITERATIONS;
+		for (int i = 0; i < args.length; i += 2) {
+			if (i + 1 == args.length) {
+				throw new IllegalArgumentException("Missing value for " + args[i]);
+			}
+			String[] values = args[i + 1].split(",");
+			switch (args[i]) {
+			case "--sorters":
+				sorters = Arrays.asList(values);
+				break;
+			case "--shapes":
+				shapes = new ArrayList<Shape>();
+				for (String value : values) {
+					shapes.add(Shape.valueOf(value.trim().toUpperCase()));
+				}
+				break;
+			case "--sizes":
+				sizes = new int[values.length];
+				for (int s = 0; s < values.length; s++) {
+					sizes[s] = Integer.parseInt(values[s].trim());
+				}
+				break;
+			case "--warmup":
+				warmup = Integer.parseInt(args[i + 1]);
+				break;
+			case "--iterations":
+				iterations = Integer.parseInt(args[i + 1]);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown option: " + args[i]);
+			}
+		}
+
+		SorterBenchmark benchmark = new SorterBenchmark(warmup, iterations);
+		List<String> measuredSorters = sorters;
+		List<Shape> measuredShapes = shapes;
+		int[] measuredSizes = sizes;
+		Thread runner = new Thread(null, () -> {
+			System.out.println(Result.CSV_HEADER);
+			for (String sorter : measuredSorters) {
+				for (Shape shape : measuredShapes) {
+					for (int size : measuredSizes) {
+						if (isMeasured(sorter, shape, size)) {
+							System.out.println(benchmark.measure(sorter, shape, size).toCsv());
+						}
+					}
+				}
+			}
+		}, "SorterBenchmark", STACK_BYTES);
+		runner.start();
+		runner.join();
+	}
+
+	/**
+	 * Returns the sorter entry with a name
+	 *
+	 * @param sorter the name of the sorter
+	 * @return the entry for the sorter
+	 * @throws IllegalArgumentException if there is no sorter with the name
+	 */
+	private static Entry entry(String sorter) {
+		Entry entry = SORTERS.get(sorter);
+		if (entry == null) {
+			throw new IllegalArgumentException("Unknown sorter: " + sorter);
+		}
+		return entry;
+	}
+
+	/**
+	 * Builds the table of sorters that can be measured
+	 *
+	 * @return the sorters, by name
+	 */
+	private static Map<String, Entry> sorters() {
+		Comparator<Student> natural = Comparator.naturalOrder();
+		Comparator<Student> byID = new StudentIDComparator();
+		Set<Shape> unsorted = EnumSet.of(Shape.RANDOM, Shape.DESCENDING, Shape.FEW_UNIQUE, Shape.SPARSE_IDS);
+		Set<Shape> all = EnumSet.allOf(Shape.class);
+		Set<Shape> sortedOrFew = EnumSet.of(Shape.ASCENDING, Shape.DESCENDING, Shape.FEW_UNIQUE);
+		Set<Shape> few = EnumSet.of(Shape.FEW_UNIQUE);
+		Set<Shape> none = EnumSet.noneOf(Shape.class);
+
+		Map<String, Entry> sorters = new LinkedHashMap<String, Entry>();
+		sorters.put("Bubble", new Entry(() -> new BubbleSorter<Student>(), natural, unsorted));
+		sorters.put("Insertion", new Entry(() -> new InsertionSorter<Student>(), natural, unsorted));
+		sorters.put("Selection", new Entry(() -> new SelectionSorter<Student>(), natural, all));
+		sorters.put("Merge", new Entry(() -> new MergeSorter<Student>(), natural, none));
+		sorters.put("BufferedMerge", new Entry(() -> new BufferedMergeSorter<Student>(), natural, none));
+		sorters.put("RunMerge", new Entry(() -> new RunMergeSorter<Student>(), natural, none));
+		sorters.put("ParallelMerge", new Entry(() -> new ParallelMergeSorter<Student>(), natural, none));
+		sorters.put("ParallelSample", new Entry(() -> new ParallelSampleSorter<Student>(), natural, none));
+		sorters.put("Heap", new Entry(() -> new HeapSorter<Student>(), natural, none));
+		sorters.put("Intro", new Entry(() -> new IntroSorter<Student>(), natural, none));
+		sorters.put("Quick-First", quick(QuickSorter.FIRST_ELEMENT_SELECTOR, null, sortedOrFew));
+		sorters.put("Quick-Last", quick(QuickSorter.LAST_ELEMENT_SELECTOR, null, sortedOrFew));
+		sorters.put("Quick-Middle", quick(QuickSorter.MIDDLE_ELEMENT_SELECTOR, null, few));
+		sorters.put("Quick-Random", quick(QuickSorter.RANDOM_ELEMENT_SELECTOR, null, few));
+		sorters.put("Quick-MedianOfThree", quick(QuickSorter.MEDIAN_OF_THREE_SELECTOR, null, few));
+		sorters.put("Quick-Ninther", quick(QuickSorter.NINTHER_SELECTOR, null, few));
+		sorters.put("Quick-Ninther-DualPivot", quick(QuickSorter.NINTHER_SELECTOR, PartitionScheme.DUAL_PIVOT, none));
+		sorters.put("Quick-Ninther-Block", quick(QuickSorter.NINTHER_SELECTOR, PartitionScheme.BLOCK, none));
+		sorters.put("KeyExtracted", new Entry(() -> new KeyExtractedSorter<Student>(StudentKeys.NAME), natural, none));
+		sorters.put("StudentName", new Entry(() -> new StudentNameSorter(), natural, none));
+		sorters.put("GPABucket", new Entry(() -> new GPABucketSorter(), new StudentGPAComparator(), none));
+		sorters.put("Adaptive", new Entry(() -> new AdaptiveStudentSorter(), natural, none));
+		sorters.put("Counting", new Entry(() -> new CountingSorter<Student>(), byID, none));
+		sorters.put("Radix-Decimal", new Entry(() -> new RadixSorter<Student>(RadixSorter.Radix.DECIMAL), byID, none));
+		sorters.put("Radix-Byte", new Entry(() -> new RadixSorter<Student>(RadixSorter.Radix.BYTE), byID, none));
+		return sorters;
+	}
+
+	/**
+	 * Returns the entry for a QuickSorter in Students' natural order
+	 *
+	 * @param selector  the pivot selector
+	 * @param scheme    the partitioning scheme, or null for Lomuto partitioning
+	 * @param quadratic the shapes the QuickSorter takes quadratic time on
+	 * @return the entry for the QuickSorter
+	 */
+	private static Entry quick(PivotSelector selector, PartitionScheme scheme, Set<Shape> quadratic) {
+		return new Entry(() -> new QuickSorter<Student>(null, selector, scheme), Comparator.naturalOrder(), quadratic);
+	}
+
+	/**
+	 * A sorter that can be measured, the ordering it sorts into, and the shapes
+	 * it takes quadratic time on
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	private static class Entry {
+		/** Creates the sorter */
+		private Supplier<Sorter<Student>> factory;
+		/** The ordering the sorter sorts into */
+		private Comparator<Student> ordering;
+		/** The shapes the sorter takes quadratic time on */
+		private Set<Shape> quadratic;
+
+		/**
+		 * Constructs a new Entry
+		 *
+		 * @param factory   creates the sorter
+		 * @param ordering  the ordering the sorter sorts into
+		 * @param quadratic the shapes the sorter takes quadratic time on
+		 */
+		Entry(Supplier<Sorter<Student>> factory, Comparator<Student> ordering, Set<Shape> quadratic) {
+			this.factory = factory;
+			this.ordering = ordering;
+			this.quadratic = quadratic;
+		}
+	}
+
+	/**
+	 * Result holds the measurements of one sorter on one roster
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	public static class Result {
+
+		/** The header line for {@link #toCsv()} */
+		public static final String CSV_HEADER = "sorter,shape,size,median_ms,min_ms,ns_per_student,comparisons,moves";
+
+		/** The name of the sorter */
+		private final String sorter;
+
+		/** The roster shape */
+		private final Shape shape;
+
+		/** The roster size */
+		private final int size;
+
+		/** The median time of the measured iterations, in nanoseconds */
+		private final long medianNanos;
+
+		/** The shortest time of the measured iterations, in nanoseconds */
+		private final long minNanos;
+
+		/** The comparator calls made by one sort */
+		private final long comparisons;
+
+		/** The element moves made by one sort */
+		private final long moves;
+
+		/**
+		 * Constructs a new Result
+		 *
+		 * @param sorter      the name of the sorter
+		 * @param shape       the roster shape
+		 * @param size        the roster size
+		 * @param medianNanos the median time of the measured iterations
+		 * @param minNanos    the shortest time of the measured iterations
+		 * @param comparisons the comparator calls made by one sort
+		 * @param moves       the element moves made by one sort
+		 */
+		private Result(String sorter, Shape shape, int size, long medianNanos, long minNanos, long comparisons,
+				long moves) {
+			this.sorter = sorter;
+			this.shape = shape;
+			this.size = size;
+			this.medianNanos = medianNanos;
+			this.minNanos = minNanos;
+			this.comparisons = comparisons;
+			this.moves = moves;
+		}
+
+		/**
+		 * Returns the name of the sorter
+		 *
+		 * @return the name of the sorter
+		 */
+		public String getSorter() {
+			return sorter;
+		}
+
+		/**
+		 * Returns the roster shape
+		 *
+		 * @return the roster shape
+		 */
+		public Shape getShape() {
+			return shape;
+		}
+
+		/**
+		 * Returns the roster size
+		 *
+		 * @return the roster size
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * Returns the median time of the measured iterations, in nanoseconds
+		 *
+		 * @return the median time
+		 */
+		public long getMedianNanos() {
+			return medianNanos;
+		}
+
+		/**
+		 * Returns the shortest time of the measured iterations, in nanoseconds
+		 *
+		 * @return the shortest time
+		 */
+		public long getMinNanos() {
+			return minNanos;
+		}
+
+		/**
+		 * Returns the comparator calls made by one sort
+		 *
+		 * @return the number of comparisons
+		 */
+		public long getComparisons() {
+			return comparisons;
+		}
+
+		/**
+		 * Returns the element moves made by one sort
+		 *
+		 * @return the number of moves
+		 */
+		public long getMoves() {
+			return moves;
+		}
+
+		/**
+		 * Returns the measurements as one line of CSV, in the columns of CSV_HEADER
+		 *
+		 * @return the CSV line
+		 */
+		public String toCsv() {
+			double perStudent = size == 0 ? 0 : (double) medianNanos / size;
+			return String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.1f,%d,%d", sorter, shape, size, medianNanos / 1e6,
+					minNanos / 1e6, perStudent, comparisons, moves);
+		}
+	}
+}
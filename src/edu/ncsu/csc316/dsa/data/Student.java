@@ -188,35 +188,15 @@ public class Student implements Comparable<Student>, Identifiable {
 	 * after, and 0 means they are equal (aka one does not have priority in positioning over the other))
 	 */
 	public int compareTo(Student student) {
-		if(this.getLast().compareTo(student.getLast()) > 0) {
-			return 1;
+		// Names shared through a NameDictionary are equal as soon as they are the same instance
+		int c = last == student.last ? 0 : this.getLast().compareTo(student.getLast());
+		if(c == 0) {
+			c = first == student.first ? 0 : this.getFirst().compareTo(student.getFirst());
 		}
-		
-		else if(this.getLast().compareTo(student.getLast()) < 0) {
-			return -1;
+		if(c == 0) {
+			c = Integer.compare(this.getId(), student.getId());
 		}
-		
-		else {
-			if(this.getFirst().compareTo(student.getFirst()) > 0) {
-				return 1;
-			}
-			
-			else if(this.getFirst().compareTo(student.getFirst()) < 0) {
-				return -1;
-			}
-			
-			else {
-				if(this.getId() < student.getId()) {
-					return -1;
-				}
-				
-				else if(this.getId() > student.getId()) {
-					return 1;
-				}
-			}
-		}
-		
-		return 0;
+		return Integer.signum(c);
 	}
 	
 	/**
@@ -0,0 +1,136 @@
+package edu.ncsu.csc316.dsa.data;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * StudentKeys provides functions that turn a Student into a single long key,
+ * for sorters that compare primitive keys instead of calling a comparator.
+ *
+ * Each key is consistent with a Student ordering: if one Student's key is less
+ * than another's, that Student comes first in the ordering. Students with equal
+ * keys may still be in either order, so a sorter must break ties with the full
+ * ordering. Names are encoded by their first few characters, 7 bits per
+ * character. A character that does not fit in 7 bits encodes as the largest
+ * value and ends the encoding, so names that reach such a character at the
+ * same position have equal keys and are ordered by the full ordering.
+ *
+ * A GPA key holds the GPA as a whole number of hundredths with the start of the
+ * last name below it. Only a GPA that is exactly a number of hundredths in [0,
+ * MAX_GPA_POINTS] gets the name bits; any other GPA gets a key with no name
+ * bits, so Students whose GPAs round to the same hundredth are not ordered by
+ * name.
+ *
+ * @author Jake Donovan
+ *
+ */
+public class StudentKeys {
+
+	/** The number of GPA points per 1.0 of GPA, since GPAs have two decimals */
+	public static final int GPA_SCALE = 100;
+
+	/** The largest fixed-point GPA that a key can hold */
+	public static final int MAX_GPA_POINTS = 1023;
+
+	/** The number of bits used for each name character */
+	private static final int BITS_PER_CHAR = 7;
+
+	/** The largest encoded character */
+	private static final int MAX_CHAR = (1 << BITS_PER_CHAR) - 1;
+
+	/** The number of last name characters in a {@link #NAME} key */
+	private static final int NAME_CHARS = 9;
+
+	/** The number of last name characters in a {@link #GPA} key, after the 10 GPA bits */
+	private static final int GPA_NAME_CHARS = 7;
+
+	/** A key in the order of {@link StudentIDComparator}; Students with equal keys have equal IDs */
+	public static final ToLongFunction<Student> ID = s -> s.getId();
+
+	/** The number of bits below the GPA in a {@link #GPA} key */
+	private static final int GPA_SHIFT = GPA_NAME_CHARS * BITS_PER_CHAR;
+
+	/** A key in the order of {@link StudentGPAComparator}: descending GPA, then the start of the last name */
+	public static final ToLongFunction<Student> GPA = s -> gpaKey(s);
+
+	/** A key in the natural order of Students: the start of the last name */
+	public static final ToLongFunction<Student> NAME = s -> namePrefix(s.getLast(), NAME_CHARS);
+
+	/**
+	 * StudentKeys only provides static behaviors
+	 */
+	private StudentKeys() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Returns a GPA as a whole number of hundredths, rounded and limited to [0,
+	 * MAX_GPA_POINTS]. A larger GPA never gives a smaller result.
+	 *
+	 * @param gpa a GPA
+	 * @return the fixed-point GPA
+	 */
+	public static int gpaPoints(double gpa) {
+		long points = Math.round(gpa * GPA_SCALE);
+		return (int) Math.max(0, Math.min(MAX_GPA_POINTS, points));
+	}
+
+	/**
+	 * Returns the {@link #GPA} key of a Student. A GPA that is a whole number of
+	 * hundredths in range is followed by the start of the last name. A GPA
+	 * between two hundredths gets the key of the lower hundredth with the name
+	 * bits zero, which is at most the key of any Student with that lower GPA
+	 * and more than the key of any Student with a higher hundredth. GPAs above
+	 * the range all get a key below every other key, and negative GPAs a key
+	 * above every other key, so the comparator orders each of those groups.
+	 *
+	 * @param s a Student
+	 * @return the GPA key
+	 */
+	private static long gpaKey(Student s) {
+		double gpa = s.getGpa();
+		long points = Math.round(gpa * GPA_SCALE);
+		if (points >= 0 && points <= MAX_GPA_POINTS && points / (double) GPA_SCALE == gpa) {
+			return ((MAX_GPA_POINTS - points) << GPA_SHIFT) | namePrefix(s.getLast(), GPA_NAME_CHARS);
+		}
+		if (gpa > MAX_GPA_POINTS / (double) GPA_SCALE) {
+			return -1;
+		}
+		if (gpa < 0) {
+			return (MAX_GPA_POINTS + 1L) << GPA_SHIFT;
+		}
+		// Not a whole number of hundredths: use the hundredth just below it
+		points = (long) Math.floor(gpa * GPA_SCALE);
+		while (points > 0 && points / (double) GPA_SCALE > gpa) {
+			points--;
+		}
+		return (MAX_GPA_POINTS - points) << GPA_SHIFT;
+	}
+
+	/**
+	 * Encodes the first chars characters of a name into the low chars * 7 bits of
+	 * a long, first character highest. Shorter names are padded with zeros. The
+	 * first character of 127 or more encodes as 127 and the bits after it are
+	 * left zero, since the characters after it would not be in order. So if one
+	 * name comes before another by {@link String#compareTo}, its encoding is
+	 * less than or equal to the other's.
+	 *
+	 * @param name  the name to encode
+	 * @param chars the number of characters to encode, at most 9
+	 * @return the encoded prefix
+	 */
+	public static long namePrefix(String name, int chars) {
+		long prefix = 0;
+		int length = Math.min(chars, name.length());
+		int i = 0;
+		while (i < length) {
+			char c = name.charAt(i);
+			i++;
+			if (c >= MAX_CHAR) {
+				prefix = (prefix << BITS_PER_CHAR) | MAX_CHAR;
+				break;
+			}
+			prefix = (prefix << BITS_PER_CHAR) | c;
+		}
+		return prefix << ((chars - i) * BITS_PER_CHAR);
+	}
+}
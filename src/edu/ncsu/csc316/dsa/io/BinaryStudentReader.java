@@ -0,0 +1,170 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * BinaryStudentReader loads roster files written by
+ * {@link BinaryStudentWriter}. The file is memory mapped, its header is
+ * checked, and the records are decoded straight from the mapped bytes into a
+ * roster allocated at the exact size given in the header. The CRC-32 of the
+ * records is computed as they are decoded and compared with the header, so a
+ * truncated or corrupted file is rejected instead of loaded.
+ *
+ * @author Jake Donovan
+ *
+ */
+public class BinaryStudentReader {
+
+	/** The largest number of record bytes mapped at a time */
+	static final int DEFAULT_WINDOW_BYTES = 1 << 30;
+
+	/**
+	 * BinaryStudentReader only provides static behaviors
+	 */
+	private BinaryStudentReader() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Returns the binary roster file as an array of Student objects
+	 * @param filePath - the path to the binary roster file
+	 * @return an array of Student objects
+	 * @throws IllegalArgumentException if the file does not exist, is not a
+	 *                                  binary roster file, or is corrupted
+	 * @throws UncheckedIOException     if the file cannot be read
+	 */
+	public static Student[] readInputAsArray(String filePath) {
+		return readInputAsArray(filePath, null);
+	}
+
+	/**
+	 * Returns the binary roster file as an array of Student objects, sharing one
+	 * String instance between every occurrence of the same first or last name
+	 * @param filePath - the path to the binary roster file
+	 * @param names - the dictionary that first and last names are looked up in;
+	 *              if null, every name is a new String
+	 * @return an array of Student objects
+	 * @throws IllegalArgumentException if the file does not exist, is not a
+	 *                                  binary roster file, or is corrupted
+	 * @throws UncheckedIOException     if the file cannot be read
+	 */
+	public static Student[] readInputAsArray(String filePath, NameDictionary names) {
+		return readInputAsArray(filePath, names, DEFAULT_WINDOW_BYTES);
+	}
+
+	/**
+	 * Returns the binary roster file as an array of Student objects, mapping at
+	 * most windowBytes record bytes at a time
+	 * @param filePath - the path to the binary roster file
+	 * @param names - the dictionary that first and last names are looked up in, or null
+	 * @param windowBytes - the largest number of record bytes mapped at a time,
+	 *                    which must be at least MAX_RECORD_BYTES
+	 * @return an array of Student objects
+	 */
+	static Student[] readInputAsArray(String filePath, NameDictionary names, int windowBytes) {
+		try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < BinaryStudentWriter.HEADER_BYTES) {
+				throw new IllegalArgumentException("Not a binary roster file: " + filePath);
+			}
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, BinaryStudentWriter.HEADER_BYTES);
+			if (header.getInt() != BinaryStudentWriter.MAGIC) {
+				throw new IllegalArgumentException("Not a binary roster file: " + filePath);
+			}
+			int version = header.getInt();
+			if (version != BinaryStudentWriter.VERSION) {
+				throw new IllegalArgumentException("Unsupported binary roster version: " + version);
+			}
+			int count = header.getInt();
+			int checksum = header.getInt();
+			long length = header.getLong();
+			if (count < 0 || length != size - BinaryStudentWriter.HEADER_BYTES
+					|| count > length / BinaryStudentWriter.FIXED_RECORD_BYTES) {
+				throw new IllegalArgumentException("Binary roster file is truncated: " + filePath);
+			}
+
+			Student[] list = new Student[count];
+			CRC32 crc = new CRC32();
+			long position = BinaryStudentWriter.HEADER_BYTES;
+			int index = 0;
+			try {
+				while (position < size) {
+					ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+							Math.min(windowBytes, size - position));
+					boolean last = position + window.limit() == size;
+					// Stop early enough that the next record cannot run past the end of the window
+					int stop = last ? window.limit() : window.limit() - BinaryStudentWriter.MAX_RECORD_BYTES;
+					while (window.position() < stop) {
+						list[index] = readRecord(window, names);
+						index++;
+					}
+					int consumed = window.position();
+					crc.update(window.flip());
+					position += consumed;
+				}
+			} catch (ArrayIndexOutOfBoundsException | BufferUnderflowException e) {
+				// More records than the count, or a record cut off at the end of the file
+				throw new IllegalArgumentException("Binary roster file is corrupted: " + filePath);
+			}
+			if (index != count || (int) crc.getValue() != checksum) {
+				throw new IllegalArgumentException("Binary roster file is corrupted: " + filePath);
+			}
+			return list;
+		} catch (NoSuchFileException e) {
+			throw new IllegalArgumentException("File not found: " + e.getMessage());
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to read file: " + filePath, e);
+		}
+	}
+
+	/**
+	 * Decodes the record at the buffer's position and moves past it
+	 * @param buffer - the mapped records
+	 * @param names - the dictionary that first and last names are looked up in, or null
+	 * @return the Student stored in the record
+	 */
+	private static Student readRecord(ByteBuffer buffer, NameDictionary names) {
+		int id = buffer.getInt();
+		int creditHours = buffer.getInt();
+		double gpa = buffer.getInt() / 100.0;
+		String first = readString(buffer, names);
+		String last = readString(buffer, names);
+		String unityID = readString(buffer, null);
+		return new Student(first, last, id, creditHours, gpa, unityID);
+	}
+
+	/**
+	 * Decodes the String at the buffer's position and moves past it
+	 * @param buffer - the mapped records
+	 * @param names - the dictionary the String is looked up in, or null
+	 * @return the stored String, or null
+	 */
+	private static String readString(ByteBuffer buffer, NameDictionary names) {
+		int length = Short.toUnsignedInt(buffer.getShort());
+		if (length == BinaryStudentWriter.NULL_LENGTH) {
+			return null;
+		}
+		if (names != null) {
+			if (length > buffer.remaining()) {
+				throw new BufferUnderflowException();
+			}
+			int from = buffer.position();
+			buffer.position(from + length);
+			return names.intern(buffer, from, from + length);
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,180 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * BinaryStudentWriter writes rosters in a compact binary format that
+ * {@link BinaryStudentReader} loads much faster than {@link StudentReader}
+ * parses CSV. The file is a header followed by one record per Student, with
+ * every number big-endian:
+ *
+ *    header:  MAGIC (int), VERSION (int), record count (int),
+ *             CRC-32 of the records (int), length of the records in bytes (long)
+ *    record:  STUDENT_ID (int), CREDIT_HOURS (int), GPA in hundredths (int),
+ *             FIRST_NAME, LAST_NAME, UNITY_ID
+ *
+ * Each String is stored as its length in UTF-8 bytes (an unsigned short, or
+ * {@link #NULL_LENGTH} for null) followed by the bytes. GPAs are stored as
+ * whole hundredths, the precision of the CSV files, and read back as the same
+ * doubles {@link StudentReader} parses from two-decimal GPAs.
+ *
+ * @author Jake Donovan
+ *
+ */
+public class BinaryStudentWriter {
+
+	/** The first four bytes of every binary roster file, which no text file starts with */
+	public static final int MAGIC = 0x89535242;
+
+	/** The version of the format written */
+	public static final int VERSION = 1;
+
+	/** The number of bytes in the header */
+	static final int HEADER_BYTES = 24;
+
+	/** The length stored for a null String */
+	static final int NULL_LENGTH = 0xFFFF;
+
+	/** The longest String, in UTF-8 bytes, that can be stored */
+	static final int MAX_STRING_BYTES = NULL_LENGTH - 1;
+
+	/** The number of bytes in a record, apart from its Strings */
+	static final int FIXED_RECORD_BYTES = 3 * Integer.BYTES + 3 * Short.BYTES;
+
+	/** The largest number of bytes in a record */
+	static final int MAX_RECORD_BYTES = FIXED_RECORD_BYTES + 3 * MAX_STRING_BYTES;
+
+	/** The number of bytes buffered before they are written to the file */
+	private static final int BUFFER_BYTES = 1 << 20;
+
+	/**
+	 * BinaryStudentWriter only provides static behaviors
+	 */
+	private BinaryStudentWriter() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Writes an array of Student objects to a binary roster file
+	 * @param filePath - the path to the output file
+	 * @param roster - the students to write, in order
+	 * @throws IllegalArgumentException if a GPA is not a whole number of
+	 *                                  hundredths or a String is too long
+	 * @throws UncheckedIOException     if the file cannot be written
+	 */
+	public static void writeOutputFromArray(String filePath, Student[] roster) {
+		try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+			CRC32 crc = new CRC32();
+			long length = 0;
+			channel.position(HEADER_BYTES);
+			for (Student s : roster) {
+				byte[] first = encode(s.getFirst());
+				byte[] last = encode(s.getLast());
+				byte[] unityID = encode(s.getUnityID());
+				int recordBytes = FIXED_RECORD_BYTES + size(first) + size(last) + size(unityID);
+				// A record is at most MAX_RECORD_BYTES, so it always fits in an empty buffer
+				if (buffer.remaining() < recordBytes) {
+					length += flush(channel, buffer, crc);
+				}
+				buffer.putInt(s.getId());
+				buffer.putInt(s.getCreditHours());
+				buffer.putInt(hundredths(s.getGpa()));
+				putString(buffer, first);
+				putString(buffer, last);
+				putString(buffer, unityID);
+			}
+			length += flush(channel, buffer, crc);
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			header.putInt(MAGIC).putInt(VERSION).putInt(roster.length).putInt((int) crc.getValue()).putLong(length);
+			header.flip();
+			channel.write(header, 0);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to write file: " + filePath, e);
+		}
+	}
+
+	/**
+	 * Writes the buffered bytes to the file and adds them to the checksum
+	 * @param channel - the file
+	 * @param buffer - the bytes to write, which is cleared afterwards
+	 * @param crc - the checksum of the records
+	 * @return the number of bytes written
+	 * @throws IOException if the bytes cannot be written
+	 */
+	private static int flush(FileChannel channel, ByteBuffer buffer, CRC32 crc) throws IOException {
+		buffer.flip();
+		int length = buffer.remaining();
+		crc.update(buffer.array(), 0, length);
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+		return length;
+	}
+
+	/**
+	 * Returns a GPA as a whole number of hundredths
+	 * @param gpa - the GPA
+	 * @return the GPA times 100
+	 * @throws IllegalArgumentException if the GPA is not a whole number of hundredths
+	 */
+	static int hundredths(double gpa) {
+		long hundredths = Math.round(gpa * 100);
+		if (hundredths / 100.0 != gpa || hundredths > Integer.MAX_VALUE || hundredths < Integer.MIN_VALUE) {
+			throw new IllegalArgumentException("GPA must be a whole number of hundredths: " + gpa);
+		}
+		return (int) hundredths;
+	}
+
+	/**
+	 * Returns the UTF-8 bytes of a String
+	 * @param s - the String to encode
+	 * @return the bytes of s, or null if s is null
+	 * @throws IllegalArgumentException if s is longer than MAX_STRING_BYTES bytes
+	 */
+	private static byte[] encode(String s) {
+		if (s == null) {
+			return null;
+		}
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > MAX_STRING_BYTES) {
+			throw new IllegalArgumentException("String must be at most " + MAX_STRING_BYTES + " bytes: " + bytes.length);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Returns the number of String bytes stored for an encoded String
+	 * @param bytes - the encoded String, or null
+	 * @return the number of bytes, not counting the length
+	 */
+	private static int size(byte[] bytes) {
+		return bytes == null ? 0 : bytes.length;
+	}
+
+	/**
+	 * Stores a String's length and bytes
+	 * @param buffer - the buffer to store the String in
+	 * @param bytes - the encoded String, or null
+	 */
+	private static void putString(ByteBuffer buffer, byte[] bytes) {
+		if (bytes == null) {
+			buffer.putShort((short) NULL_LENGTH);
+		} else {
+			buffer.putShort((short) bytes.length);
+			buffer.put(bytes);
+		}
+	}
+}
@@ -0,0 +1,334 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.priority_queue.HeapPriorityQueue;
+import edu.ncsu.csc316.dsa.priority_queue.PriorityQueue.Entry;
+import edu.ncsu.csc316.dsa.sorter.RunMergeSorter;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
+
+/**
+ * ExternalStudentSorter sorts student CSV files that are too large to load
+ * into memory at once. The input is read in chunks of a fixed number of
+ * students; each chunk is sorted with a {@link Sorter} and written to a
+ * temporary run file; and the runs are then combined with a k-way merge that
+ * keeps the current first student of every run in a {@link HeapPriorityQueue}.
+ * If there are more runs than the merge width, groups of runs are first merged
+ * into longer runs, so the number of open files is also bounded.
+ *
+ * At most one chunk of students, plus one student per run being merged, is in
+ * memory at a time, no matter how large the input is. Ties between runs are
+ * broken in favor of the earlier run, so the whole sort is stable whenever the
+ * chunk sorter is stable.
+ *
+ * Input and output files use the format read by {@link StudentReader} and
+ * written by {@link StudentWriter}.
+ *
+ * @author Jake Donovan
+ *
+ */
+public class ExternalStudentSorter {
+
+	/** The default number of students sorted in memory at a time */
+	public static final int DEFAULT_CHUNK_SIZE = 100000;
+
+	/** The default largest number of runs merged at the same time */
+	public static final int DEFAULT_MERGE_WIDTH = 64;
+
+	/** The sorter used on each chunk */
+	private Sorter<Student> sorter;
+
+	/** The ordering used by the sorter, which the merge must also use */
+	private Comparator<Student> comparator;
+
+	/** The number of students sorted in memory at a time */
+	private int chunkSize;
+
+	/** The largest number of runs merged at the same time */
+	private int mergeWidth;
+
+	/** The directory for temporary run files, or null for the system default */
+	private File tempDirectory;
+
+	/**
+	 * Constructs an ExternalStudentSorter
+	 *
+	 * @param sorter        the sorter used on each chunk; if null, a
+	 *                      {@link RunMergeSorter} with the given comparator is used
+	 * @param comparator    the ordering the chunk sorter sorts by, which is also
+	 *                      used to merge runs; if null, students are merged in
+	 *                      their natural order
+	 * @param chunkSize     the number of students sorted in memory at a time
+	 * @param mergeWidth    the largest number of runs merged at the same time
+	 * @param tempDirectory the directory for temporary run files; if null, the
+	 *                      system default temporary directory is used
+	 * @throws IllegalArgumentException if chunkSize is less than 1 or mergeWidth
+	 *                                  is less than 2
+	 */
+	public ExternalStudentSorter(Sorter<Student> sorter, Comparator<Student> comparator, int chunkSize,
+			int mergeWidth, File tempDirectory) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("Chunk size must be at least 1: " + chunkSize);
+		}
+		if (mergeWidth < 2) {
+			throw new IllegalArgumentException("Merge width must be at least 2: " + mergeWidth);
+		}
+		this.comparator = comparator == null ? Comparator.naturalOrder() : comparator;
+		this.sorter = sorter == null ? new RunMergeSorter<Student>(comparator) : sorter;
+		this.chunkSize = chunkSize;
+		this.mergeWidth = mergeWidth;
+		this.tempDirectory = tempDirectory;
+	}
+
+	/**
+	 * Constructs an ExternalStudentSorter that merges up to
+	 * {@link #DEFAULT_MERGE_WIDTH} runs at a time and writes temporary run files
+	 * to the system default temporary directory
+	 *
+	 * @param sorter     the sorter used on each chunk; if null, a
+	 *                   {@link RunMergeSorter} with the given comparator is used
+	 * @param comparator the ordering the chunk sorter sorts by, which is also used
+	 *                   to merge runs; if null, students are merged in their
+	 *                   natural order
+	 * @param chunkSize  the number of students sorted in memory at a time
+	 */
+	public ExternalStudentSorter(Sorter<Student> sorter, Comparator<Student> comparator, int chunkSize) {
+		this(sorter, comparator, chunkSize, DEFAULT_MERGE_WIDTH, null);
+	}
+
+	/**
+	 * Constructs an ExternalStudentSorter that sorts {@link #DEFAULT_CHUNK_SIZE}
+	 * students in memory at a time
+	 *
+	 * @param sorter     the sorter used on each chunk; if null, a
+	 *                   {@link RunMergeSorter} with the given comparator is used
+	 * @param comparator the ordering the chunk sorter sorts by, which is also used
+	 *                   to merge runs; if null, students are merged in their
+	 *                   natural order
+	 */
+	public ExternalStudentSorter(Sorter<Student> sorter, Comparator<Student> comparator) {
+		this(sorter, comparator, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Sorts the students in one CSV file and writes them, in order, to another.
+	 * Temporary run files are deleted before this method returns.
+	 *
+	 * @param inputPath  the path to the input student CSV file
+	 * @param outputPath the path to the sorted output CSV file
+	 * @throws IllegalArgumentException if the input file does not exist
+	 * @throws UncheckedIOException     if a file cannot be read or written
+	 */
+	public void sort(String inputPath, String outputPath) {
+		ArrayBasedList<Path> runs = new ArrayBasedList<Path>();
+		try {
+			createRuns(Paths.get(inputPath), runs);
+			while (runs.size() > mergeWidth) {
+				ArrayBasedList<Path> merged = new ArrayBasedList<Path>();
+				try {
+					for (int i = 0; i < runs.size(); i += mergeWidth) {
+						Path run = createRunFile();
+						merged.addLast(run);
+						merge(runs, i, Math.min(i + mergeWidth, runs.size()), run, false);
+					}
+				} catch (IOException | RuntimeException e) {
+					deleteAll(merged);
+					throw e;
+				}
+				deleteAll(runs);
+				runs = merged;
+			}
+			merge(runs, 0, runs.size(), Paths.get(outputPath), true);
+		} catch (NoSuchFileException e) {
+			throw new IllegalArgumentException("File not found: " + e.getMessage());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			deleteAll(runs);
+		}
+	}
+
+	/**
+	 * Reads the input file one chunk at a time, sorting each chunk and writing it
+	 * to a new run file
+	 *
+	 * @param input the input student CSV file
+	 * @param runs  the list that each new run file is added to
+	 * @throws IOException if a file cannot be read or written
+	 */
+	private void createRuns(Path input, ArrayBasedList<Path> runs) throws IOException {
+		Student[] chunk = new Student[chunkSize];
+		try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+			reader.readLine(); // SKIP HEADER LINE
+			int count = 0;
+			String line = reader.readLine();
+			while (line != null) {
+				chunk[count++] = StudentReader.processLine(line);
+				line = reader.readLine();
+				if (count == chunkSize || (line == null && count > 0)) {
+					sorter.sort(chunk, 0, count);
+					Path run = createRunFile();
+					runs.addLast(run);
+					try (BufferedWriter writer = Files.newBufferedWriter(run, StandardCharsets.UTF_8)) {
+						for (int i = 0; i < count; i++) {
+							StudentWriter.writeLine(writer, chunk[i]);
+						}
+					}
+					Arrays.fill(chunk, null);
+					count = 0;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Merges the run files runs[low, high) into one output file
+	 *
+	 * @param runs   the run files
+	 * @param low    the index of the first run to merge
+	 * @param high   one past the index of the last run to merge
+	 * @param output the file the merged students are written to
+	 * @param header true to start the output with a CSV header line, as the
+	 *               final output does; false for a headerless run file
+	 * @throws IOException if a file cannot be read or written
+	 */
+	private void merge(ArrayBasedList<Path> runs, int low, int high, Path output, boolean header)
+			throws IOException {
+		HeapPriorityQueue<Run, Student> heap = new HeapPriorityQueue<Run, Student>();
+		try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+			if (header) {
+				writer.write(StudentWriter.HEADER);
+				writer.newLine();
+			}
+			for (int i = low; i < high; i++) {
+				Run run = new Run(runs.get(i), i);
+				if (run.advance()) {
+					heap.insert(run, run.head);
+				} else {
+					run.close();
+				}
+			}
+			while (!heap.isEmpty()) {
+				Entry<Run, Student> entry = heap.deleteMin();
+				StudentWriter.writeLine(writer, entry.getValue());
+				Run run = entry.getKey();
+				if (run.advance()) {
+					heap.insert(run, run.head);
+				} else {
+					run.close();
+				}
+			}
+		} finally {
+			while (!heap.isEmpty()) {
+				heap.deleteMin().getKey().close();
+			}
+		}
+	}
+
+	/**
+	 * Creates a new, empty temporary run file
+	 *
+	 * @return the path to the run file
+	 * @throws IOException if the file cannot be created
+	 */
+	private Path createRunFile() throws IOException {
+		if (tempDirectory == null) {
+			return Files.createTempFile("student-run", ".tmp");
+		}
+		return Files.createTempFile(tempDirectory.toPath(), "student-run", ".tmp");
+	}
+
+	/**
+	 * Deletes every file in a list of run files, ignoring files that are already
+	 * gone
+	 *
+	 * @param runs the run files to delete
+	 */
+	private void deleteAll(ArrayBasedList<Path> runs) {
+		for (Path run : runs) {
+			try {
+				Files.deleteIfExists(run);
+			} catch (IOException e) {
+				run.toFile().deleteOnExit();
+			}
+		}
+	}
+
+	/**
+	 * A sorted run file being merged, ordered by its current first student and
+	 * then by its position among the runs
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	private class Run implements Comparable<Run> {
+		/** Reads the remaining students of the run */
+		private BufferedReader reader;
+		/** The position of the run among the runs, used to break ties */
+		private int index;
+		/** The current first student of the run */
+		private Student head;
+
+		/**
+		 * Opens a run file for merging
+		 *
+		 * @param path  the run file
+		 * @param index the position of the run among the runs
+		 * @throws IOException if the file cannot be opened
+		 */
+		Run(Path path, int index) throws IOException {
+			this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+			this.index = index;
+		}
+
+		/**
+		 * Reads the next student of the run into head
+		 *
+		 * @return true if a student was read; false if the run is finished
+		 * @throws IOException if the file cannot be read
+		 */
+		boolean advance() throws IOException {
+			String line = reader.readLine();
+			head = line == null ? null : StudentReader.processLine(line);
+			return head != null;
+		}
+
+		/**
+		 * Closes the run file
+		 *
+		 * @throws IOException if the file cannot be closed
+		 */
+		void close() throws IOException {
+			reader.close();
+		}
+
+		/**
+		 * Compares runs by their first students, and then by their positions
+		 *
+		 * @param other the run to compare to
+		 * @return a negative number if this run's first student belongs first, a
+		 *         positive number if the other run's does, and 0 for the same run
+		 */
+		@Override
+		public int compareTo(Run other) {
+			int c = comparator.compare(head, other.head);
+			if (c != 0) {
+				return c;
+			}
+			return Integer.compare(index, other.index);
+		}
+	}
+}
@@ -0,0 +1,570 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * MappedStudentReader reads the same student CSV files as
+ * {@link StudentReader}, but much faster on large files. The file is memory
+ * mapped with {@link FileChannel#map} and scanned byte by byte for commas and
+ * line breaks; student IDs, GPAs, and credit hours are parsed directly from
+ * the mapped bytes, so the only objects created for each line are the Student
+ * and its three name Strings.
+ *
+ * For every well-formed file, {@link #readInputAsArray(String)} returns the
+ * same Students, with the same field values, as
+ * {@link StudentReader#readInputAsArray(String)}. Numbers that are not plain
+ * decimals, such as GPAs written with an exponent, are handed to
+ * {@link Integer#valueOf(String)} or {@link Double#valueOf(String)} so they are
+ * read, or rejected, exactly as StudentReader would.
+ *
+ * The file is split into chunks of whole lines, each mapped separately, so
+ * files of any size can be read. With a parallelism above 1, large files are
+ * split into at least that many chunks and loaded in two parallel passes: the
+ * first counts the lines of every chunk, which gives the exact size of the
+ * roster and the index of each chunk's first Student; the second parses every
+ * chunk straight into its part of the roster. The Students stay in file
+ * order, and the roster array is allocated once at its final size.
+ *
+ * {@link #stream(String)} reads the same Students lazily instead, for callers
+ * that only need to look at each Student once.
+ *
+ * A load can look first and last names up in a {@link NameDictionary}, so
+ * that every occurrence of a name shares one String. Unity IDs are not looked
+ * up, since each belongs to a single student.
+ *
+ * @author Jake Donovan
+ *
+ */
+public class MappedStudentReader {
+
+	/** The largest number of bytes in a chunk, apart from the end of its last line */
+	static final int DEFAULT_CHUNK_BYTES = 1 << 30;
+
+	/** The number of bytes a stream maps at a time, unless a line is longer */
+	static final int DEFAULT_WINDOW_BYTES = 1 << 26;
+
+	/** Files are only split between workers into chunks of at least this many bytes */
+	static final int MIN_PARALLEL_CHUNK_BYTES = 1 << 20;
+
+	/** The number of bytes read at a time while looking for the start of a chunk */
+	private static final int ALIGN_BUFFER_BYTES = 8192;
+
+	/** The largest number of digits that are always parsed exactly as a long */
+	private static final int MAX_FAST_DIGITS = 15;
+
+	/** The powers of ten that are exact doubles, for parsing decimal fractions */
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15 };
+
+	/**
+	 * MappedStudentReader only provides static behaviors
+	 */
+	private MappedStudentReader() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Returns the input CSV file as an array of Student objects, reading it on the
+	 * calling thread
+	 * @param filePath - the path to the input CSV file
+	 * @return an array of Student objects
+	 * @throws IllegalArgumentException if the file does not exist or a line does
+	 *                                  not have six fields
+	 * @throws UncheckedIOException     if the file cannot be read
+	 */
+	public static Student[] readInputAsArray(String filePath) {
+		return readInputAsArray(filePath, 1, null);
+	}
+
+	/**
+	 * Returns the input CSV file as an array of Student objects, splitting the
+	 * work between up to parallelism workers
+	 * @param filePath - the path to the input CSV file
+	 * @param parallelism - the number of chunks to split a large file into
+	 * @param pool - the ForkJoinPool used to run the workers; if null, the common
+	 *             pool is used
+	 * @return an array of Student objects
+	 * @throws IllegalArgumentException if parallelism is less than 1, the file
+	 *                                  does not exist, or a line does not have
+	 *                                  six fields
+	 * @throws UncheckedIOException     if the file cannot be read
+	 */
+	public static Student[] readInputAsArray(String filePath, int parallelism, ForkJoinPool pool) {
+		return readInputAsArray(filePath, parallelism, pool, null);
+	}
+
+	/**
+	 * Returns the input CSV file as an array of Student objects, splitting the
+	 * work between up to parallelism workers and sharing one String instance
+	 * between every occurrence of the same first or last name
+	 * @param filePath - the path to the input CSV file
+	 * @param parallelism - the number of chunks to split a large file into
+	 * @param pool - the ForkJoinPool used to run the workers; if null, the common
+	 *             pool is used
+	 * @param names - the dictionary that first and last names are looked up in;
+	 *              if null, every name is a new String
+	 * @return an array of Student objects
+	 * @throws IllegalArgumentException if parallelism is less than 1, the file
+	 *                                  does not exist, or a line does not have
+	 *                                  six fields
+	 * @throws UncheckedIOException     if the file cannot be read
+	 */
+	public static Student[] readInputAsArray(String filePath, int parallelism, ForkJoinPool pool,
+			NameDictionary names) {
+		return readInputAsArray(filePath, parallelism, pool, names, DEFAULT_CHUNK_BYTES);
+	}
+
+	/**
+	 * Returns the input CSV file as an array of Student objects, splitting the
+	 * file into chunks of about at most chunkBytes bytes
+	 * @param filePath - the path to the input CSV file
+	 * @param parallelism - the number of chunks to split a large file into
+	 * @param pool - the ForkJoinPool used to run the workers; if null, the common
+	 *             pool is used
+	 * @param names - the dictionary that first and last names are looked up in,
+	 *              or null
+	 * @param chunkBytes - the largest number of bytes in a chunk, apart from the
+	 *                   end of its last line
+	 * @return an array of Student objects
+	 */
+	static Student[] readInputAsArray(String filePath, int parallelism, ForkJoinPool pool, NameDictionary names,
+			int chunkBytes) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+		}
+		try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size == 0) {
+				throw new NoSuchElementException("No line found");
+			}
+			long first = lineStart(channel, 1, size); // SKIP HEADER LINE
+			long bytes = size - first;
+			int chunks = (int) Math.max((bytes + chunkBytes - 1) / chunkBytes,
+					Math.min(parallelism, bytes / MIN_PARALLEL_CHUNK_BYTES));
+			long[] starts = new long[chunks + 1];
+			starts[0] = first;
+			starts[chunks] = size;
+			for (int c = 1; c < chunks; c++) {
+				starts[c] = Math.max(starts[c - 1], lineStart(channel, first + bytes * c / chunks, size));
+			}
+
+			ByteBuffer[] buffers = new ByteBuffer[chunks];
+			int[] offsets = new int[chunks + 1];
+			forEachChunk(chunks, pool, c -> {
+				long length = starts[c + 1] - starts[c];
+				if (length > Integer.MAX_VALUE) {
+					throw new IllegalArgumentException("Line at byte " + starts[c] + " is longer than 2 GB");
+				}
+				try {
+					buffers[c] = channel.map(FileChannel.MapMode.READ_ONLY, starts[c], length);
+				} catch (IOException e) {
+					throw new UncheckedIOException("Unable to read file: " + filePath, e);
+				}
+				offsets[c + 1] = countLines(buffers[c]);
+			});
+			long total = 0;
+			for (int c = 0; c < chunks; c++) {
+				total += offsets[c + 1];
+				if (total > Integer.MAX_VALUE - 8) {
+					throw new IllegalArgumentException("File has too many students for an array: " + filePath);
+				}
+				offsets[c + 1] = (int) total;
+			}
+
+			Student[] list = new Student[(int) total];
+			forEachChunk(chunks, pool, c -> parseLines(buffers[c], list, offsets[c], names));
+			return list;
+		} catch (NoSuchFileException e) {
+			throw new IllegalArgumentException("File not found: " + e.getMessage());
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to read file: " + filePath, e);
+		}
+	}
+
+	/**
+	 * Returns a stream that parses the Students of the input CSV file lazily, in
+	 * file order, as they are consumed. Only a window of the file is mapped at a
+	 * time, so filtering or aggregating the stream uses memory that does not grow
+	 * with the file; a parallel stream splits the file between threads at line
+	 * boundaries. The stream holds the file open until it is closed, so it should
+	 * be used in a try-with-resources statement:
+	 *
+	 * <pre>
+	 * try (Stream&lt;Student&gt; students = MappedStudentReader.stream(path)) {
+	 *     double average = students.mapToDouble(Student::getGpa).average().orElse(0);
+	 * }
+	 * </pre>
+	 *
+	 * {@link Stream#iterator()} gives an Iterator over the same Students.
+	 * @param filePath - the path to the input CSV file
+	 * @return a stream of the Students in the file
+	 * @throws IllegalArgumentException if the file does not exist
+	 * @throws UncheckedIOException     if the file cannot be read
+	 */
+	public static Stream<Student> stream(String filePath) {
+		return stream(filePath, DEFAULT_WINDOW_BYTES);
+	}
+
+	/**
+	 * Returns a stream that parses the Students of the input CSV file lazily,
+	 * mapping windowBytes bytes of the file at a time
+	 * @param filePath - the path to the input CSV file
+	 * @param windowBytes - the number of bytes mapped at a time, unless a line is longer
+	 * @return a stream of the Students in the file
+	 */
+	static Stream<Student> stream(String filePath, int windowBytes) {
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+			long size = channel.size();
+			if (size == 0) {
+				throw new NoSuchElementException("No line found");
+			}
+			long first = lineStart(channel, 1, size); // SKIP HEADER LINE
+			FileChannel file = channel;
+			return StreamSupport.stream(new StudentSpliterator(channel, first, size, windowBytes), false)
+					.onClose(() -> {
+						try {
+							file.close();
+						} catch (IOException e) {
+							throw new UncheckedIOException("Unable to close file: " + filePath, e);
+						}
+					});
+		} catch (NoSuchFileException e) {
+			throw new IllegalArgumentException("File not found: " + e.getMessage());
+		} catch (IOException e) {
+			closeQuietly(channel);
+			throw new UncheckedIOException("Unable to read file: " + filePath, e);
+		} catch (RuntimeException e) {
+			closeQuietly(channel);
+			throw e;
+		}
+	}
+
+	/**
+	 * Closes a file after an error, ignoring any error closing it
+	 * @param channel - the file to close, or null if it was never opened
+	 */
+	private static void closeQuietly(FileChannel channel) {
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// The error that caused the close is the one reported
+			}
+		}
+	}
+
+	/**
+	 * Runs body once for each chunk index in [0, chunks), on the pool if there is
+	 * more than one chunk, and waits for all of them to finish
+	 * @param chunks - the number of chunks
+	 * @param pool - the pool that runs the chunks, or null for the common pool
+	 * @param body - the work for a single chunk index
+	 */
+	private static void forEachChunk(int chunks, ForkJoinPool pool, IntConsumer body) {
+		if (chunks == 1) {
+			body.accept(0);
+		} else if (chunks > 1) {
+			try {
+				(pool == null ? ForkJoinPool.commonPool() : pool).invoke(new ChunkTask(body, 0, chunks));
+			} catch (RuntimeException e) {
+				// An exception from another thread is rethrown as a copy whose cause is the original
+				if (e.getCause() != null && e.getCause().getClass() == e.getClass()) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Returns the position of the first line that starts at or after position
+	 * @param channel - the file
+	 * @param position - a position in the file, at least 1
+	 * @param size - the size of the file
+	 * @return the position of the first line start at or after position, or size
+	 *         if there is none
+	 * @throws IOException if the file cannot be read
+	 */
+	static long lineStart(FileChannel channel, long position, long size) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(ALIGN_BUFFER_BYTES);
+		// The byte before position decides whether position already starts a line
+		long p = position - 1;
+		boolean afterReturn = false;
+		while (p < size) {
+			buffer.clear();
+			int read = channel.read(buffer, p);
+			if (read <= 0) {
+				break;
+			}
+			for (int i = 0; i < read; i++, p++) {
+				byte b = buffer.get(i);
+				if (afterReturn) {
+					// A line starts after a lone '\r', or after the '\n' of "\r\n"
+					return b == '\n' ? p + 1 : p;
+				}
+				if (b == '\n' && p + 1 >= position) {
+					return p + 1;
+				}
+				afterReturn = b == '\r' && p + 1 >= position;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the number of lines in a chunk of whole lines, where only the last
+	 * line of the file may be missing its line break
+	 * @param buffer - the bytes of the chunk
+	 * @return the number of lines
+	 */
+	static int countLines(ByteBuffer buffer) {
+		int length = buffer.limit();
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			byte b = buffer.get(i);
+			if (b == '\r' || b == '\n' && (i == 0 || buffer.get(i - 1) != '\r')) {
+				count++;
+			}
+		}
+		if (length > 0 && buffer.get(length - 1) != '\n' && buffer.get(length - 1) != '\r') {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Parses every line of a chunk of whole lines into consecutive elements of list
+	 * @param buffer - the bytes of the chunk
+	 * @param list - the array the Students are stored in
+	 * @param index - the index of the chunk's first Student
+	 * @param names - the dictionary that first and last names are looked up in, or null
+	 */
+	private static void parseLines(ByteBuffer buffer, Student[] list, int index, NameDictionary names) {
+		int length = buffer.limit();
+		int start = 0;
+		while (start < length) {
+			int end = lineEnd(buffer, start, length);
+			int next = end + 1;
+			if (end < length - 1 && buffer.get(end) == '\r' && buffer.get(next) == '\n') {
+				next++;
+			}
+			list[index] = parseLine(buffer, start, end, names);
+			index++;
+			start = next;
+		}
+	}
+
+	/**
+	 * Returns the index of the first line break at or after from
+	 * @param buffer - the bytes to search
+	 * @param from - the index to start searching at
+	 * @param to - the index to stop searching at
+	 * @return the index of the first '\n' or '\r', or to if there is none
+	 */
+	static int lineEnd(ByteBuffer buffer, int from, int to) {
+		for (int i = from; i < to; i++) {
+			byte b = buffer.get(i);
+			if (b == '\n' || b == '\r') {
+				return i;
+			}
+		}
+		return to;
+	}
+
+	/**
+	 * Returns the index of the first comma at or after from
+	 * @param buffer - the bytes to search
+	 * @param from - the index to start searching at
+	 * @param to - the index to stop searching at
+	 * @return the index of the first comma, or to if there is none
+	 */
+	private static int fieldEnd(ByteBuffer buffer, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (buffer.get(i) == ',') {
+				return i;
+			}
+		}
+		return to;
+	}
+
+	/**
+	 * Parses a single line of the input file to construct a Student.
+	 * @param buffer - the bytes of the input file
+	 * @param from - the index of the first byte of the line
+	 * @param to - the index just past the last byte of the line, not including the line break
+	 * @param names - the dictionary that first and last names are looked up in, or null
+	 * @return a Student representation of the line
+	 * @throws IllegalArgumentException if the line does not have six fields
+	 */
+	static Student parseLine(ByteBuffer buffer, int from, int to, NameDictionary names) {
+		int[] ends = new int[6];
+		int start = from;
+		for (int field = 0; field < ends.length; field++) {
+			if (start > to) {
+				throw new IllegalArgumentException("Student line must have 6 fields: " + text(buffer, from, to));
+			}
+			ends[field] = fieldEnd(buffer, start, to);
+			start = ends[field] + 1;
+		}
+		String first;
+		String last;
+		if (names == null) {
+			first = text(buffer, from, ends[0]);
+			last = text(buffer, ends[0] + 1, ends[1]);
+		} else {
+			first = names.intern(buffer, from, ends[0]);
+			last = names.intern(buffer, ends[0] + 1, ends[1]);
+		}
+		String unityID = text(buffer, ends[1] + 1, ends[2]);
+		int id = parseInt(buffer, ends[2] + 1, ends[3]);
+		double gpa = parseDouble(buffer, ends[3] + 1, ends[4]);
+		int creditHours = parseInt(buffer, ends[4] + 1, ends[5]);
+		return new Student(first, last, id, creditHours, gpa, unityID);
+	}
+
+	/**
+	 * Decodes a field as UTF-8 text
+	 * @param buffer - the bytes of the input file
+	 * @param from - the index of the first byte of the field
+	 * @param to - the index just past the last byte of the field
+	 * @return the text of the field
+	 */
+	private static String text(ByteBuffer buffer, int from, int to) {
+		byte[] bytes = new byte[to - from];
+		buffer.get(from, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Parses a field as an int, reading up to nine digits, with an optional sign,
+	 * directly from the bytes
+	 * @param buffer - the bytes of the input file
+	 * @param from - the index of the first byte of the field
+	 * @param to - the index just past the last byte of the field
+	 * @return the value of the field
+	 * @throws NumberFormatException if the field is not an int
+	 */
+	static int parseInt(ByteBuffer buffer, int from, int to) {
+		int i = from;
+		boolean negative = false;
+		if (i < to && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+			negative = buffer.get(i) == '-';
+			i++;
+		}
+		if (i == to || to - i > 9) {
+			return Integer.valueOf(text(buffer, from, to));
+		}
+		int value = 0;
+		for (; i < to; i++) {
+			int digit = buffer.get(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return Integer.valueOf(text(buffer, from, to));
+			}
+			value = value * 10 + digit;
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Parses a field as a double, reading plain decimals such as "3.25" with up to
+	 * fifteen digits directly from the bytes. Because the digits and the power of
+	 * ten are both exact doubles, their quotient is the correctly rounded value,
+	 * the same one {@link Double#valueOf(String)} returns.
+	 * @param buffer - the bytes of the input file
+	 * @param from - the index of the first byte of the field
+	 * @param to - the index just past the last byte of the field
+	 * @return the value of the field
+	 * @throws NumberFormatException if the field is not a double
+	 */
+	static double parseDouble(ByteBuffer buffer, int from, int to) {
+		int i = from;
+		boolean negative = false;
+		if (i < to && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+			negative = buffer.get(i) == '-';
+			i++;
+		}
+		long digits = 0;
+		int count = 0;
+		int decimals = -1;
+		for (; i < to; i++) {
+			byte b = buffer.get(i);
+			if (b == '.' && decimals < 0) {
+				decimals = 0;
+			} else if (b >= '0' && b <= '9' && count < MAX_FAST_DIGITS) {
+				digits = digits * 10 + (b - '0');
+				count++;
+				if (decimals >= 0) {
+					decimals++;
+				}
+			} else {
+				return Double.valueOf(text(buffer, from, to));
+			}
+		}
+		if (count == 0) {
+			return Double.valueOf(text(buffer, from, to));
+		}
+		double value = decimals > 0 ? digits / POWERS_OF_TEN[decimals] : digits;
+		return negative ? -value : value;
+	}
+
+	/**
+	 * A fork/join task that runs one body per chunk index in its range, splitting
+	 * the range in half until a single index remains
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	private static class ChunkTask extends RecursiveAction {
+		/** Serial version UID required by RecursiveAction */
+		private static final long serialVersionUID = 1L;
+		/** The work for a single chunk index */
+		private IntConsumer body;
+		/** The first chunk index */
+		private int low;
+		/** One past the last chunk index */
+		private int high;
+
+		/**
+		 * Constructs a task that runs body for every chunk index in [low, high)
+		 *
+		 * @param body the work for a single chunk index
+		 * @param low  the first chunk index
+		 * @param high one past the last chunk index
+		 */
+		ChunkTask(IntConsumer body, int low, int high) {
+			this.body = body;
+			this.low = low;
+			this.high = high;
+		}
+
+		/**
+		 * Runs a single chunk, or splits the range of chunks in half
+		 */
+		@Override
+		protected void compute() {
+			if (high - low == 1) {
+				body.accept(low);
+				return;
+			}
+			int mid = (low + high) >>> 1;
+			invokeAll(new ChunkTask(body, low, mid), new ChunkTask(body, mid, high));
+		}
+	}
+}
@@ -0,0 +1,214 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * NameDictionary canonicalizes the names read while a roster is loaded, so
+ * that every occurrence of the same name shares one String instance. Shared
+ * instances shrink the heap a large roster retains, and let equals and
+ * compareTo on equal names return as soon as they see the same reference.
+ *
+ * Names can be looked up straight from the UTF-8 bytes of a file: an ASCII
+ * name that is already in the dictionary is found without creating a String
+ * for it, so a repeated name costs a hash and a byte comparison instead of an
+ * allocation. A dictionary may be shared by several threads, such as the
+ * workers of a parallel load, and records how many lookups it served so that
+ * {@link #getDeduplicationRatio()} can report how much sharing it achieved.
+ *
+ * @author Jake Donovan
+ *
+ */
+public class NameDictionary {
+
+	/** The canonical instance of every name, mapped to itself */
+	private final Map<String, String> names;
+
+	/** The number of names looked up */
+	private final LongAdder lookups;
+
+	/**
+	 * Constructs an empty NameDictionary
+	 */
+	public NameDictionary() {
+		names = new ConcurrentHashMap<String, String>();
+		lookups = new LongAdder();
+	}
+
+	/**
+	 * Returns the canonical instance of a name
+	 *
+	 * @param name the name to look up
+	 * @return the instance equal to name that was looked up first, or null if
+	 *         name is null
+	 */
+	public String intern(String name) {
+		if (name == null) {
+			return null;
+		}
+		lookups.increment();
+		String canonical = names.putIfAbsent(name, name);
+		return canonical == null ? name : canonical;
+	}
+
+	/**
+	 * Returns the canonical instance of the name stored as UTF-8 bytes in
+	 * buffer[from, to), creating a String only if the name is not ASCII or is
+	 * not in the dictionary yet
+	 *
+	 * @param buffer the bytes holding the name
+	 * @param from   the index of the first byte of the name
+	 * @param to     the index just past the last byte of the name
+	 * @return the canonical instance of the name
+	 */
+	public String intern(ByteBuffer buffer, int from, int to) {
+		int hash = 0;
+		for (int i = from; i < to; i++) {
+			byte b = buffer.get(i);
+			if (b < 0) {
+				// Not ASCII, so the String's chars are not its bytes
+				return intern(decode(buffer, from, to));
+			}
+			hash = 31 * hash + b;
+		}
+		// ConcurrentHashMap compares the probe to the stored Strings with probe.equals
+		@SuppressWarnings("unlikely-arg-type")
+		String canonical = names.get(new AsciiKey(buffer, from, to, hash));
+		if (canonical != null) {
+			lookups.increment();
+			return canonical;
+		}
+		return intern(decode(buffer, from, to));
+	}
+
+	/**
+	 * Decodes UTF-8 bytes as a String
+	 *
+	 * @param buffer the bytes holding the String
+	 * @param from   the index of the first byte
+	 * @param to     the index just past the last byte
+	 * @return the decoded String
+	 */
+	private static String decode(ByteBuffer buffer, int from, int to) {
+		byte[] bytes = new byte[to - from];
+		buffer.get(from, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the number of distinct names in the dictionary
+	 *
+	 * @return the number of distinct names
+	 */
+	public int size() {
+		return names.size();
+	}
+
+	/**
+	 * Returns the number of names looked up, which is the number of Strings a
+	 * load would have created without the dictionary
+	 *
+	 * @return the number of names looked up
+	 */
+	public long getLookups() {
+		return lookups.sum();
+	}
+
+	/**
+	 * Returns the number of names looked up for each distinct name kept, so a
+	 * ratio of 20 means the dictionary holds one String where there would have
+	 * been 20
+	 *
+	 * @return the deduplication ratio, or 1 if nothing was looked up
+	 */
+	public double getDeduplicationRatio() {
+		int size = size();
+		return size == 0 ? 1 : (double) getLookups() / size;
+	}
+
+	/**
+	 * Returns the lookups, distinct names, and deduplication ratio on one line
+	 *
+	 * @return a String representation of this NameDictionary
+	 */
+	@Override
+	public String toString() {
+		return String.format("lookups=%d distinct=%d ratio=%.2f", getLookups(), size(), getDeduplicationRatio());
+	}
+
+	/**
+	 * AsciiKey finds an ASCII name in the dictionary without creating a String.
+	 * Its hash code is the one {@link String#hashCode()} computes for the same
+	 * characters, and it is equal to a String with the same characters, so a
+	 * lookup with it finds the stored String. It is only used for lookups, never
+	 * stored.
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	private static class AsciiKey {
+
+		/** The bytes holding the name */
+		private ByteBuffer buffer;
+
+		/** The index of the first byte of the name */
+		private int from;
+
+		/** The index just past the last byte of the name */
+		private int to;
+
+		/** The String hash code of the name */
+		private int hash;
+
+		/**
+		 * Constructs an AsciiKey
+		 *
+		 * @param buffer the bytes holding the name, all of them ASCII
+		 * @param from   the index of the first byte of the name
+		 * @param to     the index just past the last byte of the name
+		 * @param hash   the String hash code of the name
+		 */
+		AsciiKey(ByteBuffer buffer, int from, int to, int hash) {
+			this.buffer = buffer;
+			this.from = from;
+			this.to = to;
+			this.hash = hash;
+		}
+
+		/**
+		 * Returns the String hash code of the name
+		 *
+		 * @return the hash code
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		/**
+		 * Returns true if obj is a String with the same characters as the name
+		 *
+		 * @param obj the stored String to compare with
+		 * @return true if obj spells the name
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof String)) {
+				return false;
+			}
+			String s = (String) obj;
+			if (s.length() != to - from) {
+				return false;
+			}
+			for (int i = 0; i < s.length(); i++) {
+				if (s.charAt(i) != buffer.get(from + i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * StudentSpliterator parses the Students of a range of whole lines of a
+ * student CSV file one at a time, as they are requested. Only a window of the
+ * range is memory mapped at a time, and the window slides forward as lines are
+ * parsed, so the memory used does not depend on the size of the file.
+ *
+ * {@link #trySplit()} splits the remaining range at the line start nearest its
+ * middle, so parallel streams parse different parts of the file on different
+ * threads. As {@link Spliterator#ORDERED} requires, the spliterator that is
+ * split off covers the earlier half, and this one keeps the later half.
+ *
+ * The spliterators do not close the file; see
+ * {@link MappedStudentReader#stream(String)}.
+ *
+ * @author Jake Donovan
+ *
+ */
+class StudentSpliterator implements Spliterator<Student> {
+
+	/** Ranges smaller than this are not split */
+	static final int MIN_SPLIT_BYTES = 1 << 16;
+
+	/** The file being read, shared by every spliterator split from this one */
+	private FileChannel channel;
+
+	/** The position of the next line to parse */
+	private long position;
+
+	/** The position just past the last line of this spliterator's range */
+	private long end;
+
+	/** The number of bytes mapped at a time, unless a line is longer */
+	private int windowBytes;
+
+	/** The mapped window, or null before the first line is parsed */
+	private ByteBuffer window;
+
+	/** The position in the file of the first byte of the window */
+	private long windowStart;
+
+	/**
+	 * Constructs a StudentSpliterator over a range of whole lines
+	 *
+	 * @param channel     the file being read
+	 * @param position    the position of the first line of the range
+	 * @param end         the position just past the last line of the range
+	 * @param windowBytes the number of bytes mapped at a time
+	 */
+	StudentSpliterator(FileChannel channel, long position, long end, int windowBytes) {
+		this.channel = channel;
+		this.position = position;
+		this.end = end;
+		this.windowBytes = windowBytes;
+	}
+
+	/**
+	 * Parses the next Student in the range and passes it to action
+	 *
+	 * @param action the action to perform on the next Student
+	 * @return true if there was a next Student
+	 * @throws IllegalArgumentException if the line does not have six fields
+	 * @throws UncheckedIOException     if the file cannot be read
+	 */
+	@Override
+	public boolean tryAdvance(Consumer<? super Student> action) {
+		if (position >= end) {
+			return false;
+		}
+		int limit = window == null ? 0 : (int) Math.min(window.limit(), end - windowStart);
+		// After a split, the next line may be far past the window
+		boolean inWindow = position - windowStart < limit;
+		int from = inWindow ? (int) (position - windowStart) : 0;
+		int lineEnd = inWindow ? MappedStudentReader.lineEnd(window, from, limit) : limit;
+		int length = windowBytes;
+		// Remap when the window does not hold the whole line and the "\r\n" that may end it
+		while (lineEnd >= limit - 1 && windowStart + limit < end) {
+			map(length);
+			from = 0;
+			limit = (int) Math.min(window.limit(), end - windowStart);
+			lineEnd = MappedStudentReader.lineEnd(window, from, limit);
+			length = (int) Math.min(2L * length, Integer.MAX_VALUE);
+		}
+		int next = lineEnd + 1;
+		if (lineEnd < limit - 1 && window.get(lineEnd) == '\r' && window.get(next) == '\n') {
+			next++;
+		}
+		Student student = MappedStudentReader.parseLine(window, from, lineEnd, null);
+		position = windowStart + Math.min(next, limit);
+		action.accept(student);
+		return true;
+	}
+
+	/**
+	 * Maps a window of the file starting at the next line
+	 *
+	 * @param length the number of bytes to map, if the range is that long
+	 * @throws UncheckedIOException if the file cannot be mapped
+	 */
+	private void map(int length) {
+		try {
+			windowStart = position;
+			window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(length, end - position));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Splits off the earlier half of the remaining lines
+	 *
+	 * @return a spliterator over the earlier half, or null if the remaining range
+	 *         is too small to split
+	 * @throws UncheckedIOException if the file cannot be read
+	 */
+	@Override
+	public Spliterator<Student> trySplit() {
+		if (end - position < MIN_SPLIT_BYTES) {
+			return null;
+		}
+		try {
+			long middle = MappedStudentReader.lineStart(channel, position + (end - position) / 2, end);
+			if (middle >= end) {
+				return null;
+			}
+			StudentSpliterator earlier = new StudentSpliterator(channel, position, middle, windowBytes);
+			position = middle;
+			return earlier;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Returns the number of bytes left in the range, which is more than the
+	 * number of Students left
+	 *
+	 * @return the number of bytes left
+	 */
+	@Override
+	public long estimateSize() {
+		return end - position;
+	}
+
+	/**
+	 * Returns the characteristics of the spliterator: the Students are ordered
+	 * and never null
+	 *
+	 * @return {@link Spliterator#ORDERED} and {@link Spliterator#NONNULL}
+	 */
+	@Override
+	public int characteristics() {
+		return ORDERED | NONNULL;
+	}
+}
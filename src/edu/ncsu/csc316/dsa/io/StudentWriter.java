@@ -0,0 +1,67 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * StudentWriter writes student information to CSV files in the same format
+ * that {@link StudentReader} reads:
+ *
+ *    FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS
+ *
+ * @author Jake Donovan
+ *
+ */
+public class StudentWriter {
+
+	/** The header line of a student CSV file */
+	public static final String HEADER = "FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS";
+
+	/**
+	 * Writes an array of Student objects to a CSV file, header line first
+	 * @param filePath - the path to the output CSV file
+	 * @param roster - the students to write, in order
+	 */
+	public static void writeOutputFromArray(String filePath, Student[] roster)
+	{
+		try(BufferedWriter writer = Files.newBufferedWriter(Paths.get(filePath), StandardCharsets.UTF_8))
+		{
+			writer.write(HEADER);
+			writer.newLine();
+			for(Student s : roster)
+			{
+				writeLine(writer, s);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to write file: " + filePath, e);
+		}
+	}
+
+	/**
+	 * Writes a single Student as one line of a CSV file
+	 * @param writer - the writer to write the line to
+	 * @param s - the student to write
+	 * @throws IOException if the line cannot be written
+	 */
+	static void writeLine(BufferedWriter writer, Student s) throws IOException {
+		writer.write(formatLine(s));
+		writer.newLine();
+	}
+
+	/**
+	 * Returns the CSV line for a single Student, which {@link StudentReader} reads
+	 * back into an equal Student
+	 * @param s - the student to format
+	 * @return the CSV representation of the student, without a line separator
+	 */
+	static String formatLine(Student s) {
+		return s.getFirst() + "," + s.getLast() + "," + s.getUnityID() + "," + s.getId() + ","
+				+ s.getGpa() + "," + s.getCreditHours();
+	}
+}
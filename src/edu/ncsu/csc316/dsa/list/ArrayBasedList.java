@@ -1,6 +1,7 @@
 package edu.ncsu.csc316.dsa.list;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -125,6 +126,16 @@ public class ArrayBasedList<E> extends AbstractList<E> {
 		return size;
 	}
 	
+	/**
+	 * Sorts the elements directly in the backing array, without copying them
+	 * out of the list and back. Equal elements keep their current order.
+	 * @param comparator the Comparator that orders the elements, or null to sort by natural ordering
+	 */
+	@Override
+	public void sort(Comparator<? super E> comparator) {
+		Arrays.sort(data, 0, size, comparator);
+	}
+	
 	/**
 	 * Returns the element iterator that iterates through all elements in list
 	 * @return ElementIterator the element iterator
@@ -1,5 +1,7 @@
 package edu.ncsu.csc316.dsa.list;
 
+import java.util.Comparator;
+
 /**
  * The List abstract data type represents an index-based list, where n elements
  * in the list are ordered from index 0 through index n.
@@ -118,4 +120,15 @@ public interface List<E> extends Iterable<E> {
      * @return the number of elements in the list
      */
     int size();
+
+    /**
+     * Sorts the elements of the list in place into the order defined by the
+     * comparator. The sort is stable, so equal elements keep their current order.
+     * 
+     * @param comparator the Comparator that orders the elements, or null to sort
+     *                   by the elements' natural ordering
+     * @throws ClassCastException if comparator is null and the elements are not
+     *                            {@link Comparable}
+     */
+    void sort(Comparator<? super E> comparator);
 }
@@ -1,5 +1,6 @@
 package edu.ncsu.csc316.dsa.list;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -249,6 +250,142 @@ public class SinglyLinkedList<E> extends AbstractList<E> {
     	}
     }
     
+    /**
+     * Sorts the list with a bottom-up merge sort that relinks the existing nodes,
+     * so it runs in O(nlogn) time with O(1) extra space. Each pass merges
+     * neighboring sorted sublists of width 1, 2, 4, ... until one remains. Ties are
+     * taken from the left sublist, so equal elements keep their current order.
+     * If the comparator throws, the exception is rethrown after the nodes are
+     * linked back into one list, so no element is lost, but the order of the
+     * elements is unspecified.
+     * @param comparator the Comparator that orders the elements, or null to sort by natural ordering
+     * @throws ClassCastException if comparator is null and an element is not Comparable;
+     *         the list is left unchanged
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+    	if(size() < 2) {
+    		return;
+    	}
+    	if(comparator == null) {
+    		for(LinkedListNode<E> node = front.next; node != null; node = node.next) {
+    			checkComparable(node.data);
+    		}
+    	}
+    	
+    	for(int width = 1; width < size(); width *= 2) {
+    		LinkedListNode<E> merged = front;
+    		LinkedListNode<E> current = front.next;
+    		while(current != null) {
+    			LinkedListNode<E> left = current;
+    			LinkedListNode<E> right = split(left, width);
+    			current = split(right, width);
+    			try {
+    				merged = merge(left, right, merged, comparator);
+    			} catch(RuntimeException e) {
+    				// merge() relinked its own chains after merged; link the unmerged rest too
+    				tail = append(merged, current);
+    				throw e;
+    			}
+    		}
+    		tail = merged;
+    	}
+    }
+    
+    /**
+     * Links a chain of nodes after the last node of the chain starting at node
+     * @param node a node of the chain to extend
+     * @param chain the first node of the chain to link, or null
+     * @return the last node of the combined chain
+     */
+    private LinkedListNode<E> append(LinkedListNode<E> node, LinkedListNode<E> chain) {
+    	LinkedListNode<E> last = node;
+    	while(last.next != null) {
+    		last = last.next;
+    	}
+    	last.next = chain;
+    	while(last.next != null) {
+    		last = last.next;
+    	}
+    	return last;
+    }
+    
+    /**
+     * Checks that an element can be sorted by natural ordering
+     * @param element the element to check
+     * @throws ClassCastException if element is not null and not Comparable
+     */
+    private void checkComparable(E element) {
+    	if(element != null && !(element instanceof Comparable)) {
+    		throw new ClassCastException(element.getClass().getName() + " cannot be cast to " + Comparable.class.getName());
+    	}
+    }
+    
+    /**
+     * Cuts the chain of nodes starting at node after its first count nodes
+     * @param node the first node of the chain, or null
+     * @param count the number of nodes to keep in the chain
+     * @return the first node after the cut, or null if the chain had at most count nodes
+     */
+    private LinkedListNode<E> split(LinkedListNode<E> node, int count) {
+    	LinkedListNode<E> current = node;
+    	for(int i = 1; current != null && i < count; i++) {
+    		current = current.next;
+    	}
+    	if(current == null) {
+    		return null;
+    	}
+    	LinkedListNode<E> rest = current.next;
+    	current.next = null;
+    	return rest;
+    }
+    
+    /**
+     * Merges two sorted chains of nodes and links the result after a given node
+     * @param left the first node of the left chain
+     * @param right the first node of the right chain, or null
+     * @param previous the node that the merged chain is linked after
+     * @param comparator the Comparator that orders the elements, or null for natural ordering
+     * @return the last node of the merged chain
+     */
+    private LinkedListNode<E> merge(LinkedListNode<E> left, LinkedListNode<E> right, LinkedListNode<E> previous, Comparator<? super E> comparator) {
+    	LinkedListNode<E> last = previous;
+    	LinkedListNode<E> a = left;
+    	LinkedListNode<E> b = right;
+    	try {
+    		while(a != null && b != null) {
+    			if(compare(b.data, a.data, comparator) < 0) {
+    				last.next = b;
+    				b = b.next;
+    			} else {
+    				last.next = a;
+    				a = a.next;
+    			}
+    			last = last.next;
+    		}
+    	} finally {
+    		// Link what is left of both chains, even if the comparator threw
+    		last.next = null;
+    		last = append(append(last, a), b);
+    	}
+    	return last;
+    }
+    
+    /**
+     * Compares two elements with a Comparator, or by natural ordering if there is none
+     * @param one the first element
+     * @param two the second element
+     * @param comparator the Comparator to use, or null for natural ordering
+     * @return a negative number, zero, or a positive number as one is less than, equal to, or greater than two
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(E one, E two, Comparator<? super E> comparator) {
+    	if(comparator == null) {
+    		return ((Comparable<? super E>) one).compareTo(two);
+    	}
+    	return comparator.compare(one, two);
+    }
+    
     /**
      * Returns a new ElementIterator that iterates through the lists contents
      * @return ElementIterator the ElementIterator
@@ -1,5 +1,6 @@
 package edu.ncsu.csc316.dsa.list.positional;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -257,6 +258,159 @@ public class PositionalLinkedList<E> implements PositionalList<E> {
 		return size;
 	}
 	
+	/**
+	 * Sorts the list with a bottom-up merge sort that relinks the existing nodes
+	 * instead of moving elements between them, so every Position stays valid and
+	 * keeps its element. The merge passes only follow the next links; the
+	 * previous links are repaired in one final pass. This runs in O(nlogn) time
+	 * with O(1) extra space, and ties are taken from the left sublist so equal
+	 * elements keep their current order. If the comparator throws, the
+	 * exception is rethrown after the nodes are linked back into one list, so
+	 * every Position stays valid, but the order of the elements is unspecified.
+	 * @param comparator the Comparator that orders the elements, or null to sort by natural ordering
+	 * @throws ClassCastException if comparator is null and an element is not Comparable;
+	 *         the list is left unchanged
+	 */
+	@Override
+	public void sort(Comparator<? super E> comparator) {
+		if(size < 2) {
+			return;
+		}
+		if(comparator == null) {
+			for(PositionalNode<E> node = front.getNext(); node != tail; node = node.getNext()) {
+				checkComparable(node.element);
+			}
+		}
+		
+		// Detach the end sentinel so the chain of nodes ends with null while merging
+		tail.getPrevious().setNext(null);
+		try {
+			for(int width = 1; width < size; width *= 2) {
+				PositionalNode<E> merged = front;
+				PositionalNode<E> current = front.getNext();
+				while(current != null) {
+					PositionalNode<E> left = current;
+					PositionalNode<E> right = split(left, width);
+					current = split(right, width);
+					try {
+						merged = merge(left, right, merged, comparator);
+					} catch(RuntimeException e) {
+						// merge() relinked its own chains after merged; link the unmerged rest too
+						append(merged, current);
+						throw e;
+					}
+				}
+			}
+		} finally {
+			PositionalNode<E> previous = front;
+			PositionalNode<E> current = front.getNext();
+			while(current != null) {
+				current.setPrevious(previous);
+				previous = current;
+				current = current.getNext();
+			}
+			previous.setNext(tail);
+			tail.setPrevious(previous);
+		}
+	}
+	
+	/**
+	 * Links a chain of nodes after the last node of the chain starting at node,
+	 * following only the next links
+	 * @param node a node of the chain to extend
+	 * @param chain the first node of the chain to link, or null
+	 * @return the last node of the combined chain
+	 */
+	private PositionalNode<E> append(PositionalNode<E> node, PositionalNode<E> chain) {
+		PositionalNode<E> last = node;
+		while(last.getNext() != null) {
+			last = last.getNext();
+		}
+		last.setNext(chain);
+		while(last.getNext() != null) {
+			last = last.getNext();
+		}
+		return last;
+	}
+	
+	/**
+	 * Checks that an element can be sorted by natural ordering
+	 * @param element the element to check
+	 * @throws ClassCastException if element is not null and not Comparable
+	 */
+	private void checkComparable(E element) {
+		if(element != null && !(element instanceof Comparable)) {
+			throw new ClassCastException(element.getClass().getName() + " cannot be cast to " + Comparable.class.getName());
+		}
+	}
+	
+	/**
+	 * Cuts the chain of nodes starting at node after its first count nodes
+	 * @param node the first node of the chain, or null
+	 * @param count the number of nodes to keep in the chain
+	 * @return the first node after the cut, or null if the chain had at most count nodes
+	 */
+	private PositionalNode<E> split(PositionalNode<E> node, int count) {
+		PositionalNode<E> current = node;
+		for(int i = 1; current != null && i < count; i++) {
+			current = current.getNext();
+		}
+		if(current == null) {
+			return null;
+		}
+		PositionalNode<E> rest = current.getNext();
+		current.setNext(null);
+		return rest;
+	}
+	
+	/**
+	 * Merges two sorted chains of nodes and links the result after a given node,
+	 * following only the next links
+	 * @param left the first node of the left chain
+	 * @param right the first node of the right chain, or null
+	 * @param previous the node that the merged chain is linked after
+	 * @param comparator the Comparator that orders the elements, or null for natural ordering
+	 * @return the last node of the merged chain
+	 */
+	private PositionalNode<E> merge(PositionalNode<E> left, PositionalNode<E> right, PositionalNode<E> previous, Comparator<? super E> comparator) {
+		PositionalNode<E> last = previous;
+		PositionalNode<E> a = left;
+		PositionalNode<E> b = right;
+		try {
+			while(a != null && b != null) {
+				// Read the elements directly, since getElement() rejects nodes whose next link is null
+				if(compare(b.element, a.element, comparator) < 0) {
+					last.setNext(b);
+					b = b.getNext();
+				} else {
+					last.setNext(a);
+					a = a.getNext();
+				}
+				last = last.getNext();
+			}
+		} finally {
+			// Link what is left of both chains, even if the comparator threw
+			last.setNext(null);
+			last = append(append(last, a), b);
+		}
+		return last;
+	}
+	
+	/**
+	 * Compares two elements with a Comparator, or by natural ordering if there is none
+	 * @param one the first element
+	 * @param two the second element
+	 * @param comparator the Comparator to use, or null for natural ordering
+	 * @return a negative number, zero, or a positive number as one is less than, equal to, or greater than two
+	 */
+	@SuppressWarnings("unchecked")
+	private int compare(E one, E two, Comparator<? super E> comparator) {
+		if(comparator == null) {
+			return ((Comparable<? super E>) one).compareTo(two);
+		}
+		return comparator.compare(one, two);
+	}
+	
 	/**
 	 * This private inner class in responsible for created positional nodes that will be used to cycle through element in the list
 	 * with a specified element and positional node that element will be connected to (or just element if setting a new element)
@@ -1,5 +1,7 @@
 package edu.ncsu.csc316.dsa.list.positional;
 
+import java.util.Comparator;
+
 import edu.ncsu.csc316.dsa.Position;
 
 /**
@@ -148,4 +150,17 @@ public interface PositionalList<E> extends Iterable<E> {
 	 * @return the number of elements in the list
 	 */
 	int size();
+
+	/**
+	 * Sorts the list into the order defined by the comparator by reordering its
+	 * positions. Every Position stays valid and keeps its element; only the order
+	 * of the positions changes. The sort is stable, so equal elements keep their
+	 * current order.
+	 * 
+	 * @param comparator the Comparator that orders the elements, or null to sort
+	 *                   by the elements' natural ordering
+	 * @throws ClassCastException if comparator is null and the elements are not
+	 *                            {@link Comparable}
+	 */
+	void sort(Comparator<? super E> comparator);
 }
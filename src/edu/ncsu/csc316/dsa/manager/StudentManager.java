@@ -1,13 +1,20 @@
 package edu.ncsu.csc316.dsa.manager;
 
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+
 import edu.ncsu.csc316.dsa.data.Student;
-import edu.ncsu.csc316.dsa.io.StudentReader;
-import edu.ncsu.csc316.dsa.sorter.InsertionSorter;
+import edu.ncsu.csc316.dsa.io.BinaryStudentReader;
+import edu.ncsu.csc316.dsa.io.MappedStudentReader;
+import edu.ncsu.csc316.dsa.io.NameDictionary;
+import edu.ncsu.csc316.dsa.sorter.AdaptiveStudentSorter;
+import edu.ncsu.csc316.dsa.sorter.SelectionUtil;
 import edu.ncsu.csc316.dsa.sorter.Sorter;
 
 /**
  * StudentManager manages Student information. StudentManager
- * can sort a Student roster.
+ * can sort a Student roster, and can answer order questions (such
+ * as the highest GPAs or the median ID) without sorting it.
  * @author Dr. King
  *
  */
@@ -24,24 +31,51 @@ public class StudentManager {
 	private Sorter<Student> sorter;
 	
 	/**
-	 * Initializes a StudentManager
+	 * The dictionary the roster's first and last names were shared through
+	 */
+	private NameDictionary names;
+	
+	/**
+	 * Initializes a StudentManager from a student CSV file or a binary roster
+	 * file. A CSV file is loaded in parallel by {@link MappedStudentReader}, with
+	 * one worker for each thread of the common pool; a binary roster file, written
+	 * by {@link edu.ncsu.csc316.dsa.io.BinaryStudentWriter}, is loaded by {@link BinaryStudentReader}.
+	 * Either way, every occurrence of the same first or last name shares one String
+	 * (see {@link #getNameDictionary()})
+	 * @param pathToFile - the path to the input student file
+	 * @param sorter - a reference to the sorting algorithm to use when sorting
+	 * @param binary - true if the input file is a binary roster file, or false if it is a CSV file
+	 */
+	public StudentManager(String pathToFile, Sorter<Student> sorter, boolean binary)
+	{
+		names = new NameDictionary();
+		if (binary) {
+			roster = BinaryStudentReader.readInputAsArray(pathToFile, names);
+		} else {
+			roster = MappedStudentReader.readInputAsArray(pathToFile, ForkJoinPool.getCommonPoolParallelism(), null,
+					names);
+		}
+		this.sorter = sorter;
+	}
+	
+	/**
+	 * Initializes a StudentManager from a student CSV file
 	 * @param pathToFile - the path to the input student CSV file
 	 * @param sorter - a reference to the sorting algorithm to use when sorting
 	 */
 	public StudentManager(String pathToFile, Sorter<Student> sorter)
 	{
-		roster = StudentReader.readInputAsArray(pathToFile);
-		this.sorter = sorter;
+		this(pathToFile, sorter, false);
 	}
 	
 	/**
-	 * Constructs a StudentManager
+	 * Constructs a StudentManager that picks a sorting algorithm to suit the
+	 * roster each time it sorts (see {@link AdaptiveStudentSorter})
 	 * @param pathToFile - the path to the input student CSV file
 	 */
 	public StudentManager(String pathToFile)
 	{
-		this(pathToFile, new InsertionSorter<Student>());
-		new InsertionSorter<Student>();
+		this(pathToFile, new AdaptiveStudentSorter());
 	}
 		
     /**
@@ -54,5 +88,46 @@ public class StudentManager {
 		sorter.sort(roster);
 		return roster;
 	}
+	
+	/**
+	 * Returns the first k Students of the roster in sorted order, without
+	 * sorting or changing the roster. For example, the k highest GPAs are the
+	 * first k Students ordered by {@link edu.ncsu.csc316.dsa.data.StudentGPAComparator}.
+	 *
+	 * @param k - the number of Students to return
+	 * @param comparator - the ordering to use; if null, Students' natural ordering is used
+	 * @return the first k Students (or every Student, if there are fewer than k)
+	 */
+	public Student[] topK(int k, Comparator<Student> comparator)
+	{
+		return SelectionUtil.topK(roster, k, comparator);
+	}
+	
+	/**
+	 * Returns the dictionary the roster's first and last names were loaded
+	 * through, which reports how many names were read and how many distinct
+	 * Strings the roster keeps for them
+	 *
+	 * @return the name dictionary of the roster
+	 */
+	public NameDictionary getNameDictionary()
+	{
+		return names;
+	}
+	
+	/**
+	 * Returns the Student that would be at the given index if the roster were
+	 * sorted. For example, the median ID is the Student of rank
+	 * (number of Students) / 2 ordered by {@link edu.ncsu.csc316.dsa.data.StudentIDComparator}.
+	 * The roster is partly reordered, but not sorted.
+	 *
+	 * @param rank - the index (0-based) of the Student in sorted order
+	 * @param comparator - the ordering to use; if null, Students' natural ordering is used
+	 * @return the Student with the given rank
+	 */
+	public Student select(int rank, Comparator<Student> comparator)
+	{
+		return SelectionUtil.select(roster, rank, comparator);
+	}
 
 }
@@ -0,0 +1,50 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+/**
+ * HeapIndex provides the index arithmetic for a binary heap stored in an array,
+ * where the root is at index 0 and the children of the entry at index i are at
+ * indexes 2i + 1 and 2i + 2. It is shared by {@link HeapPriorityQueue} and by
+ * the sorters that build heaps directly in the array being sorted.
+ *
+ * @author Jake Donovan
+ *
+ */
+public final class HeapIndex {
+
+	/**
+	 * HeapIndex only provides static behaviors
+	 */
+	private HeapIndex() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Returns the index of the parent of the entry at the given index
+	 *
+	 * @param index the index of the entry for which to return its parent
+	 * @return the index of the parent of the entry at the given index
+	 */
+	public static int parent(int index) {
+		return (index - 1) / 2;
+	}
+
+	/**
+	 * Returns the index of the left child of the entry at the given index
+	 *
+	 * @param index the index of the entry for which to return its left child
+	 * @return the index of the left child of the entry at the given index
+	 */
+	public static int left(int index) {
+		return 2 * index + 1;
+	}
+
+	/**
+	 * Returns the index of the right child of the entry at the given index
+	 *
+	 * @param index the index of the entry for which to return its right child
+	 * @return the index of the right child of the entry at the given index
+	 */
+	public static int right(int index) {
+		return 2 * index + 2;
+	}
+}
@@ -63,7 +63,7 @@ public class HeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPrior
      * @return the index of the parent of the entry at the given index
      */
     protected int parent(int index) {
-        return (index - 1) / 2;
+        return HeapIndex.parent(index);
     }
 
     /**
@@ -74,7 +74,7 @@ public class HeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPrior
      * @return the index of the left child of the entry at the given index
      */
     protected int left(int index) {
-        return 2 * index + 1;
+        return HeapIndex.left(index);
     }
 
     /**
@@ -85,7 +85,7 @@ public class HeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPrior
      * @return the index of the right child of the entry at the given index
      */
     protected int right(int index) {
-        return 2 * index + 2;
+        return HeapIndex.right(index);
     }
 
     /**
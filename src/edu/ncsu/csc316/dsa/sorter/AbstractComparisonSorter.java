@@ -13,6 +13,12 @@ public abstract class AbstractComparisonSorter<E extends Comparable<E>> implemen
 	/** A custom comparator used for sorting other than Natural Order */
     private Comparator<E> comparator;
     
+    /** The comparator called by compare(), which counts its calls when instrumentation is enabled */
+    private Comparator<E> activeComparator;
+    
+    /** The instrumentation that records the work done while sorting */
+    private SortInstrumentation instrumentation;
+    
     /**
      * Constructs a new Comparison sorter with a passed Comparator that will be used
      * @param comparator the comparator that will be used (Could be StudentGPA which sorts based on Student's
@@ -20,6 +26,8 @@ public abstract class AbstractComparisonSorter<E extends Comparable<E>> implemen
      */
     public AbstractComparisonSorter(Comparator<E> comparator) {
         setComparator(comparator);
+        this.activeComparator = this.comparator;
+        this.instrumentation = SortInstrumentation.DISABLED;
     }
     
     /**
@@ -34,6 +42,40 @@ public abstract class AbstractComparisonSorter<E extends Comparable<E>> implemen
         }
     }
     
+    /**
+     * Attaches instrumentation to this sorter. While it is enabled, every call to compare() is counted
+     * by a wrapper around the comparator, so a sorter without instrumentation calls its comparator directly.
+     * Subclasses that sort with other sorters must pass the instrumentation on to them.
+     * @param instrumentation the instrumentation to record into; if null, recording stops
+     */
+    @Override
+    public void setInstrumentation(SortInstrumentation instrumentation) {
+        if(instrumentation == null) {
+            this.instrumentation = SortInstrumentation.DISABLED;
+        } else {
+            this.instrumentation = instrumentation;
+        }
+        SortInstrumentation counter = this.instrumentation;
+        if(counter.isEnabled()) {
+            Comparator<E> base = comparator;
+            activeComparator = (first, second) -> {
+                counter.addComparisons(1);
+                return base.compare(first, second);
+            };
+        } else {
+            activeComparator = comparator;
+        }
+    }
+    
+    /**
+     * Returns the instrumentation attached to this sorter
+     * @return the attached instrumentation, or SortInstrumentation.DISABLED if there is none
+     */
+    @Override
+    public SortInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+    
     /**
      * Sorts a data object (a student for ex) in Natural ordering which is based on the classes'
      * compareTo() method specifications (aka how it wants to sort an object like a Student)
@@ -61,6 +103,6 @@ public abstract class AbstractComparisonSorter<E extends Comparable<E>> implemen
      * @return Integer the positioning (ordering) when comparing data 1 to data 2 (-1 = comes before data 2, 1 = after, 0 they have same priority)
      */
     public int compare(E data1, E data2) {
-        return comparator.compare(data1,  data2);
+        return activeComparator.compare(data1,  data2);
     }
 }
@@ -0,0 +1,434 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * AdaptiveStudentSorter looks at a sample of the Students before sorting them
+ * and hands the array to whichever sorter suits the data and the ordering:
+ *
+ * - small or already (nearly) sorted input, ascending or descending, goes to
+ * {@link RunMergeSorter}, which needs only n - 1 comparisons on sorted data;
+ * - ID ordering goes to {@link CountingSorter} when the IDs are dense, and to a
+ * byte {@link RadixSorter} when they are sparse;
+ * - input where many sampled Students are equal goes to {@link IntroSorter},
+ * whose three-way partitioning finishes each group of equal Students in one
+ * pass;
+ * - otherwise, the natural ordering goes to {@link StudentNameSorter}, GPA
+ * ordering to {@link GPABucketSorter}, and any other ordering to
+ * {@link IntroSorter}.
+ *
+ * The sample checks evenly spaced pairs of neighbors for presortedness and
+ * sorts a small evenly spaced sample to estimate the duplicate ratio; for ID
+ * ordering, one pass over the IDs finds their range. Each sort records what it
+ * saw, which sorter it chose, and how long the analysis and the sort took, as a
+ * {@link Decision} returned by {@link #getLastDecision()}.
+ *
+ * @author Jake Donovan
+ *
+ */
+public class AdaptiveStudentSorter implements Sorter<Student> {
+
+	/** The number of neighbor pairs, and of Students, examined by the sample */
+	public static final int SAMPLE_SIZE = 256;
+
+	/** The fraction of sampled neighbor pairs in order at which input counts as presorted */
+	public static final double PRESORTED_FRACTION = 0.9;
+
+	/** The fraction of equal neighbors in the sorted sample at which input counts as duplicate-heavy */
+	public static final double DUPLICATE_FRACTION = 0.5;
+
+	/**
+	 * The sorters that AdaptiveStudentSorter can choose between
+	 */
+	public enum Strategy {
+		/** RunMergeSorter, for small or presorted input */
+		RUN_MERGE,
+		/** CountingSorter, for ID ordering with dense IDs */
+		COUNTING,
+		/** RadixSorter over bytes, for ID ordering with sparse IDs */
+		RADIX,
+		/** IntroSorter, for duplicate-heavy input and other orderings */
+		INTRO,
+		/** StudentNameSorter, for the natural ordering */
+		NAME,
+		/** GPABucketSorter, for GPA ordering */
+		GPA_BUCKET
+	}
+
+	/** The ordering being sorted into, or null for the natural ordering */
+	private Comparator<Student> comparator;
+
+	/** Sorts small or presorted input, and compares Students during analysis */
+	private RunMergeSorter<Student> runMergeSorter;
+
+	/** Sorts by dense IDs */
+	private CountingSorter<Student> countingSorter;
+
+	/** Sorts by sparse IDs */
+	private RadixSorter<Student> radixSorter;
+
+	/** Sorts duplicate-heavy input and other orderings */
+	private IntroSorter<Student> introSorter;
+
+	/** Sorts into the natural ordering */
+	private StudentNameSorter nameSorter;
+
+	/** Sorts into GPA ordering */
+	private GPABucketSorter gpaSorter;
+
+	/** What the most recent sort saw and chose */
+	private Decision lastDecision;
+
+	/** The instrumentation shared with every sorter this sorter can choose */
+	private SortInstrumentation instrumentation;
+
+	/**
+	 * Constructs a new AdaptiveStudentSorter for an ordering, using several
+	 * workers when it sorts by ID
+	 *
+	 * @param comparator  the ordering to sort into; if null, Students' natural
+	 *                    ordering is used
+	 * @param parallelism the number of workers for counting and radix sort
+	 * @throws IllegalArgumentException if parallelism is less than 1
+	 */
+	public AdaptiveStudentSorter(Comparator<Student> comparator, int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+		}
+		this.comparator = comparator;
+		runMergeSorter = new RunMergeSorter<Student>(comparator);
+		countingSorter = new CountingSorter<Student>(parallelism);
+		radixSorter = new RadixSorter<Student>(RadixSorter.Radix.BYTE, parallelism);
+		introSorter = new IntroSorter<Student>(comparator);
+		nameSorter = new StudentNameSorter();
+		gpaSorter = new GPABucketSorter();
+		instrumentation = SortInstrumentation.DISABLED;
+	}
+
+	/**
+	 * Constructs a new AdaptiveStudentSorter for an ordering
+	 *
+	 * @param comparator the ordering to sort into; if null, Students' natural
+	 *                   ordering is used
+	 */
+	public AdaptiveStudentSorter(Comparator<Student> comparator) {
+		this(comparator, 1);
+	}
+
+	/**
+	 * Constructs a new AdaptiveStudentSorter for Students' natural ordering
+	 */
+	public AdaptiveStudentSorter() {
+		this(null);
+	}
+
+	/**
+	 * Attaches instrumentation to this sorter and to every sorter it can choose.
+	 * The time spent analyzing the input is recorded as the "analysis" phase.
+	 *
+	 * @param instrumentation the instrumentation to record into; if null, recording
+	 *                        stops
+	 */
+	@Override
+	public void setInstrumentation(SortInstrumentation instrumentation) {
+		if (instrumentation == null) {
+			this.instrumentation = SortInstrumentation.DISABLED;
+		} else {
+			this.instrumentation = instrumentation;
+		}
+		for (Strategy strategy : Strategy.values()) {
+			sorterFor(strategy).setInstrumentation(instrumentation);
+		}
+	}
+
+	/**
+	 * Returns the instrumentation attached to this sorter
+	 *
+	 * @return the attached instrumentation, or SortInstrumentation.DISABLED if
+	 *         there is none
+	 */
+	@Override
+	public SortInstrumentation getInstrumentation() {
+		return instrumentation;
+	}
+
+	/**
+	 * Analyzes a range of Students, then sorts it with the sorter that suits it
+	 *
+	 * @param data the array of Students that will be sorted
+	 * @param from the index of the first Student to sort
+	 * @param to   one past the index of the last Student to sort
+	 */
+	@Override
+	public void sort(Student[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		long start = System.nanoTime();
+		int n = to - from;
+		double sortedFraction = sortedFraction(data, from, to);
+		double duplicateRatio = Double.NaN;
+		double idDensity = Double.NaN;
+		Strategy strategy;
+		if (n < RunMergeSorter.MIN_MERGE || sortedFraction >= PRESORTED_FRACTION) {
+			strategy = Strategy.RUN_MERGE;
+		} else if (comparator instanceof StudentIDComparator) {
+			idDensity = idDensity(data, from, to);
+			strategy = idDensity * CountingSorter.MAX_RANGE_PER_ELEMENT >= 1 ? Strategy.COUNTING : Strategy.RADIX;
+		} else {
+			duplicateRatio = duplicateRatio(data, from, to);
+			if (duplicateRatio >= DUPLICATE_FRACTION) {
+				strategy = Strategy.INTRO;
+			} else if (comparator == null) {
+				strategy = Strategy.NAME;
+			} else if (comparator instanceof StudentGPAComparator) {
+				strategy = Strategy.GPA_BUCKET;
+			} else {
+				strategy = Strategy.INTRO;
+			}
+		}
+
+		instrumentation.endPhase("analysis", start);
+		long analyzed = System.nanoTime();
+		sorterFor(strategy).sort(data, from, to);
+		long sorted = System.nanoTime();
+		lastDecision = new Decision(strategy, n, sortedFraction, duplicateRatio, idDensity, analyzed - start,
+				sorted - analyzed);
+	}
+
+	/**
+	 * Returns what the most recent sort saw, which sorter it chose, and how long
+	 * it took
+	 *
+	 * @return the most recent Decision, or null if nothing has been sorted
+	 */
+	public Decision getLastDecision() {
+		return lastDecision;
+	}
+
+	/**
+	 * Returns the sorter for a strategy
+	 *
+	 * @param strategy the chosen strategy
+	 * @return the sorter that carries out the strategy
+	 */
+	private Sorter<Student> sorterFor(Strategy strategy) {
+		switch (strategy) {
+		case COUNTING:
+			return countingSorter;
+		case RADIX:
+			return radixSorter;
+		case INTRO:
+			return introSorter;
+		case NAME:
+			return nameSorter;
+		case GPA_BUCKET:
+			return gpaSorter;
+		default:
+			return runMergeSorter;
+		}
+	}
+
+	/**
+	 * Returns the fraction of evenly spaced neighbor pairs that are in order,
+	 * counting ascending and strictly descending pairs separately and taking the
+	 * larger, since RunMergeSorter handles both directions
+	 *
+	 * @param data the array of Students
+	 * @param from the index of the first Student
+	 * @param to   one past the index of the last Student
+	 * @return the fraction of sampled pairs in the more common direction, or 1 if
+	 *         there are no pairs
+	 */
+	private double sortedFraction(Student[] data, int from, int to) {
+		int pairs = to - from - 1;
+		if (pairs < 1) {
+			return 1;
+		}
+		int samples = Math.min(pairs, SAMPLE_SIZE);
+		int ascending = 0;
+		int descending = 0;
+		for (int s = 0; s < samples; s++) {
+			int i = from + (int) ((long) pairs * s / samples);
+			if (runMergeSorter.compare(data[i], data[i + 1]) <= 0) {
+				ascending++;
+			} else {
+				descending++;
+			}
+		}
+		return (double) Math.max(ascending, descending) / samples;
+	}
+
+	/**
+	 * Returns the fraction of neighbors that are equal once an evenly spaced
+	 * sample is sorted
+	 *
+	 * @param data the array of Students
+	 * @param from the index of the first Student
+	 * @param to   one past the index of the last Student
+	 * @return the fraction of equal neighbors in the sorted sample
+	 */
+	private double duplicateRatio(Student[] data, int from, int to) {
+		int n = to - from;
+		int samples = Math.min(n, SAMPLE_SIZE);
+		Student[] sample = new Student[samples];
+		for (int s = 0; s < samples; s++) {
+			sample[s] = data[from + (int) ((long) n * s / samples)];
+		}
+		runMergeSorter.sort(sample);
+		int equal = 0;
+		for (int s = 1; s < samples; s++) {
+			if (runMergeSorter.compare(sample[s - 1], sample[s]) == 0) {
+				equal++;
+			}
+		}
+		return (double) equal / (samples - 1);
+	}
+
+	/**
+	 * Returns the number of Students divided by the number of IDs between the
+	 * smallest and largest ID, inclusive
+	 *
+	 * @param data the array of Students
+	 * @param from the index of the first Student
+	 * @param to   one past the index of the last Student
+	 * @return the density of the IDs
+	 */
+	private static double idDensity(Student[] data, int from, int to) {
+		int min = data[from].getId();
+		int max = min;
+		for (int i = from + 1; i < to; i++) {
+			int id = data[i].getId();
+			if (id < min) {
+				min = id;
+			} else if (id > max) {
+				max = id;
+			}
+		}
+		return (double) (to - from) / ((long) max - min + 1);
+	}
+
+	/**
+	 * A Decision records what AdaptiveStudentSorter saw in its input, which
+	 * sorter it chose, and how long the analysis and the sort took
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	public static class Decision {
+		/** The chosen sorter */
+		private Strategy strategy;
+		/** The number of Students sorted */
+		private int size;
+		/** The fraction of sampled neighbor pairs in order */
+		private double sortedFraction;
+		/** The fraction of equal neighbors in the sorted sample, or NaN if not measured */
+		private double duplicateRatio;
+		/** The density of the IDs, or NaN if not measured */
+		private double idDensity;
+		/** The time spent analyzing the input, in nanoseconds */
+		private long analysisNanos;
+		/** The time spent sorting, in nanoseconds */
+		private long sortNanos;
+
+		/**
+		 * Constructs a new Decision
+		 *
+		 * @param strategy       the chosen sorter
+		 * @param size           the number of Students sorted
+		 * @param sortedFraction the fraction of sampled neighbor pairs in order
+		 * @param duplicateRatio the fraction of equal neighbors in the sorted
+		 *                       sample, or NaN
+		 * @param idDensity      the density of the IDs, or NaN
+		 * @param analysisNanos  the time spent analyzing the input, in nanoseconds
+		 * @param sortNanos      the time spent sorting, in nanoseconds
+		 */
+		Decision(Strategy strategy, int size, double sortedFraction, double duplicateRatio, double idDensity,
+				long analysisNanos, long sortNanos) {
+			this.strategy = strategy;
+			this.size = size;
+			this.sortedFraction = sortedFraction;
+			this.duplicateRatio = duplicateRatio;
+			this.idDensity = idDensity;
+			this.analysisNanos = analysisNanos;
+			this.sortNanos = sortNanos;
+		}
+
+		/**
+		 * Returns the chosen sorter
+		 *
+		 * @return the chosen strategy
+		 */
+		public Strategy getStrategy() {
+			return strategy;
+		}
+
+		/**
+		 * Returns the number of Students sorted
+		 *
+		 * @return the number of Students sorted
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * Returns the fraction of sampled neighbor pairs that were in order, in
+		 * whichever direction was more common
+		 *
+		 * @return the sorted fraction, between 0.5 and 1
+		 */
+		public double getSortedFraction() {
+			return sortedFraction;
+		}
+
+		/**
+		 * Returns the fraction of equal neighbors in the sorted sample
+		 *
+		 * @return the duplicate ratio, or NaN if it was not measured
+		 */
+		public double getDuplicateRatio() {
+			return duplicateRatio;
+		}
+
+		/**
+		 * Returns the number of Students divided by the size of their ID range
+		 *
+		 * @return the ID density, or NaN if it was not measured
+		 */
+		public double getIdDensity() {
+			return idDensity;
+		}
+
+		/**
+		 * Returns the time spent analyzing the input
+		 *
+		 * @return the analysis time, in nanoseconds
+		 */
+		public long getAnalysisNanos() {
+			return analysisNanos;
+		}
+
+		/**
+		 * Returns the time spent sorting
+		 *
+		 * @return the sort time, in nanoseconds
+		 */
+		public long getSortNanos() {
+			return sortNanos;
+		}
+
+		/**
+		 * Returns a one-line description of the decision, suitable for a log
+		 *
+		 * @return a description of the decision
+		 */
+		@Override
+		public String toString() {
+			return String.format("%s for %d students (sorted %.2f, duplicates %.2f, ID density %.2f); analysis %d us, sort %d us",
+					strategy, size, sortedFraction, duplicateRatio, idDensity, analysisNanos / 1000, sortNanos / 1000);
+		}
+	}
+}
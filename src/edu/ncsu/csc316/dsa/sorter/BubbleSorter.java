@@ -29,23 +29,32 @@ public class BubbleSorter<E extends Comparable<E>> extends AbstractComparisonSor
 	}
 	
 	/**
-	 * Sorts elements from a list of E in bubble sort
+	 * Sorts elements from a range of a list of E in bubble sort
 	 * @param data the list of elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to one past the index of the last element to sort
 	 */
 	@Override
-	public void sort(E[] data) {
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		SortInstrumentation instrumentation = getInstrumentation();
+		long start = instrumentation.startPhase();
+		long moves = 0;
 		boolean r = true;
 		
 		while(r) {
 			r = false;
-			for(int i = 1; i <= data.length - 1; i++) {
+			for(int i = from + 1; i <= to - 1; i++) {
 				if(compare(data[i], data[i - 1]) < 0) {
 					E x = data[i - 1];
 					data[i - 1] = data[i];
 					data[i] = x;
+					moves += 2;
 					r = true;
 				}
 			}
 		}
+		instrumentation.addMoves(moves);
+		instrumentation.endPhase("sort", start);
 	}
 }
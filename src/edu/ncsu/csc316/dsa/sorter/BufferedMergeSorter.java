@@ -0,0 +1,180 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * BufferedMergeSorter sorts arrays of comparable elements using a merge sort
+ * that never allocates per recursion level. A single auxiliary buffer is kept
+ * in the sorter and grown only when a larger array is sorted, so sorting many
+ * arrays of similar size with the same sorter allocates nothing after the first
+ * call. The roles of the array and the buffer alternate between recursion
+ * levels so each merge writes directly into its destination without copying
+ * back, and subarrays at or below the cutoff are sorted with insertion sort.
+ *
+ * The sort is stable and ensures O(nlogn) worst-case runtime. Because the
+ * buffer is shared between calls, a single BufferedMergeSorter must not be used
+ * by multiple threads at once.
+ *
+ * @author Jake Donovan
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class BufferedMergeSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/** The default subarray size at or below which insertion sort is used */
+	public static final int DEFAULT_CUTOFF = 16;
+
+	/** The subarray size at or below which insertion sort is used */
+	private int cutoff;
+
+	/** The auxiliary buffer reused across calls to sort */
+	private E[] buffer;
+
+	/**
+	 * Constructs a new BufferedMergeSorter with a custom Comparator and insertion
+	 * sort cutoff
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 * @param cutoff     the subarray size at or below which insertion sort is used
+	 * @throws IllegalArgumentException if the cutoff is less than 1
+	 */
+	@SuppressWarnings("unchecked")
+	public BufferedMergeSorter(Comparator<E> comparator, int cutoff) {
+		super(comparator);
+		if (cutoff < 1) {
+			throw new IllegalArgumentException("Cutoff must be at least 1: " + cutoff);
+		}
+		this.cutoff = cutoff;
+		this.buffer = (E[]) new Comparable[0];
+	}
+
+	/**
+	 * Constructs a new BufferedMergeSorter with a custom Comparator and the
+	 * default insertion sort cutoff
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 */
+	public BufferedMergeSorter(Comparator<E> comparator) {
+		this(comparator, DEFAULT_CUTOFF);
+	}
+
+	/**
+	 * Constructs a new BufferedMergeSorter with comparisons based on the element's
+	 * natural ordering
+	 */
+	public BufferedMergeSorter() {
+		this(null);
+	}
+
+	/**
+	 * Sorts a range of elements using a MergeSort algorithm with a single reusable
+	 * buffer
+	 *
+	 * @param data the array that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to   one past the index of the last element to sort
+	 */
+	@Override
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		int n = to - from;
+		if (n < 2) {
+			return;
+		}
+		SortInstrumentation instrumentation = getInstrumentation();
+		long start = instrumentation.startPhase();
+		if (buffer.length < n) {
+			buffer = Arrays.copyOf(buffer, n);
+			instrumentation.addArray(n, SortInstrumentation.REFERENCE_BYTES);
+		}
+		System.arraycopy(data, from, buffer, 0, n);
+		instrumentation.addMoves(n);
+		mergeSort(buffer, 0, data, from, 0, n, 1);
+		// Do not keep the sorted elements reachable from the sorter
+		Arrays.fill(buffer, 0, n, null);
+		instrumentation.endPhase("sort", start);
+	}
+
+	/**
+	 * Sorts the elements in [low, high) into dest. Indexes are relative to the
+	 * offset of each array, so src[srcOffset + i] and dest[destOffset + i] are the
+	 * same position. On entry, src and dest hold the same elements in that range;
+	 * on exit, the range of src is scratch space.
+	 *
+	 * @param src        the array used as scratch space for this level
+	 * @param srcOffset  the index in src of relative position 0
+	 * @param dest       the array that receives the sorted elements
+	 * @param destOffset the index in dest of relative position 0
+	 * @param low        the first relative index to sort
+	 * @param high       one past the last relative index to sort
+	 * @param depth      the recursion depth of this call, starting at 1
+	 */
+	private void mergeSort(E[] src, int srcOffset, E[] dest, int destOffset, int low, int high, int depth) {
+		getInstrumentation().recordDepth(depth);
+		if (high - low <= cutoff) {
+			insertionSort(dest, destOffset + low, destOffset + high);
+			return;
+		}
+		int mid = (low + high) >>> 1;
+		// Sort each half into src, using dest as the scratch space
+		mergeSort(dest, destOffset, src, srcOffset, low, mid, depth + 1);
+		mergeSort(dest, destOffset, src, srcOffset, mid, high, depth + 1);
+		// Either way, every element of the range is written into dest once
+		getInstrumentation().addMoves(high - low);
+		if (compare(src[srcOffset + mid - 1], src[srcOffset + mid]) <= 0) {
+			System.arraycopy(src, srcOffset + low, dest, destOffset + low, high - low);
+			return;
+		}
+		merge(src, srcOffset + low, srcOffset + mid, srcOffset + high, dest, destOffset + low);
+	}
+
+	/**
+	 * Merges the sorted runs src[low, mid) and src[mid, high) into dest starting
+	 * at index destIndex. Ties are taken from the left run so the merge is stable.
+	 *
+	 * @param src       the array holding both sorted runs
+	 * @param low       the first index of the left run
+	 * @param mid       the first index of the right run
+	 * @param high      one past the last index of the right run
+	 * @param dest      the array the merged run is written into
+	 * @param destIndex the index in dest where the merged run starts
+	 */
+	private void merge(E[] src, int low, int mid, int high, E[] dest, int destIndex) {
+		int left = low;
+		int right = mid;
+		for (int i = destIndex; i < destIndex + high - low; i++) {
+			if (left >= mid) {
+				dest[i] = src[right++];
+			} else if (right >= high) {
+				dest[i] = src[left++];
+			} else if (compare(src[right], src[left]) < 0) {
+				dest[i] = src[right++];
+			} else {
+				dest[i] = src[left++];
+			}
+		}
+	}
+
+	/**
+	 * Sorts data[low, high) using insertion sort
+	 *
+	 * @param data the array that will be sorted
+	 * @param low  the first index to sort
+	 * @param high one past the last index to sort
+	 */
+	private void insertionSort(E[] data, int low, int high) {
+		long moves = 0;
+		for (int i = low + 1; i < high; i++) {
+			E x = data[i];
+			int j = i - 1;
+			while (j >= low && compare(data[j], x) > 0) {
+				data[j + 1] = data[j];
+				j--;
+			}
+			data[j + 1] = x;
+			moves += i - j;
+		}
+		getInstrumentation().addMoves(moves);
+	}
+}
@@ -1,23 +1,128 @@
 package edu.ncsu.csc316.dsa.sorter;
 
+import java.util.concurrent.ForkJoinPool;
+
 import edu.ncsu.csc316.dsa.data.Identifiable;
 
 /**
- * CountingSorter uses the counting sort algorithm to sort data
+ * CountingSorter uses the counting sort algorithm to sort data. In parallel
+ * mode, each worker counts the IDs in its own slice of the data, the counts are
+ * combined with a parallel prefix sum, and the workers then place their slices
+ * into the output at the same time while keeping the sort stable.
+ * 
+ * Before counting, the sorter checks how sparse the IDs are. If the range of IDs
+ * is more than {@link #MAX_RANGE_PER_ELEMENT} times the number of elements, or
+ * the count arrays would need more memory than the configured limit, the data is
+ * sorted with a byte-wise {@link RadixSorter} instead, which needs memory
+ * proportional to the number of elements rather than the range of IDs. The
+ * auxiliary memory used by the most recent sort can be read back with
+ * {@link #getPeakMemory()}.
  * @author Dr. King
  *
  * @param <E> the generic type of data to sort
  */
 public class CountingSorter<E extends Identifiable> implements Sorter<E> {
+	
+	/** Counting sort is only used while the range of IDs is at most this many times the number of elements */
+	public static final int MAX_RANGE_PER_ELEMENT = 8;
+	
+	/** The default limit, in bytes, on the memory used for counts */
+	public static final long DEFAULT_MEMORY_LIMIT = 64L * 1024 * 1024;
+	
+	/** The number of workers used to count and place elements */
+	private int parallelism;
+	
+	/** The most memory, in bytes, the count arrays may use before falling back to radix sort */
+	private long memoryLimit;
+	
+	/** The auxiliary memory, in bytes, allocated by the most recent sort */
+	private long peakMemory;
+	
+	/** Whether the most recent sort fell back to radix sort */
+	private boolean radixUsed;
+	
+	/** The instrumentation that records the work done while sorting */
+	private SortInstrumentation instrumentation;
+	
+	/**
+	 * Constructs a CountingSorter that splits the work between the given number
+	 * of workers on the common pool and limits the memory used for counts
+	 * @param parallelism the number of workers; 1 sorts on the calling thread
+	 * @param memoryLimit the most memory, in bytes, the count arrays may use
+	 * before the sorter falls back to radix sort
+	 * @throws IllegalArgumentException if parallelism is less than 1 or the memory limit is not positive
+	 */
+	public CountingSorter(int parallelism, long memoryLimit) {
+		if(parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+		}
+		if(memoryLimit < 1) {
+			throw new IllegalArgumentException("Memory limit must be positive: " + memoryLimit);
+		}
+		this.parallelism = parallelism;
+		this.memoryLimit = memoryLimit;
+		this.instrumentation = SortInstrumentation.DISABLED;
+	}
+	
+	/**
+	 * Constructs a CountingSorter that splits the work between the given number
+	 * of workers on the common pool
+	 * @param parallelism the number of workers; 1 sorts on the calling thread
+	 */
+	public CountingSorter(int parallelism) {
+		this(parallelism, DEFAULT_MEMORY_LIMIT);
+	}
+	
+	/**
+	 * Constructs a CountingSorter that sorts on the calling thread
+	 */
+	public CountingSorter() {
+		this(1);
+	}
+	
 	/**
-	 * Sorts a list of elements using counting sorter
+	 * Attaches instrumentation that records the moves, auxiliary memory, and phase
+	 * times of later sorts
+	 * @param instrumentation the instrumentation to record into; if null, recording stops
+	 */
+	@Override
+	public void setInstrumentation(SortInstrumentation instrumentation) {
+		if(instrumentation == null) {
+			this.instrumentation = SortInstrumentation.DISABLED;
+		} else {
+			this.instrumentation = instrumentation;
+		}
+	}
+	
+	/**
+	 * Returns the instrumentation attached to this sorter
+	 * @return the attached instrumentation, or SortInstrumentation.DISABLED if there is none
+	 */
+	@Override
+	public SortInstrumentation getInstrumentation() {
+		return instrumentation;
+	}
+	
+	/**
+	 * Sorts a range of a list of elements using counting sorter
 	 * @param data the list of elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to one past the index of the last element to sort
 	 */
 	@Override
-	public void sort(E[] data) {
-	    int min = data[0].getId();
-		int max = data[0].getId();
-		for(int i = 0; i <= data.length - 1; i++) {
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		peakMemory = 0;
+		radixUsed = false;
+		int n = to - from;
+		if(n < 2) {
+			return;
+		}
+		long start = instrumentation.startPhase();
+		
+	    int min = data[from].getId();
+		int max = data[from].getId();
+		for(int i = from; i <= to - 1; i++) {
 			if(data[i].getId() < min) {
 				min = data[i].getId();
 			}
@@ -27,13 +132,38 @@ public class CountingSorter<E extends Identifiable> implements Sorter<E> {
 			}
 		}
 		
-		// Calculate the range of elements
-		int k = (max - min) + 1;
+		// Calculate the range of elements, which may not fit in an int when IDs are sparse
+		long range = ((long) max - min) + 1;
+		boolean parallel = parallelism > 1 && n >= ParallelScatter.MIN_PARALLEL_LENGTH;
+		int workers = parallel ? parallelism : 1;
+		long countBytes = range * Integer.BYTES * workers;
+		if(range / n > MAX_RANGE_PER_ELEMENT || countBytes > memoryLimit) {
+			radixUsed = true;
+			// Cached keys, the key buffer, the element buffer, and four byte histograms
+			peakMemory = (long) n * (2 * Integer.BYTES + SortInstrumentation.REFERENCE_BYTES) + (long) Integer.BYTES * Integer.BYTES * 256;
+			instrumentation.endPhase("range", start);
+			RadixSorter<E> radixSorter = new RadixSorter<E>(RadixSorter.Radix.BYTE, parallelism);
+			radixSorter.setInstrumentation(instrumentation);
+			radixSorter.sort(data, from, to);
+			return;
+		}
+		instrumentation.endPhase("range", start);
+		start = instrumentation.startPhase();
+		peakMemory = countBytes + (long) n * SortInstrumentation.REFERENCE_BYTES;
+		int k = (int) range;
+		if(parallel) {
+			// The parallel mode also caches the keys
+			peakMemory += (long) n * Integer.BYTES;
+			parallelSort(data, from, to, min, k);
+			instrumentation.endPhase("place", start);
+			return;
+		}
 		
 		// Create array to hold counts
 		int[] b = new int[k];
+		instrumentation.addArray(k, Integer.BYTES);
 	
-		for(int i = 0; i <= data.length - 1; i++) {
+		for(int i = from; i <= to - 1; i++) {
 			b[data[i].getId() - min] = b[data[i].getId() - min] + 1;
 		}
 		
@@ -44,15 +174,72 @@ public class CountingSorter<E extends Identifiable> implements Sorter<E> {
 		
 		//Build Final Output Array
 		@SuppressWarnings("unchecked")
-		E[] f = (E[])(new Identifiable[data.length]);
+		E[] f = (E[])(new Identifiable[n]);
+		instrumentation.addArray(n, SortInstrumentation.REFERENCE_BYTES);
+		instrumentation.endPhase("count", start);
+		start = instrumentation.startPhase();
 		
-		for(int i = data.length - 1; i >= 0; i--) {
+		for(int i = to - 1; i >= from; i--) {
 			f[b[data[i].getId() - min] - 1] = data[i];
 			b[data[i].getId() - min] = b[data[i].getId() - min] - 1;
 		}
 		
 		for(int i = 0; i <= f.length - 1; i++) {
-			data[i] = f[i];
+			data[from + i] = f[i];
+		}
+		instrumentation.addMoves(2L * n);
+		instrumentation.endPhase("place", start);
+	}
+	
+	/**
+	 * Returns the auxiliary memory, in bytes, allocated by the most recent sort
+	 * (an estimate that assumes {@link SortInstrumentation#REFERENCE_BYTES} per
+	 * element reference)
+	 * @return the auxiliary memory used by the most recent sort
+	 */
+	public long getPeakMemory() {
+		return peakMemory;
+	}
+	
+	/**
+	 * Returns whether the most recent sort fell back to radix sort because the IDs
+	 * were too sparse or the counts would have exceeded the memory limit
+	 * @return true if the most recent sort used radix sort; otherwise false
+	 */
+	public boolean isRadixUsed() {
+		return radixUsed;
+	}
+	
+	/**
+	 * Sorts a list of elements by splitting the counting and placing of elements
+	 * between several workers. Each worker also reads the IDs of its slice once
+	 * into a shared key array.
+	 * @param data the list of elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to one past the index of the last element to sort
+	 * @param min the smallest ID in the range
+	 * @param k the number of IDs between the smallest and largest ID, inclusive
+	 */
+	private void parallelSort(E[] data, int from, int to, int min, int k) {
+		int n = to - from;
+		int workers = parallelism;
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		int[] keys = new int[n];
+		instrumentation.addArray(n, Integer.BYTES);
+		instrumentation.addArray((long) k * workers, Integer.BYTES);
+		ParallelScatter.forEachWorker(workers, pool, w -> {
+			int end = ParallelScatter.sliceEnd(n, workers, w);
+			for(int i = ParallelScatter.sliceEnd(n, workers, w - 1); i < end; i++) {
+				keys[i] = data[from + i].getId();
+			}
+		});
+		
+		@SuppressWarnings("unchecked")
+		E[] f = (E[])(new Identifiable[n]);
+		instrumentation.addArray(n, SortInstrumentation.REFERENCE_BYTES);
+		if(ParallelScatter.scatter(data, from, keys, f, 0, null, n, k, key -> key - min, workers, pool)) {
+			System.arraycopy(f, 0, data, from, n);
+			instrumentation.addMoves(2L * n);
 		}
 	}
 }
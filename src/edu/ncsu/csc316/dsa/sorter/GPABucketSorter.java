@@ -0,0 +1,193 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentKeys;
+
+/**
+ * GPABucketSorter sorts Students by descending GPA with a stable counting sort
+ * over the 401 possible two-decimal GPAs from 4.00 down to 0.00, then orders
+ * the Students inside each GPA bucket by a secondary comparator. With the
+ * default secondary ordering (the Student natural ordering) the result is the
+ * same as sorting with {@link edu.ncsu.csc316.dsa.data.StudentGPAComparator}.
+ *
+ * Placing Students into buckets takes O(n) time; sorting the buckets adds
+ * O(m log m) for each bucket of m Students, or nothing when there is no
+ * secondary comparator. If any GPA is not a two-decimal value between 0.00 and
+ * 4.00, the whole array is sorted with a comparison sort by the same ordering
+ * instead. Buckets in the natural ordering are sorted with
+ * {@link StudentNameSorter}, so only Students with the same GPA, name, and ID
+ * may change order; otherwise the sort is stable.
+ *
+ * @author Jake Donovan
+ *
+ */
+public class GPABucketSorter implements Sorter<Student> {
+
+	/** The largest GPA, in hundredths */
+	private static final int MAX_POINTS = 4 * StudentKeys.GPA_SCALE;
+
+	/** The number of GPA buckets */
+	public static final int BUCKETS = MAX_POINTS + 1;
+
+	/** Orders Students within a bucket, or null to keep their input order */
+	private Comparator<Student> secondary;
+
+	/** Whether the secondary ordering is the Student natural ordering */
+	private boolean natural;
+
+	/** The instrumentation that records the work done while sorting */
+	private SortInstrumentation instrumentation;
+
+	/**
+	 * Constructs a new GPABucketSorter with a secondary ordering for Students
+	 * with the same GPA
+	 *
+	 * @param secondary orders Students with the same GPA; if null, they keep
+	 *                  their input order
+	 */
+	public GPABucketSorter(Comparator<Student> secondary) {
+		this(secondary, false);
+	}
+
+	/**
+	 * Constructs a new GPABucketSorter that orders Students with the same GPA by
+	 * their natural ordering, the same as StudentGPAComparator
+	 */
+	public GPABucketSorter() {
+		this(Comparator.naturalOrder(), true);
+	}
+
+	/**
+	 * Constructs a new GPABucketSorter
+	 *
+	 * @param secondary orders Students with the same GPA, or null
+	 * @param natural   whether secondary is the Student natural ordering
+	 */
+	private GPABucketSorter(Comparator<Student> secondary, boolean natural) {
+		this.secondary = secondary;
+		this.natural = natural;
+		this.instrumentation = SortInstrumentation.DISABLED;
+	}
+
+	/**
+	 * Attaches instrumentation that records the work done by later sorts, including
+	 * the sorts of each GPA bucket
+	 *
+	 * @param instrumentation the instrumentation to record into; if null, recording
+	 *                        stops
+	 */
+	@Override
+	public void setInstrumentation(SortInstrumentation instrumentation) {
+		if (instrumentation == null) {
+			this.instrumentation = SortInstrumentation.DISABLED;
+		} else {
+			this.instrumentation = instrumentation;
+		}
+	}
+
+	/**
+	 * Returns the instrumentation attached to this sorter
+	 *
+	 * @return the attached instrumentation, or SortInstrumentation.DISABLED if
+	 *         there is none
+	 */
+	@Override
+	public SortInstrumentation getInstrumentation() {
+		return instrumentation;
+	}
+
+	/**
+	 * Sorts a range of Students by descending GPA, then by the secondary ordering
+	 *
+	 * @param data the array of Students that will be sorted
+	 * @param from the index of the first Student to sort
+	 * @param to   one past the index of the last Student to sort
+	 */
+	@Override
+	public void sort(Student[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		int n = to - from;
+		if (n < 2) {
+			return;
+		}
+
+		long phaseStart = instrumentation.startPhase();
+		int[] buckets = new int[n];
+		int[] counts = new int[BUCKETS + 1];
+		for (int i = 0; i < n; i++) {
+			double gpa = data[from + i].getGpa();
+			int points = StudentKeys.gpaPoints(gpa);
+			if (points > MAX_POINTS || points / (double) StudentKeys.GPA_SCALE != gpa) {
+				instrumentation.endPhase("place", phaseStart);
+				comparisonSort(data, from, to);
+				return;
+			}
+			// Highest GPA first
+			buckets[i] = MAX_POINTS - points;
+			counts[buckets[i] + 1]++;
+		}
+
+		// Turn the counts into the first output index of each bucket
+		for (int b = 1; b <= BUCKETS; b++) {
+			counts[b] += counts[b - 1];
+		}
+		Student[] output = new Student[n];
+		for (int i = 0; i < n; i++) {
+			output[counts[buckets[i]]++] = data[from + i];
+		}
+		System.arraycopy(output, 0, data, from, n);
+		instrumentation.addArray(n, Integer.BYTES);
+		instrumentation.addArray(BUCKETS + 1, Integer.BYTES);
+		instrumentation.addArray(n, SortInstrumentation.REFERENCE_BYTES);
+		instrumentation.addMoves(2L * n);
+		instrumentation.endPhase("place", phaseStart);
+
+		if (secondary != null) {
+			phaseStart = instrumentation.startPhase();
+			RunMergeSorter<Student> bucketSorter = new RunMergeSorter<Student>(secondary);
+			StudentNameSorter nameSorter = new StudentNameSorter();
+			bucketSorter.setInstrumentation(instrumentation);
+			nameSorter.setInstrumentation(instrumentation);
+			// After placing, counts[b] is one past the end of bucket b
+			int start = from;
+			for (int b = 0; b < BUCKETS; b++) {
+				int end = from + counts[b];
+				if (end - start > 1) {
+					if (natural) {
+						nameSorter.sort(data, start, end);
+					} else {
+						bucketSorter.sort(data, start, end);
+					}
+				}
+				start = end;
+			}
+			instrumentation.endPhase("buckets", phaseStart);
+		}
+	}
+
+	/**
+	 * Sorts a range of Students by descending GPA, then by the secondary
+	 * ordering, with a stable comparison sort
+	 *
+	 * @param data the array of Students that will be sorted
+	 * @param from the index of the first Student to sort
+	 * @param to   one past the index of the last Student to sort
+	 */
+	private void comparisonSort(Student[] data, int from, int to) {
+		Comparator<Student> byGPA = (one, two) -> {
+			if (one.getGpa() > two.getGpa()) {
+				return -1;
+			} else if (one.getGpa() < two.getGpa()) {
+				return 1;
+			} else if (secondary == null) {
+				return 0;
+			}
+			return secondary.compare(one, two);
+		};
+		RunMergeSorter<Student> sorter = new RunMergeSorter<Student>(byGPA);
+		sorter.setInstrumentation(instrumentation);
+		sorter.sort(data, from, to);
+	}
+}
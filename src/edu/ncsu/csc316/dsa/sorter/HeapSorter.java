@@ -0,0 +1,165 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+
+import edu.ncsu.csc316.dsa.priority_queue.HeapIndex;
+
+/**
+ * HeapSorter sorts arrays of comparable elements with an in-place heap sort. A
+ * max-heap is built directly in the array with bottom-up heapify, which sifts
+ * down each internal node from the last one to the root in O(n) total time.
+ * The largest element is then repeatedly swapped to the end of the shrinking
+ * heap.
+ *
+ * After each swap, the element moved to the root almost always belongs near
+ * the bottom, so it is not compared on the way down: the hole at the root
+ * follows the larger child to a leaf (one comparison per level), and the
+ * element is then moved back up to its place, which is usually only a level or
+ * two. This takes about half the comparisons of the usual sift down.
+ *
+ * The sort runs in O(nlogn) worst-case time with O(1) extra memory. It is not
+ * stable.
+ *
+ * @author Jake Donovan
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class HeapSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/**
+	 * Constructs a new HeapSorter with a specified custom Comparator
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 */
+	public HeapSorter(Comparator<E> comparator) {
+		super(comparator);
+	}
+
+	/**
+	 * Constructs a new HeapSorter with comparisons based on the element's natural
+	 * ordering
+	 */
+	public HeapSorter() {
+		this(null);
+	}
+
+	/**
+	 * Sorts a range of elements using heap sort, with the heap rooted at from
+	 *
+	 * @param data the array of elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to   one past the index of the last element to sort
+	 */
+	@Override
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		int n = to - from;
+		if (n < 2) {
+			return;
+		}
+
+		SortInstrumentation instrumentation = getInstrumentation();
+		long start = instrumentation.startPhase();
+		heapify(data, from, n);
+		instrumentation.endPhase("heapify", start);
+
+		start = instrumentation.startPhase();
+		for (int end = n - 1; end > 0; end--) {
+			E x = data[from + end];
+			data[from + end] = data[from];
+			siftDownToLeaf(data, from, x, end);
+		}
+		instrumentation.addMoves(n - 1);
+		instrumentation.endPhase("sortdown", start);
+	}
+
+	/**
+	 * Turns data[offset, offset + size) into a max-heap rooted at offset by
+	 * sifting down each internal node, from the last one to the root
+	 *
+	 * @param data   the array of elements
+	 * @param offset the array index of the heap root
+	 * @param size   the number of elements in the heap
+	 */
+	void heapify(E[] data, int offset, int size) {
+		for (int i = HeapIndex.parent(size - 1); i >= 0; i--) {
+			siftDown(data, offset, i, size);
+		}
+	}
+
+	/**
+	 * Moves the element at heap index i down until neither child is larger
+	 *
+	 * @param data   the array of elements
+	 * @param offset the array index of the heap root
+	 * @param i      the heap index of the element to move down
+	 * @param size   the number of elements in the heap
+	 */
+	void siftDown(E[] data, int offset, int i, int size) {
+		int hole = i;
+		int moves = 1;
+		E x = data[offset + hole];
+		while (HeapIndex.left(hole) < size) {
+			int child = largerChild(data, offset, hole, size);
+			if (compare(x, data[offset + child]) >= 0) {
+				break;
+			}
+			data[offset + hole] = data[offset + child];
+			hole = child;
+			moves++;
+		}
+		data[offset + hole] = x;
+		getInstrumentation().addMoves(moves);
+	}
+
+	/**
+	 * Places x into a heap whose root is empty, by first moving the hole at the
+	 * root down along the larger children to a leaf, then moving x up from that
+	 * leaf until its parent is not smaller
+	 *
+	 * @param data   the array of elements
+	 * @param offset the array index of the heap root
+	 * @param x      the element to place
+	 * @param size   the number of elements in the heap, including x
+	 */
+	private void siftDownToLeaf(E[] data, int offset, E x, int size) {
+		int hole = 0;
+		int moves = 1;
+		while (HeapIndex.left(hole) < size) {
+			int child = largerChild(data, offset, hole, size);
+			data[offset + hole] = data[offset + child];
+			hole = child;
+			moves++;
+		}
+		while (hole > 0) {
+			int parent = HeapIndex.parent(hole);
+			if (compare(data[offset + parent], x) >= 0) {
+				break;
+			}
+			data[offset + hole] = data[offset + parent];
+			hole = parent;
+			moves++;
+		}
+		data[offset + hole] = x;
+		getInstrumentation().addMoves(moves);
+	}
+
+	/**
+	 * Returns the heap index of the larger child of the element at heap index i,
+	 * which must have a left child
+	 *
+	 * @param data   the array of elements
+	 * @param offset the array index of the heap root
+	 * @param i      the heap index of the parent
+	 * @param size   the number of elements in the heap
+	 * @return the heap index of the larger child
+	 */
+	private int largerChild(E[] data, int offset, int i, int size) {
+		int left = HeapIndex.left(i);
+		int right = HeapIndex.right(i);
+		if (right < size && compare(data[offset + left], data[offset + right]) < 0) {
+			return right;
+		}
+		return left;
+	}
+}
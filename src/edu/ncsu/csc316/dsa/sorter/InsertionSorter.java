@@ -27,21 +27,30 @@ public class InsertionSorter<E extends Comparable<E>> extends AbstractComparison
 	}
 	
 	/**
-	 * Sorts a list of elements using an InsertionSort (way of sorting) algorithm
+	 * Sorts a range of a list of elements using an InsertionSort (way of sorting) algorithm
 	 * @param data the list of elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to one past the index of the last element to sort
 	 */
 	@Override
-	public void sort(E[] data) {
-		for(int i = 1; i <= data.length - 1; i++) {
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		SortInstrumentation instrumentation = getInstrumentation();
+		long start = instrumentation.startPhase();
+		long moves = 0;
+		for(int i = from + 1; i <= to - 1; i++) {
 			E x = data[i];
 			int j = i - 1;
 			
-			while(j >= 0 && compare(data[j], x)  > 0) {
+			while(j >= from && compare(data[j], x)  > 0) {
 				data[j + 1] = data[j];
 				j = j - 1;
 			}
 			
 			data[j + 1] = x;
+			moves += i - j;
 		}
+		instrumentation.addMoves(moves);
+		instrumentation.endPhase("sort", start);
 	}
 }
@@ -0,0 +1,211 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+
+import edu.ncsu.csc316.dsa.sorter.QuickSorter.PivotSelector;
+
+/**
+ * IntroSorter sorts arrays of comparable elements using introsort: a quicksort
+ * that partitions three ways around the pivot (so runs of equal keys are
+ * finished in one pass), only recurses into the smaller side (so the stack
+ * never grows past O(logn)), switches to heap sort once the partitioning depth
+ * passes 2*log2(n), and finishes small ranges with insertion sort.
+ *
+ * Pivots are chosen with any of the {@link QuickSorter} pivot selection
+ * strategies; the ninther is used by default. Whatever the input order or the
+ * number of duplicate keys, this implementation ensures O(nlogn) worst-case
+ * runtime. The sort is not stable.
+ *
+ * @author Jake Donovan
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class IntroSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/** Ranges of at most this many elements are sorted with insertion sort */
+	public static final int INSERTION_CUTOFF = 16;
+
+	/** Used to keep track of pivot selector */
+	private PivotSelector selector;
+
+	/** Sorts ranges that pass the partitioning depth limit */
+	private HeapSorter<E> heapSorter;
+
+	/**
+	 * Constructs a new IntroSorter with a provided custom Comparator and a
+	 * specified PivotSelector strategy
+	 *
+	 * @param comparator a custom comparator to use when sorting
+	 * @param selector   the pivot selection strategy to use when selecting pivots
+	 */
+	public IntroSorter(Comparator<E> comparator, PivotSelector selector) {
+		super(comparator);
+		setSelector(selector);
+		heapSorter = new HeapSorter<E>(comparator);
+	}
+
+	/**
+	 * Constructs a new IntroSorter using the natural ordering of elements. Pivots
+	 * are selected using the provided PivotSelector strategy
+	 *
+	 * @param selector the pivot selection strategy to use when selecting pivots
+	 */
+	public IntroSorter(PivotSelector selector) {
+		this(null, selector);
+	}
+
+	/**
+	 * Constructs a new IntroSorter with a provided custom Comparator and the
+	 * default ninther pivot selection strategy
+	 *
+	 * @param comparator a custom comparator to use when sorting
+	 */
+	public IntroSorter(Comparator<E> comparator) {
+		this(comparator, null);
+	}
+
+	/**
+	 * Constructs a new IntroSorter that uses an element's natural ordering and the
+	 * ninther pivot selection strategy
+	 */
+	public IntroSorter() {
+		this(null, null);
+	}
+
+	/**
+	 * Attaches instrumentation to this sorter and to the heap sort it falls back on
+	 *
+	 * @param instrumentation the instrumentation to record into; if null, recording
+	 *                        stops
+	 */
+	@Override
+	public void setInstrumentation(SortInstrumentation instrumentation) {
+		super.setInstrumentation(instrumentation);
+		heapSorter.setInstrumentation(instrumentation);
+	}
+
+	/**
+	 * Sets the pivot selector used when partitioning
+	 *
+	 * @param selector the pivot selection strategy; if null, the ninther is used
+	 */
+	private void setSelector(PivotSelector selector) {
+		if (selector == null) {
+			this.selector = QuickSorter.NINTHER_SELECTOR;
+		} else {
+			this.selector = selector;
+		}
+	}
+
+	/**
+	 * Sorts a range of elements using an introsort algorithm
+	 *
+	 * @param data the array of elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to   one past the index of the last element to sort
+	 */
+	@Override
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		int n = to - from;
+		if (n < 2) {
+			return;
+		}
+		SortInstrumentation instrumentation = getInstrumentation();
+		long start = instrumentation.startPhase();
+		int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(n));
+		introSort(data, from, to - 1, depthLimit, 1, this::compare);
+		instrumentation.endPhase("sort", start);
+	}
+
+	/**
+	 * Sorts data[low, high] by partitioning three ways, recursing into the smaller
+	 * side and looping on the larger side until the range is small enough for
+	 * insertion sort or the depth limit is reached
+	 *
+	 * @param data       the array of elements
+	 * @param low        the low index
+	 * @param high       the high index
+	 * @param depthLimit the number of partitioning levels left before heap sort
+	 *                   takes over
+	 * @param recursion  the recursion depth of this call, starting at 1
+	 * @param comparator the comparator passed to the pivot selector
+	 */
+	private void introSort(E[] data, int low, int high, int depthLimit, int recursion, Comparator<E> comparator) {
+		getInstrumentation().recordDepth(recursion);
+		int lo = low;
+		int hi = high;
+		int depth = depthLimit;
+		while (hi - lo + 1 > INSERTION_CUTOFF) {
+			if (depth == 0) {
+				heapSorter.sort(data, lo, hi + 1);
+				return;
+			}
+			depth--;
+
+			E pivot = data[selector.selectPivot(data, lo, hi, comparator)];
+			// Invariant: [lo, lt) < pivot, [lt, i) == pivot, (gt, hi] > pivot
+			int lt = lo;
+			int i = lo;
+			int gt = hi;
+			long swaps = 0;
+			while (i <= gt) {
+				int c = compare(data[i], pivot);
+				if (c < 0) {
+					swap(data, lt++, i++);
+					swaps++;
+				} else if (c > 0) {
+					swap(data, i, gt--);
+					swaps++;
+				} else {
+					i++;
+				}
+			}
+			getInstrumentation().addMoves(2 * swaps);
+
+			if (lt - lo < hi - gt) {
+				introSort(data, lo, lt - 1, depth, recursion + 1, comparator);
+				lo = gt + 1;
+			} else {
+				introSort(data, gt + 1, hi, depth, recursion + 1, comparator);
+				hi = lt - 1;
+			}
+		}
+		insertionSort(data, lo, hi);
+	}
+
+	/**
+	 * Sorts data[low, high] using insertion sort
+	 *
+	 * @param data the array of elements
+	 * @param low  the low index
+	 * @param high the high index
+	 */
+	private void insertionSort(E[] data, int low, int high) {
+		long moves = 0;
+		for (int i = low + 1; i <= high; i++) {
+			E x = data[i];
+			int j = i - 1;
+			while (j >= low && compare(data[j], x) > 0) {
+				data[j + 1] = data[j];
+				j--;
+			}
+			data[j + 1] = x;
+			moves += i - j;
+		}
+		getInstrumentation().addMoves(moves);
+	}
+
+	/**
+	 * Swaps the elements at two indexes
+	 *
+	 * @param data an array of elements
+	 * @param i    the index of an element that will be swapped
+	 * @param j    the index of an element that will be swapped
+	 */
+	private void swap(E[] data, int i, int j) {
+		E temp = data[i];
+		data[i] = data[j];
+		data[j] = temp;
+	}
+}
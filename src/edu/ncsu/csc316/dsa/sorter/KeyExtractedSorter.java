@@ -0,0 +1,185 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToLongFunction;
+
+/**
+ * KeyExtractedSorter sorts by reading a long key from each element once,
+ * sorting the keys together with the original index of each element, and then
+ * moving the elements into the order of their keys (decorate, sort,
+ * undecorate). The O(nlogn) comparisons are between primitive longs, so
+ * getters, unboxing, and string comparisons are only paid once per element.
+ *
+ * The key must be consistent with the sorter's ordering: if an element's key
+ * is less than another's, it must come first. Runs of elements with equal keys
+ * are then sorted with the full ordering, so the result is the same as a
+ * stable sort with that ordering. Keys that are unique in practice (such as
+ * IDs) or that hold most of the ordering (such as a fixed-point GPA plus a name
+ * prefix) leave few or no comparisons for that final step. See
+ * {@link edu.ncsu.csc316.dsa.data.StudentKeys} for keys that match the Student
+ * orderings.
+ *
+ * @author Jake Donovan
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class KeyExtractedSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/** Ranges of at most this many keys are sorted with insertion sort */
+	private static final int INSERTION_CUTOFF = 16;
+
+	/** Reads the key of an element */
+	private ToLongFunction<? super E> keyExtractor;
+
+	/** Sorts runs of elements with equal keys */
+	private RunMergeSorter<E> tieSorter;
+
+	/**
+	 * Constructs a new KeyExtractedSorter with a key extractor and the custom
+	 * Comparator that the keys are consistent with
+	 *
+	 * @param keyExtractor reads the key of an element
+	 * @param comparator   a custom Comparator used to order elements with equal
+	 *                     keys
+	 * @throws IllegalArgumentException if keyExtractor is null
+	 */
+	public KeyExtractedSorter(ToLongFunction<? super E> keyExtractor, Comparator<E> comparator) {
+		super(comparator);
+		if (keyExtractor == null) {
+			throw new IllegalArgumentException("Key extractor must not be null");
+		}
+		this.keyExtractor = keyExtractor;
+		this.tieSorter = new RunMergeSorter<E>(comparator);
+	}
+
+	/**
+	 * Constructs a new KeyExtractedSorter with a key extractor that is consistent
+	 * with the element's natural ordering
+	 *
+	 * @param keyExtractor reads the key of an element
+	 */
+	public KeyExtractedSorter(ToLongFunction<? super E> keyExtractor) {
+		this(keyExtractor, null);
+	}
+
+	/**
+	 * Attaches instrumentation to this sorter and to the sorter it uses for runs of
+	 * equal keys
+	 *
+	 * @param instrumentation the instrumentation to record into; if null, recording
+	 *                        stops
+	 */
+	@Override
+	public void setInstrumentation(SortInstrumentation instrumentation) {
+		super.setInstrumentation(instrumentation);
+		tieSorter.setInstrumentation(instrumentation);
+	}
+
+	/**
+	 * Sorts a range of elements by their extracted keys, then sorts runs of equal
+	 * keys with the full ordering
+	 *
+	 * @param data the array of elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to   one past the index of the last element to sort
+	 */
+	@Override
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		int n = to - from;
+		if (n < 2) {
+			return;
+		}
+		SortInstrumentation instrumentation = getInstrumentation();
+		long start = instrumentation.startPhase();
+		long[] keys = new long[n];
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = keyExtractor.applyAsLong(data[from + i]);
+			order[i] = i;
+		}
+		instrumentation.endPhase("keys", start);
+		start = instrumentation.startPhase();
+		mergeSort(keys.clone(), order.clone(), keys, order, 0, n, 1);
+		instrumentation.addArray(2L * n, Long.BYTES);
+		instrumentation.addArray(2L * n, Integer.BYTES);
+		instrumentation.endPhase("sort", start);
+
+		start = instrumentation.startPhase();
+		E[] original = Arrays.copyOfRange(data, from, to);
+		for (int i = 0; i < n; i++) {
+			data[from + i] = original[order[i]];
+		}
+		instrumentation.addArray(n, SortInstrumentation.REFERENCE_BYTES);
+		instrumentation.addMoves(2L * n);
+		instrumentation.endPhase("undecorate", start);
+
+		start = instrumentation.startPhase();
+		int runStart = 0;
+		for (int i = 1; i <= n; i++) {
+			if (i == n || keys[i] != keys[runStart]) {
+				if (i - runStart > 1) {
+					tieSorter.sort(data, from + runStart, from + i);
+				}
+				runStart = i;
+			}
+		}
+		instrumentation.endPhase("ties", start);
+	}
+
+	/**
+	 * Stably sorts keys[low, high), moving order along with the keys, into
+	 * destKeys and destOrder. Both pairs of arrays must start with the same
+	 * contents; they swap roles at each level of recursion so no copying back is
+	 * needed.
+	 *
+	 * @param srcKeys   the keys to sort from
+	 * @param srcOrder  the indexes that move with srcKeys
+	 * @param destKeys  the array the sorted keys are written to
+	 * @param destOrder the array the indexes are written to
+	 * @param low       the first index to sort
+	 * @param high      one past the last index to sort
+	 * @param depth     the recursion depth of this call, starting at 1
+	 */
+	private void mergeSort(long[] srcKeys, int[] srcOrder, long[] destKeys, int[] destOrder, int low, int high,
+			int depth) {
+		getInstrumentation().recordDepth(depth);
+		if (high - low <= INSERTION_CUTOFF) {
+			for (int i = low + 1; i < high; i++) {
+				long key = destKeys[i];
+				int index = destOrder[i];
+				int j = i - 1;
+				while (j >= low && destKeys[j] > key) {
+					destKeys[j + 1] = destKeys[j];
+					destOrder[j + 1] = destOrder[j];
+					j--;
+				}
+				destKeys[j + 1] = key;
+				destOrder[j + 1] = index;
+			}
+			return;
+		}
+
+		int mid = (low + high) >>> 1;
+		mergeSort(destKeys, destOrder, srcKeys, srcOrder, low, mid, depth + 1);
+		mergeSort(destKeys, destOrder, srcKeys, srcOrder, mid, high, depth + 1);
+
+		if (srcKeys[mid - 1] <= srcKeys[mid]) {
+			System.arraycopy(srcKeys, low, destKeys, low, high - low);
+			System.arraycopy(srcOrder, low, destOrder, low, high - low);
+			return;
+		}
+		int left = low;
+		int right = mid;
+		for (int i = low; i < high; i++) {
+			if (right >= high || left < mid && srcKeys[left] <= srcKeys[right]) {
+				destKeys[i] = srcKeys[left];
+				destOrder[i] = srcOrder[left++];
+			} else {
+				destKeys[i] = srcKeys[right];
+				destOrder[i] = srcOrder[right++];
+			}
+		}
+	}
+}
@@ -31,24 +31,47 @@ public class MergeSorter<E extends Comparable<E>> extends AbstractComparisonSort
     }
     
     /**
-     * Sorts elements using a MergeSort Algorithm
+     * Sorts a range of elements using a MergeSort Algorithm
      * @param data the array that will be sorted
+     * @param from the index of the first element to sort
+     * @param to one past the index of the last element to sort
      */
 	@Override
-	public void sort(E[] data) {
-		int n = data.length;
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		SortInstrumentation instrumentation = getInstrumentation();
+		long start = instrumentation.startPhase();
+		mergeSort(data, from, to, 1, instrumentation);
+		instrumentation.endPhase("sort", start);
+	}
+	
+	/**
+	 * Sorts data[from, to) by sorting copies of each half and merging them back
+	 * @param data the array that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to one past the index of the last element to sort
+	 * @param depth the recursion depth of this call, starting at 1
+	 * @param instrumentation the instrumentation that records the moves, copies, and depth
+	 */
+	private void mergeSort(E[] data, int from, int to, int depth, SortInstrumentation instrumentation) {
+		int n = to - from;
 		
 		if(n < 2) {
 			return;
 		}
 		
 		else {
-			int mid = n / 2;
-			E[] left = copyArray(data, 0, mid - 1);
-			E[] right = copyArray(data, mid, n - 1);
-			sort(left);
-			sort(right);
-			merge(left, right, data);
+			instrumentation.recordDepth(depth);
+			int mid = from + n / 2;
+			E[] left = copyArray(data, from, mid - 1);
+			E[] right = copyArray(data, mid, to - 1);
+			instrumentation.addArray(left.length, SortInstrumentation.REFERENCE_BYTES);
+			instrumentation.addArray(right.length, SortInstrumentation.REFERENCE_BYTES);
+			mergeSort(left, 0, left.length, depth + 1, instrumentation);
+			mergeSort(right, 0, right.length, depth + 1, instrumentation);
+			merge(left, right, data, from);
+			// Each element is written once into a copy and once back into data
+			instrumentation.addMoves(2L * n);
 		}
 	}
 	
@@ -78,25 +101,26 @@ public class MergeSorter<E extends Comparable<E>> extends AbstractComparisonSort
 	}
 	
 	/**
-	 * Sorts and merges the left and right chunk of the array data so that entire array is now in sorted order
+	 * Sorts and merges the left and right chunk of the array data so that the range of data starting at from is now in sorted order
 	 * @param left the left part of the array that will be used for sorting (left chunk of array)
 	 * @param right the right part of the array that will be used for sorting (right chunk of array)
 	 * @param data the array with all contents that will be adjusted when the left array and right array are compared against eachother
 	 * they will then be "merged" and they will sort the array data (change its value so the array is now sorted)
+	 * @param from the index of data where the merged elements start
 	 */
-	private void merge(E[] left, E[] right, E[] data) {
-		int n = data.length;
+	private void merge(E[] left, E[] right, E[] data, int from) {
+		int n = left.length + right.length;
 		int leftIndex = 0;
 		int rightIndex = 0;
 		
 		while(leftIndex + rightIndex < n) {
 			if(rightIndex == right.length || (leftIndex < left.length) && compare(left[leftIndex], right[rightIndex]) < 0) {
-				data[leftIndex + rightIndex] = left[leftIndex];
+				data[from + leftIndex + rightIndex] = left[leftIndex];
 				leftIndex = leftIndex + 1;
 			}
 			
 			else {
-				data[leftIndex + rightIndex] = right[rightIndex];
+				data[from + leftIndex + rightIndex] = right[rightIndex];
 				rightIndex = rightIndex + 1;
 			}
 		}
@@ -0,0 +1,360 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelMergeSorter sorts arrays of comparable elements using a fork/join
+ * merge sort. Both halves of each subarray are sorted as separate tasks in a
+ * {@link ForkJoinPool}, and the two sorted halves are then merged in parallel by
+ * splitting the larger half at its middle element and binary searching for the
+ * matching split point in the smaller half. Subarrays (and merges) smaller than
+ * the threshold are handled sequentially on the calling worker.
+ *
+ * A single auxiliary array the size of the input is allocated for each call to
+ * sort. The sort is stable and ensures O(nlogn) worst-case work.
+ *
+ * @author Jake Donovan
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class ParallelMergeSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/** The default number of elements at or below which a subarray is sorted sequentially */
+	public static final int DEFAULT_THRESHOLD = 8192;
+
+	/** The number of elements at or below which a subarray is sorted (or merged) sequentially */
+	private int threshold;
+
+	/** The pool whose workers will sort and merge subarrays */
+	private ForkJoinPool pool;
+
+	/**
+	 * Constructs a new ParallelMergeSorter with a custom Comparator, a sequential
+	 * threshold, and the pool that will run the sorting tasks
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 * @param threshold  the number of elements at or below which a subarray is
+	 *                   sorted sequentially
+	 * @param pool       the ForkJoinPool used to run sorting tasks; if null, the
+	 *                   common pool is used
+	 * @throws IllegalArgumentException if the threshold is less than 1
+	 */
+	public ParallelMergeSorter(Comparator<E> comparator, int threshold, ForkJoinPool pool) {
+		super(comparator);
+		setThreshold(threshold);
+		setPool(pool);
+	}
+
+	/**
+	 * Constructs a new ParallelMergeSorter with a custom Comparator and a
+	 * sequential threshold that runs on the common pool
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 * @param threshold  the number of elements at or below which a subarray is
+	 *                   sorted sequentially
+	 */
+	public ParallelMergeSorter(Comparator<E> comparator, int threshold) {
+		this(comparator, threshold, null);
+	}
+
+	/**
+	 * Constructs a new ParallelMergeSorter with a custom Comparator that uses the
+	 * default threshold and the common pool
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 */
+	public ParallelMergeSorter(Comparator<E> comparator) {
+		this(comparator, DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Constructs a new ParallelMergeSorter with comparisons based on the element's
+	 * natural ordering
+	 */
+	public ParallelMergeSorter() {
+		this(null);
+	}
+
+	/**
+	 * Sets the sequential threshold
+	 *
+	 * @param threshold the number of elements at or below which a subarray is
+	 *                  sorted sequentially
+	 * @throws IllegalArgumentException if the threshold is less than 1
+	 */
+	private void setThreshold(int threshold) {
+		if (threshold < 1) {
+			throw new IllegalArgumentException("Threshold must be at least 1: " + threshold);
+		}
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Sets the pool that will run the sorting tasks
+	 *
+	 * @param pool the ForkJoinPool to use; if null, the common pool is used
+	 */
+	private void setPool(ForkJoinPool pool) {
+		if (pool == null) {
+			this.pool = ForkJoinPool.commonPool();
+		} else {
+			this.pool = pool;
+		}
+	}
+
+	/**
+	 * Sorts a range of elements using a parallel MergeSort algorithm
+	 *
+	 * @param data the array that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to   one past the index of the last element to sort
+	 */
+	@Override
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		int n = to - from;
+		if (n < 2) {
+			return;
+		}
+		SortInstrumentation instrumentation = getInstrumentation();
+		long start = instrumentation.startPhase();
+		@SuppressWarnings("unchecked")
+		E[] aux = (E[]) new Comparable[n];
+		instrumentation.addArray(n, SortInstrumentation.REFERENCE_BYTES);
+		if (n <= threshold) {
+			sequentialSort(data, aux, from, from, to, 1);
+		} else {
+			pool.invoke(new SortTask(data, aux, from, from, to, 1));
+		}
+		instrumentation.endPhase("sort", start);
+	}
+
+	/**
+	 * Sorts the elements of data from index low (inclusive) to high (exclusive)
+	 * with a top-down merge sort on the calling thread
+	 *
+	 * @param data the array that will be sorted
+	 * @param aux  an auxiliary array as long as the range being sorted
+	 * @param base the index in data that aux[0] stands for
+	 * @param low  the first index to sort
+	 * @param high one past the last index to sort
+	 * @param depth the recursion depth of this call, starting at 1
+	 */
+	private void sequentialSort(E[] data, E[] aux, int base, int low, int high, int depth) {
+		if (high - low < 2) {
+			return;
+		}
+		getInstrumentation().recordDepth(depth);
+		int mid = (low + high) >>> 1;
+		sequentialSort(data, aux, base, low, mid, depth + 1);
+		sequentialSort(data, aux, base, mid, high, depth + 1);
+		if (compare(data[mid - 1], data[mid]) <= 0) {
+			return;
+		}
+		// The range is copied into aux and merged back
+		getInstrumentation().addMoves(2L * (high - low));
+		System.arraycopy(data, low, aux, low - base, high - low);
+		sequentialMerge(aux, low - base, mid - base, mid - base, high - base, data, low);
+	}
+
+	/**
+	 * Merges the sorted runs src[lowA, highA) and src[lowB, highB) into dest
+	 * starting at index destIndex. Ties are taken from the first run so the merge
+	 * is stable.
+	 *
+	 * @param src       the array holding both runs
+	 * @param lowA      the first index of the first run
+	 * @param highA     one past the last index of the first run
+	 * @param lowB      the first index of the second run
+	 * @param highB     one past the last index of the second run
+	 * @param dest      the array the merged run is written into
+	 * @param destIndex the index in dest where the merged run starts
+	 */
+	private void sequentialMerge(E[] src, int lowA, int highA, int lowB, int highB, E[] dest, int destIndex) {
+		int a = lowA;
+		int b = lowB;
+		int d = destIndex;
+		while (a < highA && b < highB) {
+			if (compare(src[b], src[a]) < 0) {
+				dest[d++] = src[b++];
+			} else {
+				dest[d++] = src[a++];
+			}
+		}
+		System.arraycopy(src, a, dest, d, highA - a);
+		System.arraycopy(src, b, dest, d + (highA - a), highB - b);
+	}
+
+	/**
+	 * Returns the first index in the sorted run src[low, high) whose element is
+	 * not less than key (or, if inclusive, is greater than key)
+	 *
+	 * @param src       the array holding the run
+	 * @param low       the first index of the run
+	 * @param high      one past the last index of the run
+	 * @param key       the element to search for
+	 * @param inclusive true to skip over elements equal to key
+	 * @return the split index within [low, high]
+	 */
+	private int search(E[] src, int low, int high, E key, boolean inclusive) {
+		int lo = low;
+		int hi = high;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			int c = compare(src[mid], key);
+			if (c < 0 || (inclusive && c == 0)) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * A fork/join task that sorts data[low, high) in place
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	private class SortTask extends RecursiveAction {
+		/** Serial version UID required by RecursiveAction */
+		private static final long serialVersionUID = 1L;
+		/** The array being sorted */
+		private E[] data;
+		/** The auxiliary array used while merging */
+		private E[] aux;
+		/** The index in data that aux[0] stands for */
+		private int base;
+		/** The first index to sort */
+		private int low;
+		/** One past the last index to sort */
+		private int high;
+		/** The recursion depth of this task, starting at 1 */
+		private int depth;
+
+		/**
+		 * Constructs a task that sorts data[low, high)
+		 *
+		 * @param data  the array being sorted
+		 * @param aux   the auxiliary array used while merging
+		 * @param base  the index in data that aux[0] stands for
+		 * @param low   the first index to sort
+		 * @param high  one past the last index to sort
+		 * @param depth the recursion depth of this task, starting at 1
+		 */
+		SortTask(E[] data, E[] aux, int base, int low, int high, int depth) {
+			this.data = data;
+			this.aux = aux;
+			this.base = base;
+			this.low = low;
+			this.high = high;
+			this.depth = depth;
+		}
+
+		/**
+		 * Sorts both halves in parallel, then merges them in parallel
+		 */
+		@Override
+		protected void compute() {
+			if (high - low <= threshold) {
+				sequentialSort(data, aux, base, low, high, depth);
+				return;
+			}
+			getInstrumentation().recordDepth(depth);
+			int mid = (low + high) >>> 1;
+			invokeAll(new SortTask(data, aux, base, low, mid, depth + 1),
+					new SortTask(data, aux, base, mid, high, depth + 1));
+			if (compare(data[mid - 1], data[mid]) <= 0) {
+				return;
+			}
+			getInstrumentation().addMoves(2L * (high - low));
+			System.arraycopy(data, low, aux, low - base, high - low);
+			new MergeTask(aux, low - base, mid - base, mid - base, high - base, data, low).compute();
+		}
+	}
+
+	/**
+	 * A fork/join task that stably merges two sorted runs of one array into
+	 * another array
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	private class MergeTask extends RecursiveAction {
+		/** Serial version UID required by RecursiveAction */
+		private static final long serialVersionUID = 1L;
+		/** The array holding both runs */
+		private E[] src;
+		/** The first index of the first run */
+		private int lowA;
+		/** One past the last index of the first run */
+		private int highA;
+		/** The first index of the second run */
+		private int lowB;
+		/** One past the last index of the second run */
+		private int highB;
+		/** The array the merged run is written into */
+		private E[] dest;
+		/** The index in dest where the merged run starts */
+		private int destIndex;
+
+		/**
+		 * Constructs a task that merges src[lowA, highA) and src[lowB, highB) into
+		 * dest starting at destIndex
+		 *
+		 * @param src       the array holding both runs
+		 * @param lowA      the first index of the first run
+		 * @param highA     one past the last index of the first run
+		 * @param lowB      the first index of the second run
+		 * @param highB     one past the last index of the second run
+		 * @param dest      the array the merged run is written into
+		 * @param destIndex the index in dest where the merged run starts
+		 */
+		MergeTask(E[] src, int lowA, int highA, int lowB, int highB, E[] dest, int destIndex) {
+			this.src = src;
+			this.lowA = lowA;
+			this.highA = highA;
+			this.lowB = lowB;
+			this.highB = highB;
+			this.dest = dest;
+			this.destIndex = destIndex;
+		}
+
+		/**
+		 * Splits the larger run at its middle element, places that element directly,
+		 * finds the matching split in the smaller run, and merges the two lower and
+		 * two upper pieces in parallel
+		 */
+		@Override
+		protected void compute() {
+			int lengthA = highA - lowA;
+			int lengthB = highB - lowB;
+			if (lengthA + lengthB <= threshold || lengthA == 0 || lengthB == 0) {
+				sequentialMerge(src, lowA, highA, lowB, highB, dest, destIndex);
+				return;
+			}
+			int splitA;
+			int splitB;
+			if (lengthA >= lengthB) {
+				splitA = (lowA + highA) >>> 1;
+				// Equal elements of the second run belong after src[splitA]
+				splitB = search(src, lowB, highB, src[splitA], false);
+				int splitDest = destIndex + (splitA - lowA) + (splitB - lowB);
+				dest[splitDest] = src[splitA];
+				invokeAll(new MergeTask(src, lowA, splitA, lowB, splitB, dest, destIndex),
+						new MergeTask(src, splitA + 1, highA, splitB, highB, dest, splitDest + 1));
+			} else {
+				splitB = (lowB + highB) >>> 1;
+				// Equal elements of the first run belong before src[splitB]
+				splitA = search(src, lowA, highA, src[splitB], true);
+				int splitDest = destIndex + (splitA - lowA) + (splitB - lowB);
+				dest[splitDest] = src[splitB];
+				invokeAll(new MergeTask(src, lowA, splitA, lowB, splitB, dest, destIndex),
+						new MergeTask(src, splitA, highA, splitB + 1, highB, dest, splitDest + 1));
+			}
+		}
+	}
+}
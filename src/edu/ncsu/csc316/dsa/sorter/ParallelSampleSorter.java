@@ -0,0 +1,259 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * ParallelSampleSorter sorts arrays of comparable elements with a parallel
+ * sample sort, which has no final sequential merge. A random sample of
+ * OVERSAMPLING elements per worker is sorted, and every OVERSAMPLING-th sample
+ * element becomes a splitter. The workers then each classify one slice of the
+ * input by binary searching the splitters. The elements are scattered stably
+ * into their buckets with {@link ParallelScatter}, and every bucket is sorted
+ * independently, in parallel, with a {@link RunMergeSorter}.
+ *
+ * Equal splitters are merged, and each splitter gets a bucket of its own for
+ * the elements equal to it. Those buckets need no sorting, so heavily
+ * duplicated keys cannot pile up in a single bucket. Inputs at or below the
+ * threshold are sorted sequentially.
+ *
+ * The sort is stable. It uses O(nlogn) expected work and an auxiliary array
+ * and key array the size of the input.
+ *
+ * @author Jake Donovan
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class ParallelSampleSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/** The default number of elements at or below which an input is sorted sequentially */
+	public static final int DEFAULT_THRESHOLD = 8192;
+
+	/** The number of sample elements drawn for each bucket */
+	public static final int OVERSAMPLING = 32;
+
+	/** The number of workers, and of buckets between splitters */
+	private int parallelism;
+
+	/** The number of elements at or below which an input is sorted sequentially */
+	private int threshold;
+
+	/** The pool whose workers classify, scatter, and sort */
+	private ForkJoinPool pool;
+
+	/** Sorts the sample, the buckets, and small inputs */
+	private RunMergeSorter<E> sequentialSorter;
+
+	/**
+	 * Constructs a new ParallelSampleSorter with a custom Comparator, a number of
+	 * workers, a sequential threshold, and the pool that will run the workers
+	 *
+	 * @param comparator  a custom Comparator to use when sorting
+	 * @param parallelism the number of workers and buckets
+	 * @param threshold   the number of elements at or below which an input is
+	 *                    sorted sequentially
+	 * @param pool        the ForkJoinPool used to run the workers; if null, the
+	 *                    common pool is used
+	 * @throws IllegalArgumentException if parallelism or threshold is less than 1
+	 */
+	public ParallelSampleSorter(Comparator<E> comparator, int parallelism, int threshold, ForkJoinPool pool) {
+		super(comparator);
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+		}
+		if (threshold < 1) {
+			throw new IllegalArgumentException("Threshold must be at least 1: " + threshold);
+		}
+		this.parallelism = parallelism;
+		this.threshold = threshold;
+		if (pool == null) {
+			this.pool = ForkJoinPool.commonPool();
+		} else {
+			this.pool = pool;
+		}
+		sequentialSorter = new RunMergeSorter<E>(comparator);
+	}
+
+	/**
+	 * Constructs a new ParallelSampleSorter with a custom Comparator and a number
+	 * of workers that runs on the common pool
+	 *
+	 * @param comparator  a custom Comparator to use when sorting
+	 * @param parallelism the number of workers and buckets
+	 */
+	public ParallelSampleSorter(Comparator<E> comparator, int parallelism) {
+		this(comparator, parallelism, DEFAULT_THRESHOLD, null);
+	}
+
+	/**
+	 * Constructs a new ParallelSampleSorter with a custom Comparator that uses
+	 * one worker for each thread of the common pool
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 */
+	public ParallelSampleSorter(Comparator<E> comparator) {
+		this(comparator, ForkJoinPool.getCommonPoolParallelism());
+	}
+
+	/**
+	 * Constructs a new ParallelSampleSorter with comparisons based on the
+	 * element's natural ordering
+	 */
+	public ParallelSampleSorter() {
+		this(null);
+	}
+
+	/**
+	 * Attaches instrumentation to this sorter and to the sorter it uses for the
+	 * sample, the buckets, and small inputs
+	 *
+	 * @param instrumentation the instrumentation to record into; if null, recording
+	 *                        stops
+	 */
+	@Override
+	public void setInstrumentation(SortInstrumentation instrumentation) {
+		super.setInstrumentation(instrumentation);
+		sequentialSorter.setInstrumentation(instrumentation);
+	}
+
+	/**
+	 * Sorts a range of elements using a parallel sample sort
+	 *
+	 * @param data the array that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to   one past the index of the last element to sort
+	 */
+	@Override
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		int n = to - from;
+		if (n <= threshold || parallelism == 1) {
+			sequentialSorter.sort(data, from, to);
+			return;
+		}
+
+		SortInstrumentation instrumentation = getInstrumentation();
+		long phaseStart = instrumentation.startPhase();
+		E[] splitters = chooseSplitters(data, from, to);
+		instrumentation.endPhase("sample", phaseStart);
+		phaseStart = instrumentation.startPhase();
+		int splitterCount = splitters.length;
+		// Bucket 2i holds the elements between splitters i - 1 and i; bucket 2i + 1 the elements equal to splitter i
+		int buckets = 2 * splitterCount + 1;
+		int workers = parallelism;
+		int[] keys = new int[n];
+		int[] counts = new int[workers * buckets];
+		instrumentation.addArray(n, Integer.BYTES);
+		instrumentation.addArray(counts.length, Integer.BYTES);
+		ParallelScatter.forEachWorker(workers, pool, w -> {
+			int end = ParallelScatter.sliceEnd(n, workers, w);
+			for (int i = ParallelScatter.sliceEnd(n, workers, w - 1); i < end; i++) {
+				keys[i] = bucketOf(data[from + i], splitters);
+				counts[w * buckets + keys[i]]++;
+			}
+		});
+
+		@SuppressWarnings("unchecked")
+		E[] aux = (E[]) new Comparable[n];
+		instrumentation.addArray(n, SortInstrumentation.REFERENCE_BYTES);
+		instrumentation.endPhase("classify", phaseStart);
+		phaseStart = instrumentation.startPhase();
+		if (!ParallelScatter.scatter(data, from, keys, aux, 0, null, n, buckets, IntUnaryOperator.identity(), workers,
+				pool)) {
+			instrumentation.endPhase("scatter", phaseStart);
+			// Every element is in one bucket
+			if (keys[0] % 2 == 0) {
+				phaseStart = instrumentation.startPhase();
+				sequentialSorter.sort(data, from, to);
+				instrumentation.endPhase("buckets", phaseStart);
+			}
+			return;
+		}
+		instrumentation.addMoves(n);
+		instrumentation.endPhase("scatter", phaseStart);
+		phaseStart = instrumentation.startPhase();
+
+		int[] bucketStarts = new int[buckets + 1];
+		for (int b = 0; b < buckets; b++) {
+			int total = 0;
+			for (int w = 0; w < workers; w++) {
+				total += counts[w * buckets + b];
+			}
+			bucketStarts[b + 1] = bucketStarts[b] + total;
+		}
+		ParallelScatter.forEachWorker(buckets, pool, b -> {
+			int start = bucketStarts[b];
+			int end = bucketStarts[b + 1];
+			System.arraycopy(aux, start, data, from + start, end - start);
+			if (b % 2 == 0 && end - start > 1) {
+				sequentialSorter.sort(data, from + start, from + end);
+			}
+		});
+		instrumentation.addMoves(n);
+		instrumentation.endPhase("buckets", phaseStart);
+	}
+
+	/**
+	 * Sorts a random sample of the range and returns every OVERSAMPLING-th
+	 * element of it, with equal splitters merged
+	 *
+	 * @param data the array being sorted
+	 * @param from the index of the first element to sort
+	 * @param to   one past the index of the last element to sort
+	 * @return the distinct splitters in ascending order
+	 */
+	private E[] chooseSplitters(E[] data, int from, int to) {
+		int sampleSize = (int) Math.min((long) parallelism * OVERSAMPLING, to - from);
+		@SuppressWarnings("unchecked")
+		E[] sample = (E[]) new Comparable[sampleSize];
+		getInstrumentation().addArray(sampleSize, SortInstrumentation.REFERENCE_BYTES);
+		getInstrumentation().addMoves(sampleSize);
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < sampleSize; i++) {
+			sample[i] = data[random.nextInt(from, to)];
+		}
+		sequentialSorter.sort(sample);
+
+		@SuppressWarnings("unchecked")
+		E[] splitters = (E[]) new Comparable[parallelism - 1];
+		int count = 0;
+		for (int i = 1; i < parallelism; i++) {
+			E splitter = sample[(int) ((long) sampleSize * i / parallelism)];
+			if (count == 0 || compare(splitters[count - 1], splitter) < 0) {
+				splitters[count++] = splitter;
+			}
+		}
+		@SuppressWarnings("unchecked")
+		E[] distinct = (E[]) new Comparable[count];
+		System.arraycopy(splitters, 0, distinct, 0, count);
+		return distinct;
+	}
+
+	/**
+	 * Returns the bucket of an element: 2i if it is greater than splitter i - 1
+	 * and less than splitter i, or 2i + 1 if it is equal to splitter i
+	 *
+	 * @param x         the element to classify
+	 * @param splitters the distinct splitters in ascending order
+	 * @return the bucket of x
+	 */
+	private int bucketOf(E x, E[] splitters) {
+		int lo = 0;
+		int hi = splitters.length;
+		// Find the first splitter that is not less than x
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (compare(splitters[mid], x) < 0) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		if (lo < splitters.length && compare(splitters[lo], x) == 0) {
+			return 2 * lo + 1;
+		}
+		return 2 * lo;
+	}
+}
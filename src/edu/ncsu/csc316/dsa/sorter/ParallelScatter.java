@@ -0,0 +1,169 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * ParallelScatter performs one stable counting-sort pass over cached integer
+ * keys using several workers, and is shared by the parallel modes of
+ * {@link CountingSorter} and {@link RadixSorter}.
+ *
+ * The input is split into one contiguous slice per worker. Each worker counts
+ * the buckets of its own slice into a local histogram; the histograms are laid
+ * out bucket-major (all workers' counts for bucket 0, then bucket 1, ...) and
+ * turned into output offsets with a parallel prefix sum; finally each worker
+ * scatters its slice, in order, starting at its own offset for each bucket.
+ * Since every worker writes a disjoint set of output indexes and earlier
+ * slices receive earlier indexes within a bucket, the pass is stable.
+ *
+ * @author Jake Donovan
+ *
+ */
+final class ParallelScatter {
+
+	/** Inputs smaller than this are not worth splitting between workers */
+	static final int MIN_PARALLEL_LENGTH = 1 << 14;
+
+	/**
+	 * ParallelScatter only provides static behaviors
+	 */
+	private ParallelScatter() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Stably moves src[srcOffset + i] and srcKeys[i], for i in [0, n), into dest
+	 * starting at destOffset and into destKeys starting at 0, ordered by the
+	 * bucket of each key. If every key falls in the same bucket, nothing is
+	 * written and false is returned so the caller can skip the pass.
+	 *
+	 * @param <E>        the type of elements being sorted
+	 * @param src        the elements to scatter
+	 * @param srcOffset  the index in src of the first element
+	 * @param srcKeys    the cached key of each element, starting at index 0
+	 * @param dest       the array receiving the elements
+	 * @param destOffset the index in dest where the first element is written
+	 * @param destKeys   the array receiving the keys (may be null if the keys
+	 *                   are no longer needed)
+	 * @param n          the number of elements to scatter
+	 * @param buckets    the number of buckets
+	 * @param bucketOf   maps a key to its bucket in [0, buckets)
+	 * @param workers    the number of workers (slices)
+	 * @param pool       the pool that runs the workers
+	 * @return true if the elements were scattered; false if the pass was skipped
+	 */
+	static <E> boolean scatter(E[] src, int srcOffset, int[] srcKeys, E[] dest, int destOffset, int[] destKeys,
+			int n, int buckets, IntUnaryOperator bucketOf, int workers, ForkJoinPool pool) {
+		int[] counts = new int[buckets * workers];
+
+		// Phase 1: each worker builds a histogram of its own slice
+		forEachWorker(workers, pool, w -> {
+			int end = sliceEnd(n, workers, w);
+			for (int i = sliceEnd(n, workers, w - 1); i < end; i++) {
+				counts[bucketOf.applyAsInt(srcKeys[i]) * workers + w]++;
+			}
+		});
+
+		int firstBucket = bucketOf.applyAsInt(srcKeys[0]);
+		int firstBucketTotal = 0;
+		for (int w = 0; w < workers; w++) {
+			firstBucketTotal += counts[firstBucket * workers + w];
+		}
+		if (firstBucketTotal == n) {
+			return false;
+		}
+
+		// Phase 2: a parallel prefix sum over the bucket-major histograms
+		int[] prefix = counts.clone();
+		Arrays.parallelPrefix(prefix, Integer::sum);
+
+		// Phase 3: each worker turns its counts into start indexes, then scatters its slice in order
+		forEachWorker(workers, pool, w -> {
+			for (int j = w; j < counts.length; j += workers) {
+				counts[j] = prefix[j] - counts[j];
+			}
+			int end = sliceEnd(n, workers, w);
+			for (int i = sliceEnd(n, workers, w - 1); i < end; i++) {
+				int key = srcKeys[i];
+				int index = counts[bucketOf.applyAsInt(key) * workers + w]++;
+				dest[destOffset + index] = src[srcOffset + i];
+				if (destKeys != null) {
+					destKeys[index] = key;
+				}
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * Returns one past the last index of a worker's slice. The slice of worker w
+	 * is [sliceEnd(n, workers, w - 1), sliceEnd(n, workers, w)).
+	 *
+	 * @param n       the number of items being split
+	 * @param workers the number of slices
+	 * @param w       the worker index, or -1 for the start of the first slice
+	 * @return one past the last index of the slice
+	 */
+	static int sliceEnd(int n, int workers, int w) {
+		return (int) ((long) n * (w + 1) / workers);
+	}
+
+	/**
+	 * Runs body once for each worker index in [0, workers) on the pool and waits
+	 * for all of them to finish
+	 *
+	 * @param workers the number of workers
+	 * @param pool    the pool that runs the workers
+	 * @param body    the work for a single worker index
+	 */
+	static void forEachWorker(int workers, ForkJoinPool pool, IntConsumer body) {
+		pool.invoke(new WorkerTask(body, 0, workers));
+	}
+
+	/**
+	 * A fork/join task that runs one worker body per index in its range, splitting
+	 * the range in half until a single index remains
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	private static class WorkerTask extends RecursiveAction {
+		/** Serial version UID required by RecursiveAction */
+		private static final long serialVersionUID = 1L;
+		/** The work for a single worker index */
+		private IntConsumer body;
+		/** The first worker index */
+		private int low;
+		/** One past the last worker index */
+		private int high;
+
+		/**
+		 * Constructs a task that runs body for every worker index in [low, high)
+		 *
+		 * @param body the work for a single worker index
+		 * @param low  the first worker index
+		 * @param high one past the last worker index
+		 */
+		WorkerTask(IntConsumer body, int low, int high) {
+			this.body = body;
+			this.low = low;
+			this.high = high;
+		}
+
+		/**
+		 * Runs a single worker, or splits the range of workers in half
+		 */
+		@Override
+		protected void compute() {
+			if (high - low == 1) {
+				body.accept(low);
+				return;
+			}
+			int mid = (low + high) >>> 1;
+			invokeAll(new WorkerTask(body, low, mid), new WorkerTask(body, mid, high));
+		}
+	}
+}
@@ -6,12 +6,19 @@ import java.util.Comparator;
  * QuickSorter sorts arrays of comparable elements using the quicksort
  * algorithm. This implementation allows the client to specify a specific pivot
  * selection strategy: (a) use the first element as the pivot, (b) use the last
- * element as the pivot, (c) use the middle element as the pivot, or (d) use an
- * element at a random index as the pivot.
+ * element as the pivot, (c) use the middle element as the pivot, (d) use an
+ * element at a random index as the pivot, (e) use the median of the first,
+ * middle, and last elements as the pivot, or (f) use Tukey's ninther as the
+ * pivot.
  * 
  * Using the randomized pivot selection strategy ensures O(nlogn)
  * expected/average case runtime when sorting n elements that are comparable
  * 
+ * The client may also choose how each range is partitioned: Lomuto
+ * partitioning around one pivot (the default), Yaroslavskiy's dual-pivot
+ * partitioning, or BlockQuicksort-style block partitioning. See
+ * {@link PartitionScheme}.
+ * 
  * @author Dr. King
  *
  * @param <E> the type of elements to sort; elements must be {@link Comparable}
@@ -21,6 +28,12 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
 	/** Used to keep track of pivot selector */
 	private PivotSelector selector;
 	
+	/** Used to keep track of the partitioning scheme */
+	private PartitionScheme scheme;
+	
+	/** The number of elements each side of a block partition classifies at a time */
+	private static final int BLOCK_SIZE = 128;
+	
     /**
      * Pivot selection strategy that uses the element at the first index each time a
      * pivot must be selected
@@ -44,6 +57,57 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
      * each time a pivot must be selected
      */
     public static final PivotSelector RANDOM_ELEMENT_SELECTOR = new RandomElementSelector();
+    
+    /**
+     * Pivot selection strategy that uses the median of the first, middle, and last
+     * elements each time a pivot must be selected
+     */
+    public static final PivotSelector MEDIAN_OF_THREE_SELECTOR = new MedianOfThreeSelector();
+    
+    /**
+     * Pivot selection strategy that uses Tukey's ninther (the median of three
+     * medians of three) each time a pivot must be selected from a large range
+     */
+    public static final PivotSelector NINTHER_SELECTOR = new NintherSelector();
+	
+    /**
+     * The partitioning schemes a QuickSorter can use to split a range around its
+     * pivot(s)
+     * 
+     * @author Jake Donovan
+     *
+     */
+    public enum PartitionScheme {
+        /** A single pivot with Lomuto partitioning, scanning the range once from the left */
+        LOMUTO,
+        /**
+         * Two pivots splitting each range into three parts (Yaroslavskiy), which
+         * needs fewer comparisons and scanned elements than a single pivot
+         */
+        DUAL_PIVOT,
+        /**
+         * A single pivot with Hoare-style block partitioning (BlockQuicksort): each
+         * side classifies a block of elements into a buffer of offsets without
+         * branching on the comparison results, then the misplaced elements are
+         * swapped in one pass
+         */
+        BLOCK
+    }
+	
+    /**
+     * Constructs a new QuickSorter with a provided custom Comparator, a specified
+     * PivotSelector strategy, and a specified PartitionScheme
+     * 
+     * @param comparator a custom comparator to use when sorting
+     * @param selector   the pivot selection strategy to use when selecting pivots
+     * @param scheme     the partitioning scheme to use; if null, Lomuto
+     *                   partitioning is used
+     */
+    public QuickSorter(Comparator<E> comparator, PivotSelector selector, PartitionScheme scheme) {
+        super(comparator);
+        setSelector(selector);
+        setScheme(scheme);
+    }
 	
     /**
      * Constructs a new QuickSorter with a provided custom Comparator and a
@@ -53,8 +117,7 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
      * @param selector   the pivot selection strategy to use when selecting pivots
      */
     public QuickSorter(Comparator<E> comparator, PivotSelector selector) {
-        super(comparator);
-        setSelector(selector);
+        this(comparator, selector, null);
     }
 
     /**
@@ -99,6 +162,18 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
         }
     }
     
+    /**
+     * Sets the partitioning scheme used to split each range around its pivot(s)
+     * @param scheme the partitioning scheme; if null, Lomuto partitioning is used
+     */
+    private void setScheme(PartitionScheme scheme) {
+        if(scheme == null) {
+            this.scheme = PartitionScheme.LOMUTO;
+        } else {
+            this.scheme = scheme;
+        }
+    }
+    
     
     /**
      * Defines the behaviors of a PivotSelector
@@ -106,7 +181,7 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
      * @author Dr. King
      *
      */
-    private interface PivotSelector {
+    public interface PivotSelector {
         /**
          * Returns the index of the selected pivot element
          * 
@@ -115,6 +190,22 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
          * @return the index of the selected pivot element
          */
         int selectPivot(int low, int high);
+        
+        /**
+         * Returns the index of the selected pivot element when the selector is allowed
+         * to look at the elements being sorted. Selectors that only need the indexes
+         * do not have to override this behavior.
+         * 
+         * @param <E>        the type of elements being sorted
+         * @param data       the array being sorted
+         * @param low        the lowest index to consider
+         * @param high       the highest index to consider
+         * @param comparator the comparator used to order the elements
+         * @return the index of the selected pivot element
+         */
+        default <E> int selectPivot(E[] data, int low, int high, Comparator<? super E> comparator) {
+            return selectPivot(low, high);
+        }
     }
     
     /**
@@ -198,12 +289,129 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
     }
     
     /**
-     * Sorts elements using a QuickSort algorithm
+     * MedianOfThreeSelector chooses the index of the median of the first, middle,
+     * and last elements of the range as the index of the pivot element. This avoids
+     * the worst case on sorted and reverse-sorted input.
+     * 
+     * @author Jake Donovan
+     *
+     */
+    public static class MedianOfThreeSelector implements PivotSelector {
+    	/**
+    	 * Without access to the elements, falls back to the middle index
+    	 * @param low the low index
+    	 * @param high the high index
+    	 * @return Integer the middle index of the range
+    	 */
+        @Override
+        public int selectPivot(int low, int high) {
+            return (high + low) >>> 1;
+        }
+        
+    	/**
+    	 * Selects the index of the median of the first, middle, and last elements
+    	 * @param data the array being sorted
+    	 * @param low the low index
+    	 * @param high the high index
+    	 * @param comparator the comparator used to order the elements
+    	 * @return Integer the index of the median element
+    	 */
+        @Override
+        public <E> int selectPivot(E[] data, int low, int high, Comparator<? super E> comparator) {
+            return medianOfThree(data, low, (high + low) >>> 1, high, comparator);
+        }
+    }
+    
+    /**
+     * NintherSelector chooses Tukey's ninther as the index of the pivot element:
+     * the median of the medians of three groups of three elements spread evenly
+     * across the range. Small ranges use a plain median of three.
+     * 
+     * @author Jake Donovan
+     *
+     */
+    public static class NintherSelector implements PivotSelector {
+    	/** Ranges at least this long use the ninther instead of a median of three */
+    	private static final int NINTHER_THRESHOLD = 40;
+    	
+    	/**
+    	 * Without access to the elements, falls back to the middle index
+    	 * @param low the low index
+    	 * @param high the high index
+    	 * @return Integer the middle index of the range
+    	 */
+        @Override
+        public int selectPivot(int low, int high) {
+            return (high + low) >>> 1;
+        }
+        
+    	/**
+    	 * Selects the index of the ninther of the range
+    	 * @param data the array being sorted
+    	 * @param low the low index
+    	 * @param high the high index
+    	 * @param comparator the comparator used to order the elements
+    	 * @return Integer the index of the ninther element
+    	 */
+        @Override
+        public <E> int selectPivot(E[] data, int low, int high, Comparator<? super E> comparator) {
+            int mid = (high + low) >>> 1;
+            if (high - low + 1 < NINTHER_THRESHOLD) {
+                return medianOfThree(data, low, mid, high, comparator);
+            }
+            int step = (high - low + 1) / 8;
+            int first = medianOfThree(data, low, low + step, low + 2 * step, comparator);
+            int middle = medianOfThree(data, mid - step, mid, mid + step, comparator);
+            int last = medianOfThree(data, high - 2 * step, high - step, high, comparator);
+            return medianOfThree(data, first, middle, last, comparator);
+        }
+    }
+    
+    /**
+     * Returns whichever of the indexes i, j, and k holds the median of the three
+     * elements at those indexes
+     * @param <E> the type of elements being compared
+     * @param data the array holding the elements
+     * @param i the first index
+     * @param j the second index
+     * @param k the third index
+     * @param comparator the comparator used to order the elements
+     * @return Integer the index of the median element
+     */
+    private static <E> int medianOfThree(E[] data, int i, int j, int k, Comparator<? super E> comparator) {
+        if (comparator.compare(data[i], data[j]) < 0) {
+            if (comparator.compare(data[j], data[k]) < 0) {
+                return j;
+            }
+            return comparator.compare(data[i], data[k]) < 0 ? k : i;
+        }
+        if (comparator.compare(data[k], data[j]) < 0) {
+            return j;
+        }
+        return comparator.compare(data[k], data[i]) < 0 ? k : i;
+    }
+    
+    /**
+     * Sorts a range of elements using a QuickSort algorithm
      * @param data the array of elements that will be sorted
+     * @param from the index of the first element to sort
+     * @param to one past the index of the last element to sort
      */
 	@Override
-	public void sort(E[] data) {
-		quickSort(data, 0, data.length - 1);
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		SortInstrumentation instrumentation = getInstrumentation();
+		long start = instrumentation.startPhase();
+		if(scheme == PartitionScheme.DUAL_PIVOT) {
+			dualPivotQuickSort(data, from, to - 1, 1);
+		} else if(scheme == PartitionScheme.BLOCK) {
+			instrumentation.addArray(BLOCK_SIZE, Integer.BYTES);
+			instrumentation.addArray(BLOCK_SIZE, Integer.BYTES);
+			blockQuickSort(data, from, to - 1, new int[BLOCK_SIZE], new int[BLOCK_SIZE], 1);
+		} else {
+			quickSort(data, from, to - 1, 1);
+		}
+		instrumentation.endPhase("sort", start);
 	}
 	
 	/**
@@ -212,12 +420,14 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
 	 * @param data the array of elements
 	 * @param low the low index
 	 * @param high the high indexx
+	 * @param depth the recursion depth of this call, starting at 1
 	 */
-	private void quickSort(E[] data, int low, int high) {
+	private void quickSort(E[] data, int low, int high, int depth) {
 		if(low < high) {
+			getInstrumentation().recordDepth(depth);
 			int pivotLocation = partition(data, low, high);
-			quickSort(data, low, pivotLocation - 1);
-			quickSort(data, pivotLocation + 1, high);
+			quickSort(data, low, pivotLocation - 1, depth + 1);
+			quickSort(data, pivotLocation + 1, high, depth + 1);
 		}
 	}
 	
@@ -232,7 +442,7 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
 	 * @return Integer the pivot index
 	 */
 	private int partition(E[] data, int low, int high) {
-		int pivotIndex = this.selector.selectPivot(low, high);
+		int pivotIndex = this.selector.selectPivot(data, low, high, this::compare);
 		swap(data, pivotIndex, high);
 		return partitionHelper(data, low, high);
 	}
@@ -249,21 +459,236 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
 		E pivot = data[high];
 		
 		int index = low;
+		// Includes the swap in partition() that moved the pivot to high
+		long swaps = 1;
 		
 		for(int j = low; j <= high - 1; j++) {
 			if(compare(data[j], pivot) < 0) {
 				swap(data, index, j);
+				swaps++;
 				index = index + 1;
 			}
 		}
 		
 		swap(data, index, high);
+		getInstrumentation().addMoves(2 * (swaps + 1));
 		return index;
 	}
 	
+	/**
+	 * Sorts data[low, high] by splitting it around two pivots into elements less
+	 * than the smaller pivot, elements between the pivots, and elements greater than
+	 * the larger pivot. The pivots are chosen by applying the pivot selector to
+	 * each half of the range.
+	 * @param data the array of elements
+	 * @param low the low index
+	 * @param high the high index
+	 * @param depth the recursion depth of this call, starting at 1
+	 */
+	private void dualPivotQuickSort(E[] data, int low, int high, int depth) {
+		int lo = low;
+		int hi = high;
+		if(lo < hi) {
+			getInstrumentation().recordDepth(depth);
+		}
+		// Recurse into the two smaller parts and loop on the largest to keep the stack shallow
+		while(lo < hi) {
+			int[] bounds = dualPivotPartition(data, lo, hi);
+			int less = bounds[0];
+			int great = bounds[1];
+			int leftSize = less - lo;
+			int middleSize = great - less - 1;
+			int rightSize = hi - great;
+			// When the pivots are equal, everything between them equals both pivots
+			boolean sortMiddle = compare(data[less], data[great]) < 0;
+			if(!sortMiddle) {
+				middleSize = 0;
+			}
+			if(leftSize >= middleSize && leftSize >= rightSize) {
+				if(sortMiddle) {
+					dualPivotQuickSort(data, less + 1, great - 1, depth + 1);
+				}
+				dualPivotQuickSort(data, great + 1, hi, depth + 1);
+				hi = less - 1;
+			} else if(rightSize >= middleSize) {
+				dualPivotQuickSort(data, lo, less - 1, depth + 1);
+				if(sortMiddle) {
+					dualPivotQuickSort(data, less + 1, great - 1, depth + 1);
+				}
+				lo = great + 1;
+			} else {
+				dualPivotQuickSort(data, lo, less - 1, depth + 1);
+				dualPivotQuickSort(data, great + 1, hi, depth + 1);
+				lo = less + 1;
+				hi = great - 1;
+			}
+		}
+	}
+	
+	/**
+	 * Partitions data[low, high] around two pivots, leaving the smaller pivot at the
+	 * first returned index and the larger pivot at the second returned index
+	 * @param data the array of elements
+	 * @param low the low index
+	 * @param high the high index
+	 * @return bounds the final indexes of the smaller and larger pivots
+	 */
+	private int[] dualPivotPartition(E[] data, int low, int high) {
+		int mid = (low + high) >>> 1;
+		swap(data, this.selector.selectPivot(data, low, mid, this::compare), low);
+		swap(data, this.selector.selectPivot(data, mid + 1, high, this::compare), high);
+		long swaps = 2;
+		if(compare(data[low], data[high]) > 0) {
+			swap(data, low, high);
+			swaps++;
+		}
+		E smallPivot = data[low];
+		E largePivot = data[high];
+		
+		// Invariant: (low, less) < smallPivot, [less, k) between, (great, high) > largePivot
+		int less = low + 1;
+		int great = high - 1;
+		int k = less;
+		while(k <= great) {
+			if(compare(data[k], smallPivot) < 0) {
+				swap(data, k, less);
+				swaps++;
+				less++;
+			} else if(compare(data[k], largePivot) > 0) {
+				while(k < great && compare(data[great], largePivot) > 0) {
+					great--;
+				}
+				swap(data, k, great);
+				swaps++;
+				great--;
+				if(compare(data[k], smallPivot) < 0) {
+					swap(data, k, less);
+					swaps++;
+					less++;
+				}
+			}
+			k++;
+		}
+		less--;
+		great++;
+		swap(data, low, less);
+		swap(data, high, great);
+		getInstrumentation().addMoves(2 * (swaps + 2));
+		return new int[] { less, great };
+	}
+	
+	/**
+	 * Sorts data[low, high] using block partitioning around a single pivot
+	 * @param data the array of elements
+	 * @param low the low index
+	 * @param high the high index
+	 * @param offsetsLeft a buffer of BLOCK_SIZE offsets for the left side, reused by every partition
+	 * @param offsetsRight a buffer of BLOCK_SIZE offsets for the right side, reused by every partition
+	 * @param depth the recursion depth of this call, starting at 1
+	 */
+	private void blockQuickSort(E[] data, int low, int high, int[] offsetsLeft, int[] offsetsRight, int depth) {
+		int lo = low;
+		int hi = high;
+		if(lo < hi) {
+			getInstrumentation().recordDepth(depth);
+		}
+		// Recurse into the smaller side and loop on the larger one to keep the stack shallow
+		while(lo < hi) {
+			int pivotLocation = blockPartition(data, lo, hi, offsetsLeft, offsetsRight);
+			if(pivotLocation - lo < hi - pivotLocation) {
+				blockQuickSort(data, lo, pivotLocation - 1, offsetsLeft, offsetsRight, depth + 1);
+				lo = pivotLocation + 1;
+			} else {
+				blockQuickSort(data, pivotLocation + 1, hi, offsetsLeft, offsetsRight, depth + 1);
+				hi = pivotLocation - 1;
+			}
+		}
+	}
+	
+	/**
+	 * Partitions data[low, high] around the selected pivot, which is first moved to
+	 * index high. While more than two blocks remain, each side records the offsets of its misplaced
+	 * elements in a block (elements not less than the pivot on the left, not greater
+	 * than the pivot on the right) by adding the comparison result to a counter
+	 * rather than branching on it, and then the recorded elements are swapped
+	 * pairwise. The remaining range is finished with a Hoare partition.
+	 * @param data the array of elements
+	 * @param low the low index
+	 * @param high the high index
+	 * @param offsetsLeft the buffer of offsets for the left side
+	 * @param offsetsRight the buffer of offsets for the right side
+	 * @return index the final index of the pivot
+	 */
+	private int blockPartition(E[] data, int low, int high, int[] offsetsLeft, int[] offsetsRight) {
+		swap(data, this.selector.selectPivot(data, low, high, this::compare), high);
+		long swaps = 1;
+		E pivot = data[high];
+		int left = low;
+		int right = high - 1;
+		int numLeft = 0;
+		int numRight = 0;
+		int startLeft = 0;
+		int startRight = 0;
+		
+		while(right - left + 1 > 2 * BLOCK_SIZE) {
+			if(numLeft == 0) {
+				startLeft = 0;
+				for(int i = 0; i < BLOCK_SIZE; i++) {
+					offsetsLeft[numLeft] = i;
+					numLeft += compare(data[left + i], pivot) >= 0 ? 1 : 0;
+				}
+			}
+			if(numRight == 0) {
+				startRight = 0;
+				for(int i = 0; i < BLOCK_SIZE; i++) {
+					offsetsRight[numRight] = i;
+					numRight += compare(pivot, data[right - i]) >= 0 ? 1 : 0;
+				}
+			}
+			int num = Math.min(numLeft, numRight);
+			for(int j = 0; j < num; j++) {
+				swap(data, left + offsetsLeft[startLeft + j], right - offsetsRight[startRight + j]);
+			}
+			swaps += num;
+			numLeft -= num;
+			numRight -= num;
+			startLeft += num;
+			startRight += num;
+			if(numLeft == 0) {
+				left += BLOCK_SIZE;
+			}
+			if(numRight == 0) {
+				right -= BLOCK_SIZE;
+			}
+		}
+		
+		// [low, left) <= pivot and (right, high) >= pivot; any partly-processed block is still inside [left, right]
+		int i = left;
+		int j = right;
+		while(true) {
+			while(i <= j && compare(data[i], pivot) < 0) {
+				i++;
+			}
+			while(i <= j && compare(data[j], pivot) > 0) {
+				j--;
+			}
+			if(i >= j) {
+				break;
+			}
+			swap(data, i, j);
+			swaps++;
+			i++;
+			j--;
+		}
+		swap(data, i, high);
+		getInstrumentation().addMoves(2 * (swaps + 1));
+		return i;
+	}
+	
 	/**
 	 * Helps swap position of elements used for swapping pivot and other elements in list
-	 * while sorting
+	 * while sorting. The partition methods count their swaps and record the moves
+	 * once per partition, so the swap itself does not touch the instrumentation.
 	 * @param data an array of elements
 	 * @param pivotIndex the index of element that will be swapped
 	 * @param high the index of an element that will be swapped
@@ -1,61 +1,375 @@
 package edu.ncsu.csc316.dsa.sorter;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntUnaryOperator;
+
 import edu.ncsu.csc316.dsa.data.Identifiable;
 
 /**
- * RadixSorter uses the radix sort algorithm to sort data
+ * RadixSorter uses the radix sort algorithm to sort data. By default, IDs are
+ * sorted one decimal digit at a time, which requires non-negative IDs. The
+ * byte-wise mode sorts IDs one byte at a time instead, which handles the full
+ * signed int range in at most 4 passes.
+ * 
+ * In parallel mode, each pass is split between several workers: each worker
+ * counts the digits in its own slice of the data, the counts are combined with
+ * a parallel prefix sum, and the workers then place their slices into the
+ * output at the same time while keeping each pass stable.
  * @author Dr. King
  *
  * @param <E> the generic type of data to sort
  */
 public class RadixSorter<E extends Identifiable> implements Sorter<E> {
+
+	/** The number of buckets used by each pass of the byte-wise mode */
+	private static final int BYTE_BUCKETS = 256;
+
+	/** Used to keep track of the radix (digit size) */
+	private Radix radix;
+	
+	/** The number of workers used to count and place elements in each pass */
+	private int parallelism;
+	
+	/** The instrumentation that records the work done while sorting */
+	private SortInstrumentation instrumentation;
+
+	/**
+	 * The radixes a RadixSorter can sort IDs with
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	public enum Radix {
+		/** Sort one decimal digit per pass; IDs must not be negative */
+		DECIMAL,
+		/**
+		 * Sort one byte per pass (base 256) using keys cached in an int array and two
+		 * buffers that swap roles each pass; passes where every key has the same byte
+		 * are skipped, and negative IDs are supported
+		 */
+		BYTE
+	}
+
+	/**
+	 * Constructs a RadixSorter that sorts using the provided radix and splits each
+	 * pass between the given number of workers on the common pool
+	 * @param radix the radix to sort with; if null, the decimal radix is used
+	 * @param parallelism the number of workers; 1 sorts on the calling thread
+	 * @throws IllegalArgumentException if parallelism is less than 1
+	 */
+	public RadixSorter(Radix radix, int parallelism) {
+		setRadix(radix);
+		if(parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+		}
+		this.parallelism = parallelism;
+		this.instrumentation = SortInstrumentation.DISABLED;
+	}
+	
+	/**
+	 * Constructs a RadixSorter that sorts using the provided radix
+	 * @param radix the radix to sort with; if null, the decimal radix is used
+	 */
+	public RadixSorter(Radix radix) {
+		this(radix, 1);
+	}
+
+	/**
+	 * Constructs a RadixSorter that sorts one decimal digit at a time
+	 */
+	public RadixSorter() {
+		this(null);
+	}
+
+	/**
+	 * Sets the radix used when sorting
+	 * @param radix the radix to sort with; if null, the decimal radix is used
+	 */
+	private void setRadix(Radix radix) {
+		if(radix == null) {
+			this.radix = Radix.DECIMAL;
+		} else {
+			this.radix = radix;
+		}
+	}
+
+	/**
+	 * Attaches instrumentation that records the moves, auxiliary memory, and phase
+	 * times of later sorts
+	 * @param instrumentation the instrumentation to record into; if null, recording stops
+	 */
+	@Override
+	public void setInstrumentation(SortInstrumentation instrumentation) {
+		if(instrumentation == null) {
+			this.instrumentation = SortInstrumentation.DISABLED;
+		} else {
+			this.instrumentation = instrumentation;
+		}
+	}
+
 	/**
-	 * Sorts a list of elements using the RadixSort algorithm (sorting using RadixSort methodology
+	 * Returns the instrumentation attached to this sorter
+	 * @return the attached instrumentation, or SortInstrumentation.DISABLED if there is none
+	 */
+	@Override
+	public SortInstrumentation getInstrumentation() {
+		return instrumentation;
+	}
+
+	/**
+	 * Sorts a range of a list of elements using the RadixSort algorithm (sorting using RadixSort methodology
 	 * @param data the list of elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to one past the index of the last element to sort
+	 * @throws IllegalArgumentException if the decimal radix is used and an ID in the range is negative
 	 */
 	@Override
-	public void sort(E[] data) {
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		if(to - from < 2) {
+			return;
+		}
+		long start = instrumentation.startPhase();
+		if(parallelism > 1 && to - from >= ParallelScatter.MIN_PARALLEL_LENGTH) {
+			parallelSort(data, from, to);
+		} else if(radix == Radix.BYTE) {
+			byteSort(data, from, to);
+		} else {
+			decimalSort(data, from, to);
+		}
+		instrumentation.endPhase("passes", start);
+	}
+
+	/**
+	 * Sorts a range of a list of elements one decimal digit at a time
+	 * @param data the list of elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to one past the index of the last element to sort
+	 * @throws IllegalArgumentException if an ID in the range is negative
+	 */
+	private void decimalSort(E[] data, int from, int to) {
 		int k = 0;
-		int max = data[0].getId();
-		for(int i = 0; i <= data.length - 1; i++) {
+		int max = data[from].getId();
+		int min = max;
+		for(int i = from; i <= to - 1; i++) {
 			if(data[i].getId() > max) {
 				max = data[i].getId();
 			}
+			min = Math.min(min, data[i].getId());
 		}
-		
+		checkDecimalMin(min);
+
 		k = max; // set k to be the largest value
-		
+
 		// Determine how many digits are in the largest value
 		int x = (int) Math.log10(k) + 1;
-		
+
 		int p = 1;
-		
+
 		for(int j = 1; j <= x; j++) {
 			int [] b = new int[10];
-			
-			for(int i = 0; i <= data.length - 1; i++) {
+
+			for(int i = from; i <= to - 1; i++) {
 				b[(data[i].getId() / p) % 10] = b[(data[i].getId() / p) % 10] + 1;
 			}
-			
-			
+
+
 			for(int i = 1; i <= 9; i++) {
 				b[i] = b[i - 1] + b[i];
 			}
-			
-			// New array with length n (data's length)
+
+			// New array with length n (the length of the range)
 			@SuppressWarnings("unchecked")
-			E[] f = (E[])(new Identifiable[data.length]);
-			
-			for(int i = data.length - 1; i >= 0; i--) {
+			E[] f = (E[])(new Identifiable[to - from]);
+
+			for(int i = to - 1; i >= from; i--) {
 				f[b[(data[i].getId() / p) % 10] - 1] = data[i];
 				b[(data[i].getId() / p) % 10] = b[(data[i].getId() / p) % 10] - 1;
 			}
-			
-			for(int i = 0; i <= data.length - 1; i++) {
-				data[i] = f[i];
+
+			for(int i = 0; i <= f.length - 1; i++) {
+				data[from + i] = f[i];
 			}
-			
+			instrumentation.addArray(10, Integer.BYTES);
+			instrumentation.addArray(f.length, SortInstrumentation.REFERENCE_BYTES);
+			instrumentation.addMoves(2L * f.length);
+
 			p = p * 10;
 		}
 	}
+
+	/**
+	 * Sorts a list of elements one byte at a time, least significant byte first.
+	 * Each ID is read once and cached with its sign bit flipped, so that comparing
+	 * the cached keys as unsigned values orders them the same as the signed IDs.
+	 * The counts for all four bytes are gathered in a single pass, and any byte that
+	 * is the same for every key is skipped.
+	 * @param data the list of elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to one past the index of the last element to sort
+	 */
+	private void byteSort(E[] data, int from, int to) {
+		int n = to - from;
+		int[] keys = new int[n];
+		int[][] counts = new int[Integer.BYTES][BYTE_BUCKETS];
+		for(int i = 0; i < n; i++) {
+			int key = data[from + i].getId() ^ Integer.MIN_VALUE;
+			keys[i] = key;
+			for(int pass = 0; pass < Integer.BYTES; pass++) {
+				counts[pass][(key >>> (pass * 8)) & 0xFF]++;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		E[] buffer = (E[])(new Identifiable[n]);
+		int[] bufferKeys = new int[n];
+		instrumentation.addArray(2L * n, Integer.BYTES);
+		instrumentation.addArray(n, SortInstrumentation.REFERENCE_BYTES);
+		instrumentation.addArray((long) Integer.BYTES * BYTE_BUCKETS, Integer.BYTES);
+		E[] src = data;
+		E[] dest = buffer;
+		int srcOffset = from;
+		int destOffset = 0;
+		int[] srcKeys = keys;
+		int[] destKeys = bufferKeys;
+
+		for(int pass = 0; pass < Integer.BYTES; pass++) {
+			int shift = pass * 8;
+			int[] b = counts[pass];
+			if(b[(srcKeys[0] >>> shift) & 0xFF] == n) {
+				continue;
+			}
+
+			// Turn the counts into the first output index of each bucket
+			int total = 0;
+			for(int i = 0; i < BYTE_BUCKETS; i++) {
+				int count = b[i];
+				b[i] = total;
+				total += count;
+			}
+
+			for(int i = 0; i < n; i++) {
+				int key = srcKeys[i];
+				int index = b[(key >>> shift) & 0xFF]++;
+				dest[destOffset + index] = src[srcOffset + i];
+				destKeys[index] = key;
+			}
+			instrumentation.addMoves(n);
+
+			E[] tempElements = src;
+			src = dest;
+			dest = tempElements;
+			int tempOffset = srcOffset;
+			srcOffset = destOffset;
+			destOffset = tempOffset;
+			int[] tempKeys = srcKeys;
+			srcKeys = destKeys;
+			destKeys = tempKeys;
+		}
+
+		if(src != data) {
+			System.arraycopy(src, 0, data, from, n);
+			instrumentation.addMoves(n);
+		}
+	}
+	
+	/**
+	 * Sorts a list of elements with either radix, splitting every pass between
+	 * several workers. The keys are read once (in parallel) and move along with
+	 * the elements between the input and one pair of buffers.
+	 * @param data the list of elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to one past the index of the last element to sort
+	 * @throws IllegalArgumentException if the decimal radix is used and an ID in the range is negative
+	 */
+	private void parallelSort(E[] data, int from, int to) {
+		int n = to - from;
+		int workers = parallelism;
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		boolean bytes = radix == Radix.BYTE;
+		int[] keys = new int[n];
+		int[] maxes = new int[workers];
+		int[] mins = new int[workers];
+		ParallelScatter.forEachWorker(workers, pool, w -> {
+			int max = 0;
+			int min = 0;
+			int end = ParallelScatter.sliceEnd(n, workers, w);
+			for(int i = ParallelScatter.sliceEnd(n, workers, w - 1); i < end; i++) {
+				int id = data[from + i].getId();
+				keys[i] = bytes ? id ^ Integer.MIN_VALUE : id;
+				max = Math.max(max, id);
+				min = Math.min(min, id);
+			}
+			maxes[w] = max;
+			mins[w] = min;
+		});
+		
+		int passes = Integer.BYTES;
+		if(!bytes) {
+			int max = 0;
+			int min = 0;
+			for(int w = 0; w < workers; w++) {
+				max = Math.max(max, maxes[w]);
+				min = Math.min(min, mins[w]);
+			}
+			checkDecimalMin(min);
+			passes = max == 0 ? 0 : (int) Math.log10(max) + 1;
+		}
+		
+		@SuppressWarnings("unchecked")
+		E[] buffer = (E[])(new Identifiable[n]);
+		int[] bufferKeys = new int[n];
+		instrumentation.addArray(2L * n, Integer.BYTES);
+		instrumentation.addArray(n, SortInstrumentation.REFERENCE_BYTES);
+		E[] src = data;
+		E[] dest = buffer;
+		int srcOffset = from;
+		int destOffset = 0;
+		int[] srcKeys = keys;
+		int[] destKeys = bufferKeys;
+		int p = 1;
+		for(int pass = 0; pass < passes; pass++) {
+			IntUnaryOperator digit;
+			int buckets;
+			if(bytes) {
+				int shift = pass * 8;
+				digit = key -> (key >>> shift) & 0xFF;
+				buckets = BYTE_BUCKETS;
+			} else {
+				int divisor = p;
+				digit = key -> (key / divisor) % 10;
+				buckets = 10;
+				p = p * 10;
+			}
+			
+			if(ParallelScatter.scatter(src, srcOffset, srcKeys, dest, destOffset, destKeys, n, buckets, digit, workers, pool)) {
+				instrumentation.addMoves(n);
+				E[] tempElements = src;
+				src = dest;
+				dest = tempElements;
+				int tempOffset = srcOffset;
+				srcOffset = destOffset;
+				destOffset = tempOffset;
+				int[] tempKeys = srcKeys;
+				srcKeys = destKeys;
+				destKeys = tempKeys;
+			}
+		}
+		
+		if(src != data) {
+			System.arraycopy(src, 0, data, from, n);
+			instrumentation.addMoves(n);
+		}
+	}
+
+	/**
+	 * Checks that the smallest ID can be sorted one decimal digit at a time
+	 * @param min the smallest ID in the range
+	 * @throws IllegalArgumentException if min is negative
+	 */
+	private static void checkDecimalMin(int min) {
+		if(min < 0) {
+			throw new IllegalArgumentException("IDs must not be negative with the decimal radix: " + min);
+		}
+	}
 }
@@ -0,0 +1,664 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+
+/**
+ * RunMergeSorter sorts arrays of comparable elements by merging the runs that
+ * are already in the data, in the style of TimSort. The data is scanned for
+ * ascending runs (strictly descending runs are reversed in place); runs shorter
+ * than a minimum length are extended with binary insertion sort; and the runs
+ * are kept on a stack and merged whenever their lengths stop shrinking quickly
+ * enough. When one run keeps winning during a merge, the merge switches to
+ * galloping, which finds how many elements to copy with an exponential search
+ * instead of one comparison per element.
+ *
+ * Already sorted or reverse sorted data takes n - 1 comparisons, nearly sorted
+ * data sorts in close to O(n) time, and the worst case is O(nlogn). The sort is
+ * stable and needs at most n/2 extra element references.
+ *
+ * @author Jake Donovan
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class RunMergeSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/** Arrays shorter than this are sorted with binary insertion sort alone */
+	public static final int MIN_MERGE = 32;
+
+	/** How many times in a row one run must win before a merge starts galloping */
+	private static final int MIN_GALLOP = 7;
+
+	/** Enough room on the run stack for any int-sized array, since run lengths grow like the Fibonacci numbers */
+	private static final int MAX_RUNS = 49;
+
+	/**
+	 * Constructs a new RunMergeSorter with a specified custom Comparator
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 */
+	public RunMergeSorter(Comparator<E> comparator) {
+		super(comparator);
+	}
+
+	/**
+	 * Constructs a new RunMergeSorter with comparisons based on the element's
+	 * natural ordering
+	 */
+	public RunMergeSorter() {
+		this(null);
+	}
+
+	/**
+	 * Sorts a range of elements by finding and merging natural runs
+	 *
+	 * @param data the array that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to   one past the index of the last element to sort
+	 */
+	@Override
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		int low = from;
+		int high = to;
+		int remaining = high - low;
+		if (remaining < 2) {
+			return;
+		}
+		SortInstrumentation instrumentation = getInstrumentation();
+		long start = instrumentation.startPhase();
+		if (remaining < MIN_MERGE) {
+			int runLength = countRunAndMakeAscending(data, low, high);
+			binaryInsertionSort(data, low, high, low + runLength);
+			instrumentation.endPhase("runs", start);
+			return;
+		}
+
+		Merger merger = new Merger(data, remaining);
+		int minRun = minRunLength(remaining);
+		int lo = low;
+		while (remaining != 0) {
+			int runLength = countRunAndMakeAscending(data, lo, high);
+			if (runLength < minRun) {
+				int forced = Math.min(remaining, minRun);
+				binaryInsertionSort(data, lo, lo + forced, lo + runLength);
+				runLength = forced;
+			}
+			instrumentation.endPhase("runs", start);
+			start = instrumentation.startPhase();
+			merger.pushRun(lo, runLength);
+			merger.mergeCollapse();
+			lo += runLength;
+			remaining -= runLength;
+			instrumentation.endPhase("merge", start);
+			start = instrumentation.startPhase();
+		}
+		merger.mergeForceCollapse();
+		instrumentation.endPhase("merge", start);
+	}
+
+	/**
+	 * Returns the minimum run length for an array of length n. Short runs are
+	 * extended to this length so that the number of runs is a power of two, or
+	 * slightly less, which keeps the merges balanced.
+	 *
+	 * @param n the length of the array being sorted
+	 * @return the minimum run length, between MIN_MERGE / 2 and MIN_MERGE
+	 */
+	static int minRunLength(int n) {
+		int length = n;
+		int r = 0;
+		while (length >= MIN_MERGE) {
+			r |= length & 1;
+			length >>= 1;
+		}
+		return length + r;
+	}
+
+	/**
+	 * Returns the length of the run that starts at low, reversing it first if it is
+	 * strictly descending. Descending runs must be strict so that reversing them
+	 * keeps the sort stable.
+	 *
+	 * @param data the array being sorted
+	 * @param low  the first index of the run
+	 * @param high one past the last index that may be part of the run
+	 * @return the length of the run
+	 */
+	private int countRunAndMakeAscending(E[] data, int low, int high) {
+		int runHigh = low + 1;
+		if (runHigh == high) {
+			return 1;
+		}
+		if (compare(data[runHigh++], data[low]) < 0) {
+			while (runHigh < high && compare(data[runHigh], data[runHigh - 1]) < 0) {
+				runHigh++;
+			}
+			reverse(data, low, runHigh);
+		} else {
+			while (runHigh < high && compare(data[runHigh], data[runHigh - 1]) >= 0) {
+				runHigh++;
+			}
+		}
+		return runHigh - low;
+	}
+
+	/**
+	 * Reverses data[low, high)
+	 *
+	 * @param data the array of elements
+	 * @param low  the first index to reverse
+	 * @param high one past the last index to reverse
+	 */
+	private void reverse(E[] data, int low, int high) {
+		int lo = low;
+		int hi = high - 1;
+		while (lo < hi) {
+			E temp = data[lo];
+			data[lo++] = data[hi];
+			data[hi--] = temp;
+		}
+		getInstrumentation().addMoves((high - low) / 2 * 2);
+	}
+
+	/**
+	 * Sorts data[low, high) with binary insertion sort, given that data[low,
+	 * start) is already sorted. Equal elements are inserted after each other, so
+	 * the sort is stable.
+	 *
+	 * @param data  the array of elements
+	 * @param low   the first index to sort
+	 * @param high  one past the last index to sort
+	 * @param start the first index that is not already sorted
+	 */
+	private void binaryInsertionSort(E[] data, int low, int high, int start) {
+		long moves = 0;
+		for (int i = start; i < high; i++) {
+			E pivot = data[i];
+			int left = low;
+			int right = i;
+			while (left < right) {
+				int mid = (left + right) >>> 1;
+				if (compare(pivot, data[mid]) < 0) {
+					right = mid;
+				} else {
+					left = mid + 1;
+				}
+			}
+			System.arraycopy(data, left, data, left + 1, i - left);
+			data[left] = pivot;
+			moves += i - left + 1;
+		}
+		getInstrumentation().addMoves(moves);
+	}
+
+	/**
+	 * Returns the index in the sorted range data[base, base + length) where key
+	 * would be inserted before any equal elements, searching outward from base +
+	 * hint in steps that double in size and then with binary search
+	 *
+	 * @param key    the element to place
+	 * @param data   the array holding the sorted range
+	 * @param base   the first index of the range
+	 * @param length the length of the range
+	 * @param hint   the offset in the range where the search starts
+	 * @return the number of elements in the range that are less than key
+	 */
+	private int gallopLeft(E key, E[] data, int base, int length, int hint) {
+		int lastOffset = 0;
+		int offset = 1;
+		if (compare(key, data[base + hint]) > 0) {
+			// Gallop right until data[base + hint + lastOffset] < key <= data[base + hint + offset]
+			int maxOffset = length - hint;
+			while (offset < maxOffset && compare(key, data[base + hint + offset]) > 0) {
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				if (offset <= 0) {
+					offset = maxOffset;
+				}
+			}
+			offset = Math.min(offset, maxOffset);
+			lastOffset += hint;
+			offset += hint;
+		} else {
+			// Gallop left until data[base + hint - offset] < key <= data[base + hint - lastOffset]
+			int maxOffset = hint + 1;
+			while (offset < maxOffset && compare(key, data[base + hint - offset]) <= 0) {
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				if (offset <= 0) {
+					offset = maxOffset;
+				}
+			}
+			offset = Math.min(offset, maxOffset);
+			int temp = lastOffset;
+			lastOffset = hint - offset;
+			offset = hint - temp;
+		}
+
+		// data[base + lastOffset] < key <= data[base + offset], so binary search between them
+		lastOffset++;
+		while (lastOffset < offset) {
+			int mid = lastOffset + ((offset - lastOffset) >>> 1);
+			if (compare(key, data[base + mid]) > 0) {
+				lastOffset = mid + 1;
+			} else {
+				offset = mid;
+			}
+		}
+		return offset;
+	}
+
+	/**
+	 * Returns the index in the sorted range data[base, base + length) where key
+	 * would be inserted after any equal elements, searching outward from base +
+	 * hint in steps that double in size and then with binary search
+	 *
+	 * @param key    the element to place
+	 * @param data   the array holding the sorted range
+	 * @param base   the first index of the range
+	 * @param length the length of the range
+	 * @param hint   the offset in the range where the search starts
+	 * @return the number of elements in the range that are less than or equal to
+	 *         key
+	 */
+	private int gallopRight(E key, E[] data, int base, int length, int hint) {
+		int lastOffset = 0;
+		int offset = 1;
+		if (compare(key, data[base + hint]) < 0) {
+			// Gallop left until data[base + hint - offset] <= key < data[base + hint - lastOffset]
+			int maxOffset = hint + 1;
+			while (offset < maxOffset && compare(key, data[base + hint - offset]) < 0) {
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				if (offset <= 0) {
+					offset = maxOffset;
+				}
+			}
+			offset = Math.min(offset, maxOffset);
+			int temp = lastOffset;
+			lastOffset = hint - offset;
+			offset = hint - temp;
+		} else {
+			// Gallop right until data[base + hint + lastOffset] <= key < data[base + hint + offset]
+			int maxOffset = length - hint;
+			while (offset < maxOffset && compare(key, data[base + hint + offset]) >= 0) {
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				if (offset <= 0) {
+					offset = maxOffset;
+				}
+			}
+			offset = Math.min(offset, maxOffset);
+			lastOffset += hint;
+			offset += hint;
+		}
+
+		// data[base + lastOffset] <= key < data[base + offset], so binary search between them
+		lastOffset++;
+		while (lastOffset < offset) {
+			int mid = lastOffset + ((offset - lastOffset) >>> 1);
+			if (compare(key, data[base + mid]) < 0) {
+				offset = mid;
+			} else {
+				lastOffset = mid + 1;
+			}
+		}
+		return offset;
+	}
+
+	/**
+	 * Holds the state of one sort: the stack of pending runs, the temporary
+	 * array used by merges, and how eagerly merges should start galloping
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	private class Merger {
+		/** The array being sorted */
+		private E[] data;
+		/** The number of elements being sorted */
+		private int length;
+		/** Holds the shorter run during a merge; grown as needed */
+		private E[] temp;
+		/** The current gallop threshold, which rises when galloping does not pay off */
+		private int minGallop;
+		/** The first index of each pending run */
+		private int[] runBase;
+		/** The length of each pending run */
+		private int[] runLength;
+		/** The number of pending runs */
+		private int stackSize;
+
+		/**
+		 * Constructs a Merger for sorting length elements of data
+		 *
+		 * @param data   the array being sorted
+		 * @param length the number of elements being sorted
+		 */
+		@SuppressWarnings("unchecked")
+		Merger(E[] data, int length) {
+			this.data = data;
+			this.length = length;
+			this.temp = (E[]) new Comparable[Math.min(length / 2 + 1, 256)];
+			this.minGallop = MIN_GALLOP;
+			this.runBase = new int[MAX_RUNS];
+			this.runLength = new int[MAX_RUNS];
+			this.stackSize = 0;
+			SortInstrumentation instrumentation = getInstrumentation();
+			instrumentation.addArray(temp.length, SortInstrumentation.REFERENCE_BYTES);
+			instrumentation.addArray(2 * MAX_RUNS, Integer.BYTES);
+		}
+
+		/**
+		 * Pushes a run onto the stack of pending runs
+		 *
+		 * @param base   the first index of the run
+		 * @param length the length of the run
+		 */
+		void pushRun(int base, int length) {
+			runBase[stackSize] = base;
+			runLength[stackSize] = length;
+			stackSize++;
+		}
+
+		/**
+		 * Merges pending runs until, for the top runs A, B, C, and D (D on top),
+		 * each of B and C is longer than the sum of the two runs above it. This
+		 * keeps merges between runs of similar length and bounds the stack height.
+		 */
+		void mergeCollapse() {
+			while (stackSize > 1) {
+				int n = stackSize - 2;
+				if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+						|| n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+					if (runLength[n - 1] < runLength[n + 1]) {
+						n--;
+					}
+				} else if (runLength[n] > runLength[n + 1]) {
+					break;
+				}
+				mergeAt(n);
+			}
+		}
+
+		/**
+		 * Merges all pending runs into one
+		 */
+		void mergeForceCollapse() {
+			while (stackSize > 1) {
+				int n = stackSize - 2;
+				if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+					n--;
+				}
+				mergeAt(n);
+			}
+		}
+
+		/**
+		 * Merges the pending runs at stack indexes i and i + 1. Elements of the
+		 * first run that are already in place, and elements of the second run
+		 * that are already in place, are found by galloping and skipped.
+		 *
+		 * @param i the stack index of the first run
+		 */
+		private void mergeAt(int i) {
+			int base1 = runBase[i];
+			int length1 = runLength[i];
+			int base2 = runBase[i + 1];
+			int length2 = runLength[i + 1];
+
+			runLength[i] = length1 + length2;
+			if (i == stackSize - 3) {
+				runBase[i + 1] = runBase[i + 2];
+				runLength[i + 1] = runLength[i + 2];
+			}
+			stackSize--;
+
+			int k = gallopRight(data[base2], data, base1, length1, 0);
+			base1 += k;
+			length1 -= k;
+			if (length1 == 0) {
+				return;
+			}
+			length2 = gallopLeft(data[base1 + length1 - 1], data, base2, length2, length2 - 1);
+			if (length2 == 0) {
+				return;
+			}
+
+			// The shorter run is copied out, then every element of both runs is written back
+			getInstrumentation().addMoves(Math.min(length1, length2) + length1 + length2);
+			if (length1 <= length2) {
+				mergeLow(base1, length1, base2, length2);
+			} else {
+				mergeHigh(base1, length1, base2, length2);
+			}
+		}
+
+		/**
+		 * Merges two adjacent runs from left to right, copying the first (shorter)
+		 * run into the temporary array. The first element of the second run must
+		 * belong before the first run, and the last element of the first run must
+		 * belong after the second run.
+		 *
+		 * @param base1   the first index of the first run
+		 * @param length1 the length of the first run
+		 * @param base2   the first index of the second run
+		 * @param length2 the length of the second run
+		 */
+		private void mergeLow(int base1, int length1, int base2, int length2) {
+			E[] a = data;
+			E[] tmp = ensureCapacity(length1);
+			System.arraycopy(a, base1, tmp, 0, length1);
+			int len1 = length1;
+			int len2 = length2;
+			int cursor1 = 0;
+			int cursor2 = base2;
+			int dest = base1;
+
+			a[dest++] = a[cursor2++];
+			if (--len2 == 0) {
+				System.arraycopy(tmp, cursor1, a, dest, len1);
+				return;
+			}
+			if (len1 == 1) {
+				System.arraycopy(a, cursor2, a, dest, len2);
+				a[dest + len2] = tmp[cursor1];
+				return;
+			}
+
+			int gallop = minGallop;
+			outer:
+			while (true) {
+				int count1 = 0;
+				int count2 = 0;
+				// Compare one pair at a time until one run wins often enough in a row
+				do {
+					if (compare(a[cursor2], tmp[cursor1]) < 0) {
+						a[dest++] = a[cursor2++];
+						count2++;
+						count1 = 0;
+						if (--len2 == 0) {
+							break outer;
+						}
+					} else {
+						a[dest++] = tmp[cursor1++];
+						count1++;
+						count2 = 0;
+						if (--len1 == 1) {
+							break outer;
+						}
+					}
+				} while ((count1 | count2) < gallop);
+
+				// Gallop until neither run wins by at least MIN_GALLOP elements
+				do {
+					count1 = gallopRight(a[cursor2], tmp, cursor1, len1, 0);
+					if (count1 != 0) {
+						System.arraycopy(tmp, cursor1, a, dest, count1);
+						dest += count1;
+						cursor1 += count1;
+						len1 -= count1;
+						if (len1 <= 1) {
+							break outer;
+						}
+					}
+					a[dest++] = a[cursor2++];
+					if (--len2 == 0) {
+						break outer;
+					}
+
+					count2 = gallopLeft(tmp[cursor1], a, cursor2, len2, 0);
+					if (count2 != 0) {
+						System.arraycopy(a, cursor2, a, dest, count2);
+						dest += count2;
+						cursor2 += count2;
+						len2 -= count2;
+						if (len2 == 0) {
+							break outer;
+						}
+					}
+					a[dest++] = tmp[cursor1++];
+					if (--len1 == 1) {
+						break outer;
+					}
+					gallop--;
+				} while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+				gallop = Math.max(gallop, 0) + 2;
+			}
+			minGallop = Math.max(gallop, 1);
+
+			if (len1 == 1) {
+				System.arraycopy(a, cursor2, a, dest, len2);
+				a[dest + len2] = tmp[cursor1];
+			} else if (len1 == 0) {
+				throw new IllegalArgumentException("Comparator does not define a consistent ordering");
+			} else {
+				System.arraycopy(tmp, cursor1, a, dest, len1);
+			}
+		}
+
+		/**
+		 * Merges two adjacent runs from right to left, copying the second
+		 * (shorter) run into the temporary array. The first element of the second
+		 * run must belong before the first run, and the last element of the first
+		 * run must belong after the second run.
+		 *
+		 * @param base1   the first index of the first run
+		 * @param length1 the length of the first run
+		 * @param base2   the first index of the second run
+		 * @param length2 the length of the second run
+		 */
+		private void mergeHigh(int base1, int length1, int base2, int length2) {
+			E[] a = data;
+			E[] tmp = ensureCapacity(length2);
+			System.arraycopy(a, base2, tmp, 0, length2);
+			int len1 = length1;
+			int len2 = length2;
+			int cursor1 = base1 + len1 - 1;
+			int cursor2 = len2 - 1;
+			int dest = base2 + len2 - 1;
+
+			a[dest--] = a[cursor1--];
+			if (--len1 == 0) {
+				System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+				return;
+			}
+			if (len2 == 1) {
+				dest -= len1;
+				cursor1 -= len1;
+				System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+				a[dest] = tmp[cursor2];
+				return;
+			}
+
+			int gallop = minGallop;
+			outer:
+			while (true) {
+				int count1 = 0;
+				int count2 = 0;
+				// Compare one pair at a time until one run wins often enough in a row
+				do {
+					if (compare(tmp[cursor2], a[cursor1]) < 0) {
+						a[dest--] = a[cursor1--];
+						count1++;
+						count2 = 0;
+						if (--len1 == 0) {
+							break outer;
+						}
+					} else {
+						a[dest--] = tmp[cursor2--];
+						count2++;
+						count1 = 0;
+						if (--len2 == 1) {
+							break outer;
+						}
+					}
+				} while ((count1 | count2) < gallop);
+
+				// Gallop until neither run wins by at least MIN_GALLOP elements
+				do {
+					count1 = len1 - gallopRight(tmp[cursor2], a, base1, len1, len1 - 1);
+					if (count1 != 0) {
+						dest -= count1;
+						cursor1 -= count1;
+						len1 -= count1;
+						System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+						if (len1 == 0) {
+							break outer;
+						}
+					}
+					a[dest--] = tmp[cursor2--];
+					if (--len2 == 1) {
+						break outer;
+					}
+
+					count2 = len2 - gallopLeft(a[cursor1], tmp, 0, len2, len2 - 1);
+					if (count2 != 0) {
+						dest -= count2;
+						cursor2 -= count2;
+						len2 -= count2;
+						System.arraycopy(tmp, cursor2 + 1, a, dest + 1, count2);
+						if (len2 <= 1) {
+							break outer;
+						}
+					}
+					a[dest--] = a[cursor1--];
+					if (--len1 == 0) {
+						break outer;
+					}
+					gallop--;
+				} while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+				gallop = Math.max(gallop, 0) + 2;
+			}
+			minGallop = Math.max(gallop, 1);
+
+			if (len2 == 1) {
+				dest -= len1;
+				cursor1 -= len1;
+				System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+				a[dest] = tmp[cursor2];
+			} else if (len2 == 0) {
+				throw new IllegalArgumentException("Comparator does not define a consistent ordering");
+			} else {
+				System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+			}
+		}
+
+		/**
+		 * Returns the temporary array, growing it first if it holds fewer than
+		 * minCapacity elements
+		 *
+		 * @param minCapacity the number of elements the temporary array must hold
+		 * @return the temporary array
+		 */
+		@SuppressWarnings("unchecked")
+		private E[] ensureCapacity(int minCapacity) {
+			if (temp.length < minCapacity) {
+				int capacity = Math.max(minCapacity, Math.min(temp.length * 2, length / 2 + 1));
+				temp = (E[]) new Comparable[capacity];
+				getInstrumentation().addArray(capacity, SortInstrumentation.REFERENCE_BYTES);
+			}
+			return temp;
+		}
+	}
+}
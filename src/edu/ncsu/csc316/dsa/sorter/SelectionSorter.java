@@ -26,14 +26,20 @@ public class SelectionSorter<E extends Comparable<E>> extends AbstractComparison
 	}
 	
 	/**
-	 * Sorts a list of elements using a Selection Sort algorithm
+	 * Sorts a range of a list of elements using a Selection Sort algorithm
 	 * @param data the list of elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to one past the index of the last element to sort
 	 */
 	@Override
-	public void sort(E[] data) {
-		for(int i = 0; i <= data.length - 1; i++) {
+	public void sort(E[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		SortInstrumentation instrumentation = getInstrumentation();
+		long start = instrumentation.startPhase();
+		long moves = 0;
+		for(int i = from; i <= to - 1; i++) {
 			int min = i;
-			for(int j = i + 1; j <= data.length - 1; j++) {
+			for(int j = i + 1; j <= to - 1; j++) {
 				if(compare(data[j], data[min]) < 0) {
 					min = j;
 				}
@@ -43,7 +49,10 @@ public class SelectionSorter<E extends Comparable<E>> extends AbstractComparison
 				E x = data[i];
 				data[i] = data[min];
 				data[min] = x;
+				moves += 2;
 			}
 		}
+		instrumentation.addMoves(moves);
+		instrumentation.endPhase("sort", start);
 	}
 }
@@ -0,0 +1,196 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * SelectionUtil provides a collection of behaviors for answering order
+ * questions without fully sorting an array: finding the element of a given rank
+ * (quickselect), sorting only the first k elements, and copying out the k
+ * first elements with a bounded heap.
+ *
+ * Every behavior orders elements with a custom Comparator, or with the
+ * elements' natural ordering when the comparator is null. "First" always means
+ * first in that ordering, so with a comparator that orders students by
+ * descending GPA, the first k students are the k highest GPAs.
+ *
+ * @author Jake Donovan
+ *
+ */
+public class SelectionUtil {
+
+	/**
+	 * SelectionUtil only provides static behaviors
+	 */
+	private SelectionUtil() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Rearranges data so that data[rank] holds the element that would be there if
+	 * data were sorted, every element before it is less than or equal to it, and
+	 * every element after it is greater than or equal to it. Pivots are chosen with
+	 * the ninther and partitioned three ways, which takes O(n) expected time; if
+	 * partitioning keeps going badly, the remaining range is finished with a heap
+	 * instead, so the worst case is O(nlogn).
+	 *
+	 * @param <E>        the type of elements
+	 * @param data       the array to rearrange
+	 * @param rank       the index (0-based) of the element to select
+	 * @param comparator the ordering to select by; if null, the natural ordering is
+	 *                   used
+	 * @return the element with the given rank
+	 * @throws IllegalArgumentException if rank is not a valid index of data
+	 */
+	public static <E extends Comparable<E>> E select(E[] data, int rank, Comparator<E> comparator) {
+		if (rank < 0 || rank >= data.length) {
+			throw new IllegalArgumentException("Rank must be between 0 and " + (data.length - 1) + ": " + rank);
+		}
+		Comparator<E> c = orNaturalOrder(comparator);
+		int low = 0;
+		int high = data.length - 1;
+		int budget = 2 * (32 - Integer.numberOfLeadingZeros(data.length));
+		while (low < high) {
+			if (budget-- == 0) {
+				heapSelect(data, low, high + 1, rank - low + 1, c);
+				return data[rank];
+			}
+			E pivot = data[QuickSorter.NINTHER_SELECTOR.selectPivot(data, low, high, c)];
+			// Invariant: [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot
+			int lt = low;
+			int i = low;
+			int gt = high;
+			while (i <= gt) {
+				int cmp = c.compare(data[i], pivot);
+				if (cmp < 0) {
+					swap(data, lt++, i++);
+				} else if (cmp > 0) {
+					swap(data, i, gt--);
+				} else {
+					i++;
+				}
+			}
+			if (rank < lt) {
+				high = lt - 1;
+			} else if (rank > gt) {
+				low = gt + 1;
+			} else {
+				return data[rank];
+			}
+		}
+		return data[rank];
+	}
+
+	/**
+	 * Rearranges data so that data[0, k) holds the k first elements in sorted
+	 * order. The order of the remaining elements is unspecified. Takes O(nlogk)
+	 * time and no extra space. The sort is not stable.
+	 *
+	 * @param <E>        the type of elements
+	 * @param data       the array to rearrange
+	 * @param k          the number of elements to sort
+	 * @param comparator the ordering to sort by; if null, the natural ordering is
+	 *                   used
+	 * @throws IllegalArgumentException if k is negative or larger than the length
+	 *                                  of data
+	 */
+	public static <E extends Comparable<E>> void partialSort(E[] data, int k, Comparator<E> comparator) {
+		if (k < 0 || k > data.length) {
+			throw new IllegalArgumentException("k must be between 0 and " + data.length + ": " + k);
+		}
+		heapSelect(data, 0, data.length, k, orNaturalOrder(comparator));
+	}
+
+	/**
+	 * Returns a new array holding the k first elements of data in sorted order,
+	 * without changing data. A max-heap of the k best elements seen so far is
+	 * kept, so this takes O(nlogk) time and O(k) extra space. If data has fewer
+	 * than k elements, all of them are returned.
+	 *
+	 * @param <E>        the type of elements
+	 * @param data       the array to choose elements from
+	 * @param k          the number of elements to return
+	 * @param comparator the ordering to choose by; if null, the natural ordering
+	 *                   is used
+	 * @return the k first elements of data, in sorted order
+	 * @throws IllegalArgumentException if k is negative
+	 */
+	public static <E extends Comparable<E>> E[] topK(E[] data, int k, Comparator<E> comparator) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k must not be negative: " + k);
+		}
+		Comparator<E> c = orNaturalOrder(comparator);
+		int size = Math.min(k, data.length);
+		E[] heap = Arrays.copyOf(data, size);
+		if (size == 0) {
+			return heap;
+		}
+		HeapSorter<E> heapSorter = new HeapSorter<E>(c);
+		heapSorter.heapify(heap, 0, size);
+		for (int i = size; i < data.length; i++) {
+			if (c.compare(data[i], heap[0]) < 0) {
+				heap[0] = data[i];
+				heapSorter.siftDown(heap, 0, 0, size);
+			}
+		}
+		heapSorter.sort(heap);
+		return heap;
+	}
+
+	/**
+	 * Rearranges data[low, high) so that data[low, low + k) holds the k first
+	 * elements of the range in sorted order and every later element of the range
+	 * is greater than or equal to them. The k first elements seen so far are kept
+	 * in a max-heap built by {@link HeapSorter} at low, which sorts them at the
+	 * end.
+	 *
+	 * @param <E>  the type of elements
+	 * @param data the array to rearrange
+	 * @param low  the first index of the range
+	 * @param high one past the last index of the range
+	 * @param k    the number of elements to select
+	 * @param c    the ordering to select by
+	 */
+	private static <E extends Comparable<E>> void heapSelect(E[] data, int low, int high, int k, Comparator<E> c) {
+		if (k == 0) {
+			return;
+		}
+		HeapSorter<E> heapSorter = new HeapSorter<E>(c);
+		heapSorter.heapify(data, low, k);
+		for (int i = low + k; i < high; i++) {
+			if (c.compare(data[i], data[low]) < 0) {
+				swap(data, low, i);
+				heapSorter.siftDown(data, low, 0, k);
+			}
+		}
+		heapSorter.sort(data, low, low + k);
+	}
+
+	/**
+	 * Returns the given comparator, or the natural ordering if it is null
+	 *
+	 * @param <E>        the type of elements
+	 * @param comparator a custom comparator, or null
+	 * @return the comparator to use
+	 */
+	private static <E extends Comparable<E>> Comparator<E> orNaturalOrder(Comparator<E> comparator) {
+		if (comparator == null) {
+			return Comparator.naturalOrder();
+		}
+		return comparator;
+	}
+
+	/**
+	 * Swaps the elements at two indexes
+	 *
+	 * @param <E>  the type of elements
+	 * @param data an array of elements
+	 * @param i    the index of an element that will be swapped
+	 * @param j    the index of an element that will be swapped
+	 */
+	private static <E> void swap(E[] data, int i, int j) {
+		E temp = data[i];
+		data[i] = data[j];
+		data[j] = temp;
+	}
+}
@@ -0,0 +1,307 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SortInstrumentation collects counters from the sorters it is attached to
+ * with {@link Sorter#setInstrumentation(SortInstrumentation)}: comparator
+ * calls, element moves, auxiliary bytes allocated, the deepest level of
+ * recursion, and the wall time spent in each named phase of a sort. One
+ * instance may be shared by several sorters, including sorters running on
+ * different threads, and {@link #snapshot()} returns the totals so far.
+ *
+ * A move is a write of an element into the array being sorted or into an
+ * element buffer; a swap is two moves. Auxiliary bytes are estimated from the
+ * lengths of the arrays a sort allocates, assuming {@link #REFERENCE_BYTES}
+ * per reference and {@link #ARRAY_HEADER_BYTES} per array. Phase times are
+ * summed over every call and every thread that records them, and the phases
+ * of a nested sorter (such as the bucket sorts of a sample sort) overlap the
+ * phase of the sorter that calls it.
+ *
+ * Sorters start with {@link #DISABLED}, whose methods return as soon as they
+ * see it is disabled, so an uninstrumented sort only pays for a field read and
+ * a branch at each counted step.
+ *
+ * @author Jake Donovan
+ *
+ */
+public final class SortInstrumentation {
+
+	/** The estimated size of an object reference, assuming compressed references */
+	public static final int REFERENCE_BYTES = 4;
+
+	/** The estimated size of an array header */
+	public static final int ARRAY_HEADER_BYTES = 16;
+
+	/** The instrumentation every sorter starts with, which records nothing */
+	public static final SortInstrumentation DISABLED = new SortInstrumentation(false);
+
+	/** Whether anything is recorded */
+	private final boolean enabled;
+
+	/** The number of comparator calls */
+	private final LongAdder comparisons;
+
+	/** The number of element writes */
+	private final LongAdder moves;
+
+	/** The estimated number of auxiliary bytes allocated */
+	private final LongAdder auxiliaryBytes;
+
+	/** The deepest recursion level recorded */
+	private final LongAccumulator maxRecursionDepth;
+
+	/** The nanoseconds recorded for each phase */
+	private final Map<String, LongAdder> phaseNanos;
+
+	/**
+	 * Constructs a new SortInstrumentation that records everything reported to
+	 * it
+	 */
+	public SortInstrumentation() {
+		this(true);
+	}
+
+	/**
+	 * Constructs a new SortInstrumentation
+	 *
+	 * @param enabled whether anything is recorded
+	 */
+	private SortInstrumentation(boolean enabled) {
+		this.enabled = enabled;
+		comparisons = new LongAdder();
+		moves = new LongAdder();
+		auxiliaryBytes = new LongAdder();
+		maxRecursionDepth = new LongAccumulator(Math::max, 0);
+		phaseNanos = new ConcurrentHashMap<String, LongAdder>();
+	}
+
+	/**
+	 * Returns true if this instrumentation records what is reported to it
+	 *
+	 * @return true if this instrumentation is enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Records comparator calls
+	 *
+	 * @param count the number of comparator calls
+	 */
+	public void addComparisons(long count) {
+		if (enabled) {
+			comparisons.add(count);
+		}
+	}
+
+	/**
+	 * Records element writes
+	 *
+	 * @param count the number of elements written
+	 */
+	public void addMoves(long count) {
+		if (enabled) {
+			moves.add(count);
+		}
+	}
+
+	/**
+	 * Records the allocation of an auxiliary array
+	 *
+	 * @param length       the length of the array
+	 * @param elementBytes the size of each array element in bytes, such as
+	 *                     {@link #REFERENCE_BYTES} or {@link Integer#BYTES}
+	 */
+	public void addArray(long length, int elementBytes) {
+		if (enabled) {
+			auxiliaryBytes.add(ARRAY_HEADER_BYTES + length * elementBytes);
+		}
+	}
+
+	/**
+	 * Records that a sort has reached a level of recursion, where the first call
+	 * is at depth 1
+	 *
+	 * @param depth the recursion depth reached
+	 */
+	public void recordDepth(int depth) {
+		if (enabled) {
+			maxRecursionDepth.accumulate(depth);
+		}
+	}
+
+	/**
+	 * Returns the start time to pass to {@link #endPhase(String, long)} when a
+	 * phase ends
+	 *
+	 * @return the current time in nanoseconds, or 0 if this instrumentation is
+	 *         disabled
+	 */
+	public long startPhase() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the time since start as time spent in a phase
+	 *
+	 * @param phase the name of the phase
+	 * @param start the value returned by {@link #startPhase()} when the phase
+	 *              began
+	 */
+	public void endPhase(String phase, long start) {
+		if (enabled) {
+			long elapsed = System.nanoTime() - start;
+			phaseNanos.computeIfAbsent(phase, name -> new LongAdder()).add(elapsed);
+		}
+	}
+
+	/**
+	 * Clears every counter and phase time
+	 */
+	public void reset() {
+		comparisons.reset();
+		moves.reset();
+		auxiliaryBytes.reset();
+		maxRecursionDepth.reset();
+		phaseNanos.clear();
+	}
+
+	/**
+	 * Returns the counters and phase times recorded so far. Counts recorded by
+	 * sorts that are still running may or may not be included.
+	 *
+	 * @return a snapshot of this instrumentation
+	 */
+	public Snapshot snapshot() {
+		Map<String, Long> phases = new TreeMap<String, Long>();
+		for (Map.Entry<String, LongAdder> entry : phaseNanos.entrySet()) {
+			phases.put(entry.getKey(), entry.getValue().sum());
+		}
+		return new Snapshot(comparisons.sum(), moves.sum(), auxiliaryBytes.sum(), (int) maxRecursionDepth.get(),
+				Collections.unmodifiableMap(phases));
+	}
+
+	/**
+	 * Snapshot holds the values of a SortInstrumentation at the time it was taken
+	 *
+	 * @author Jake Donovan
+	 *
+	 */
+	public static class Snapshot {
+
+		/** The number of comparator calls */
+		private final long comparisons;
+
+		/** The number of element writes */
+		private final long moves;
+
+		/** The estimated number of auxiliary bytes allocated */
+		private final long auxiliaryBytes;
+
+		/** The deepest recursion level recorded */
+		private final int maxRecursionDepth;
+
+		/** The nanoseconds recorded for each phase, by phase name */
+		private final Map<String, Long> phaseNanos;
+
+		/**
+		 * Constructs a new Snapshot
+		 *
+		 * @param comparisons       the number of comparator calls
+		 * @param moves             the number of element writes
+		 * @param auxiliaryBytes    the estimated number of auxiliary bytes allocated
+		 * @param maxRecursionDepth the deepest recursion level recorded
+		 * @param phaseNanos        the nanoseconds recorded for each phase
+		 */
+		private Snapshot(long comparisons, long moves, long auxiliaryBytes, int maxRecursionDepth,
+				Map<String, Long> phaseNanos) {
+			this.comparisons = comparisons;
+			this.moves = moves;
+			this.auxiliaryBytes = auxiliaryBytes;
+			this.maxRecursionDepth = maxRecursionDepth;
+			this.phaseNanos = phaseNanos;
+		}
+
+		/**
+		 * Returns the number of comparator calls
+		 *
+		 * @return the number of comparator calls
+		 */
+		public long getComparisons() {
+			return comparisons;
+		}
+
+		/**
+		 * Returns the number of element writes
+		 *
+		 * @return the number of element writes
+		 */
+		public long getMoves() {
+			return moves;
+		}
+
+		/**
+		 * Returns the estimated number of auxiliary bytes allocated
+		 *
+		 * @return the estimated number of auxiliary bytes allocated
+		 */
+		public long getAuxiliaryBytes() {
+			return auxiliaryBytes;
+		}
+
+		/**
+		 * Returns the deepest recursion level recorded, or 0 if no recursive sort
+		 * was recorded
+		 *
+		 * @return the deepest recursion level recorded
+		 */
+		public int getMaxRecursionDepth() {
+			return maxRecursionDepth;
+		}
+
+		/**
+		 * Returns the nanoseconds recorded for each phase, ordered by phase name
+		 *
+		 * @return an unmodifiable map from phase name to nanoseconds
+		 */
+		public Map<String, Long> getPhaseNanos() {
+			return phaseNanos;
+		}
+
+		/**
+		 * Returns the nanoseconds recorded for a phase
+		 *
+		 * @param phase the name of the phase
+		 * @return the nanoseconds recorded for the phase, or 0 if it was never
+		 *         recorded
+		 */
+		public long getPhaseNanos(String phase) {
+			return phaseNanos.getOrDefault(phase, 0L);
+		}
+
+		/**
+		 * Returns the counters and the phase times in milliseconds on one line
+		 *
+		 * @return a String representation of this Snapshot
+		 */
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			sb.append("comparisons=").append(comparisons);
+			sb.append(" moves=").append(moves);
+			sb.append(" auxiliaryBytes=").append(auxiliaryBytes);
+			sb.append(" maxRecursionDepth=").append(maxRecursionDepth);
+			for (Map.Entry<String, Long> entry : phaseNanos.entrySet()) {
+				sb.append(String.format(" %s=%.3fms", entry.getKey(), entry.getValue() / 1e6));
+			}
+			return sb.toString();
+		}
+	}
+}
@@ -10,5 +10,55 @@ public interface Sorter<E> {
      * how each class will sort data elements (whether it is using a selection sort algorithm, radix, counting, etc)
      * @param data the list of elements that will be sorted
      */
-	void sort(E[] data);
+	default void sort(E[] data) {
+		sort(data, 0, data.length);
+	}
+
+	/**
+	 * Sorts the elements of data from index from (inclusive) to index to (exclusive),
+	 * leaving the rest of data unchanged. The range is sorted in place, without
+	 * first copying it out of data.
+	 * @param data the array holding the elements that will be sorted
+	 * @param from the index of the first element to sort
+	 * @param to one past the index of the last element to sort
+	 * @throws IllegalArgumentException if from is greater than to
+	 * @throws ArrayIndexOutOfBoundsException if from is negative or to is greater than the length of data
+	 */
+	void sort(E[] data, int from, int to);
+
+	/**
+	 * Attaches instrumentation that records the work done by later calls to sort.
+	 * Instrumentation is optional: sorters that do not support it ignore this call
+	 * and keep returning {@link SortInstrumentation#DISABLED} from
+	 * {@link #getInstrumentation()}, so any sorter can be measured or composed.
+	 * @param instrumentation the instrumentation to record into; if null, recording stops
+	 */
+	default void setInstrumentation(SortInstrumentation instrumentation) {
+		// Sorters without instrumentation record nothing
+	}
+
+	/**
+	 * Returns the instrumentation attached to this sorter
+	 * @return the attached instrumentation, or {@link SortInstrumentation#DISABLED} if there is none
+	 */
+	default SortInstrumentation getInstrumentation() {
+		return SortInstrumentation.DISABLED;
+	}
+
+	/**
+	 * Checks that [from, to) is a valid range of an array
+	 * @param length the length of the array
+	 * @param from the index of the first element of the range
+	 * @param to one past the index of the last element of the range
+	 * @throws IllegalArgumentException if from is greater than to
+	 * @throws ArrayIndexOutOfBoundsException if from is negative or to is greater than length
+	 */
+	static void checkRange(int length, int from, int to) {
+		if(from > to) {
+			throw new IllegalArgumentException("From index " + from + " is greater than to index " + to);
+		}
+		if(from < 0 || to > length) {
+			throw new ArrayIndexOutOfBoundsException("Range [" + from + ", " + to + ") is outside an array of length " + length);
+		}
+	}
 }
@@ -0,0 +1,253 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * StudentNameSorter sorts Students in their natural order (last name, then
+ * first name, then ID) using multikey quicksort, also called three-way radix
+ * quicksort. Each Student is treated as one key: the characters of the last
+ * name, a separator that is less than every character, and the characters of
+ * the first name. The array is partitioned three ways on the character at one
+ * position at a time; the "equal" part moves on to the next position, so
+ * characters that a group of Students already share are never compared again.
+ * Students with the same last and first name are then ordered by ID.
+ *
+ * The result is the same as sorting with {@link Student#compareTo}, since
+ * String.compareTo also orders names character by character with a shorter
+ * name first. The sort is not stable.
+ *
+ * @author Jake Donovan
+ *
+ */
+public class StudentNameSorter implements Sorter<Student> {
+
+	/** Ranges of at most this many Students are sorted with insertion sort */
+	private static final int INSERTION_CUTOFF = 16;
+
+	/** The character value for the end of a name, which is less than every character */
+	private static final int END = -1;
+
+	/** Orders Students with the same name */
+	private RunMergeSorter<Student> idSorter;
+
+	/** The instrumentation that records the work done while sorting */
+	private SortInstrumentation instrumentation;
+
+	/**
+	 * Constructs a new StudentNameSorter
+	 */
+	public StudentNameSorter() {
+		idSorter = new RunMergeSorter<Student>(new StudentIDComparator());
+		instrumentation = SortInstrumentation.DISABLED;
+	}
+
+	/**
+	 * Attaches instrumentation that records the work done by later sorts. Only the
+	 * full Student comparisons of insertion sort and of the ID sort are counted as
+	 * comparisons, not the single characters compared while partitioning.
+	 *
+	 * @param instrumentation the instrumentation to record into; if null, recording
+	 *                        stops
+	 */
+	@Override
+	public void setInstrumentation(SortInstrumentation instrumentation) {
+		if (instrumentation == null) {
+			this.instrumentation = SortInstrumentation.DISABLED;
+		} else {
+			this.instrumentation = instrumentation;
+		}
+		idSorter.setInstrumentation(instrumentation);
+	}
+
+	/**
+	 * Returns the instrumentation attached to this sorter
+	 *
+	 * @return the attached instrumentation, or SortInstrumentation.DISABLED if
+	 *         there is none
+	 */
+	@Override
+	public SortInstrumentation getInstrumentation() {
+		return instrumentation;
+	}
+
+	/**
+	 * Sorts a range of Students by last name, then first name, then ID
+	 *
+	 * @param data the array of Students that will be sorted
+	 * @param from the index of the first Student to sort
+	 * @param to   one past the index of the last Student to sort
+	 */
+	@Override
+	public void sort(Student[] data, int from, int to) {
+		Sorter.checkRange(data.length, from, to);
+		long start = instrumentation.startPhase();
+		sort(data, from, to - 1, 0, 1);
+		instrumentation.endPhase("sort", start);
+	}
+
+	/**
+	 * Sorts data[low, high], whose keys all share their first d characters
+	 *
+	 * @param data  the array of Students
+	 * @param low   the low index
+	 * @param high  the high index
+	 * @param d     the key position to partition on
+	 * @param depth the recursion depth of this call, starting at 1
+	 */
+	private void sort(Student[] data, int low, int high, int d, int depth) {
+		instrumentation.recordDepth(depth);
+		int lo = low;
+		int hi = high;
+		while (hi - lo + 1 > INSERTION_CUTOFF) {
+			swap(data, lo, medianOfThree(data, lo, lo + (hi - lo) / 2, hi, d));
+			int v = charAt(data[lo], d);
+			// Invariant: [lo, lt) < v, [lt, i) == v, (gt, hi] > v
+			int lt = lo;
+			int gt = hi;
+			int i = lo + 1;
+			// Includes the swap that moved the median to lo
+			long swaps = 1;
+			while (i <= gt) {
+				int c = charAt(data[i], d);
+				if (c < v) {
+					swap(data, lt++, i++);
+					swaps++;
+				} else if (c > v) {
+					swap(data, i, gt--);
+					swaps++;
+				} else {
+					i++;
+				}
+			}
+			instrumentation.addMoves(2 * swaps);
+
+			sort(data, lo, lt - 1, d, depth + 1);
+			if (v != END) {
+				sort(data, lt, gt, d + 1, depth + 1);
+			} else if (d == data[lt].getLast().length()) {
+				// The separator between the last and first name
+				sort(data, lt, gt, d + 1, depth + 1);
+			} else if (gt > lt) {
+				// The end of the first name, so the whole name is the same
+				idSorter.sort(data, lt, gt + 1);
+			}
+			lo = gt + 1;
+		}
+		insertionSort(data, lo, hi, d);
+	}
+
+	/**
+	 * Returns the key character of a Student at position d: a character of the
+	 * last name, the separator, a character of the first name, or END once the
+	 * first name is finished
+	 *
+	 * @param s the Student
+	 * @param d the key position
+	 * @return the key character, or END for the separator or the end of the key
+	 */
+	private static int charAt(Student s, int d) {
+		String last = s.getLast();
+		if (d < last.length()) {
+			return last.charAt(d);
+		}
+		int f = d - last.length() - 1;
+		String first = s.getFirst();
+		if (f >= 0 && f < first.length()) {
+			return first.charAt(f);
+		}
+		return END;
+	}
+
+	/**
+	 * Compares two Students whose keys share their first d characters
+	 *
+	 * @param x a Student
+	 * @param y a Student
+	 * @param d the first key position that may differ
+	 * @return a negative number if x comes first, a positive number if y comes
+	 *         first, or 0 if they have the same name and ID
+	 */
+	private static int compareFrom(Student x, Student y, int d) {
+		for (int i = d;; i++) {
+			int cx = charAt(x, i);
+			int cy = charAt(y, i);
+			if (cx != cy) {
+				return cx < cy ? -1 : 1;
+			}
+			if (cx == END && i > x.getLast().length()) {
+				return Integer.compare(x.getId(), y.getId());
+			}
+		}
+	}
+
+	/**
+	 * Returns whichever of three indexes holds the median key character at
+	 * position d
+	 *
+	 * @param data the array of Students
+	 * @param a    an index
+	 * @param b    an index
+	 * @param c    an index
+	 * @param d    the key position
+	 * @return the index of the median
+	 */
+	private static int medianOfThree(Student[] data, int a, int b, int c, int d) {
+		int ca = charAt(data[a], d);
+		int cb = charAt(data[b], d);
+		int cc = charAt(data[c], d);
+		if (ca < cb) {
+			if (cb < cc) {
+				return b;
+			}
+			return ca < cc ? c : a;
+		}
+		if (ca < cc) {
+			return a;
+		}
+		return cb < cc ? c : b;
+	}
+
+	/**
+	 * Sorts data[low, high], whose keys all share their first d characters, using
+	 * insertion sort
+	 *
+	 * @param data the array of Students
+	 * @param low  the low index
+	 * @param high the high index
+	 * @param d    the first key position that may differ
+	 */
+	private void insertionSort(Student[] data, int low, int high, int d) {
+		long comparisons = 0;
+		long moves = 0;
+		for (int i = low + 1; i <= high; i++) {
+			Student x = data[i];
+			int j = i - 1;
+			while (j >= low) {
+				comparisons++;
+				if (compareFrom(data[j], x, d) <= 0) {
+					break;
+				}
+				data[j + 1] = data[j];
+				j--;
+			}
+			data[j + 1] = x;
+			moves += i - j;
+		}
+		instrumentation.addComparisons(comparisons);
+		instrumentation.addMoves(moves);
+	}
+
+	/**
+	 * Swaps the Students at two indexes
+	 *
+	 * @param data an array of Students
+	 * @param i    the index of a Student that will be swapped
+	 * @param j    the index of a Student that will be swapped
+	 */
+	private void swap(Student[] data, int i, int j) {
+		Student temp = data[i];
+		data[i] = data[j];
+		data[j] = temp;
+	}
+}
@@ -0,0 +1,97 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.benchmark.RosterGenerator.Shape;
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * Tests RosterGenerator class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class RosterGeneratorTest {
+
+	/**
+	 * Tests RosterGenerator.generate() for every shape
+	 */
+	@Test
+	public void testGenerate() {
+		Student[] random = RosterGenerator.generate(Shape.RANDOM, 1000, 1);
+		assertEquals(1000, random.length);
+		Set<Integer> ids = new HashSet<Integer>();
+		for (Student s : random) {
+			ids.add(s.getId());
+			assertTrue(s.getGpa() >= 0 && s.getGpa() <= 4);
+			assertTrue(Character.isUpperCase(s.getLast().charAt(0)));
+		}
+		// The IDs are exactly 1 to n
+		assertEquals(1000, ids.size());
+		assertTrue(ids.contains(1) && ids.contains(1000));
+
+		Student[] ascending = RosterGenerator.generate(Shape.ASCENDING, 1000, 1);
+		Student[] descending = RosterGenerator.generate(Shape.DESCENDING, 1000, 1);
+		for (int i = 1; i < 1000; i++) {
+			assertTrue(ascending[i - 1].compareTo(ascending[i]) < 0);
+			assertTrue(ascending[i - 1].getId() < ascending[i].getId());
+			assertTrue(descending[i - 1].compareTo(descending[i]) > 0);
+			assertTrue(descending[i - 1].getId() > descending[i].getId());
+		}
+
+		Set<Integer> fewIDs = new HashSet<Integer>();
+		for (Student s : RosterGenerator.generate(Shape.FEW_UNIQUE, 1000, 1)) {
+			fewIDs.add(s.getId());
+		}
+		assertEquals(RosterGenerator.FEW_UNIQUE_VALUES, fewIDs.size());
+
+		int max = 0;
+		for (Student s : RosterGenerator.generate(Shape.SPARSE_IDS, 1000, 1)) {
+			assertTrue(s.getId() >= 0);
+			max = Math.max(max, s.getId());
+		}
+		assertTrue(max > 1000000);
+
+		assertEquals(0, RosterGenerator.generate(Shape.RANDOM, 0, 1).length);
+	}
+
+	/**
+	 * Tests that the same seed gives the same roster
+	 */
+	@Test
+	public void testSeed() {
+		Student[] one = RosterGenerator.generate(Shape.RANDOM, 100, 7);
+		Student[] two = RosterGenerator.generate(Shape.RANDOM, 100, 7);
+		for (int i = 0; i < 100; i++) {
+			assertEquals(0, one[i].compareTo(two[i]));
+			assertEquals(one[i].getGpa(), two[i].getGpa(), 0);
+		}
+	}
+
+	/**
+	 * Tests RosterGenerator.name(), whose names sort in the order of their values
+	 */
+	@Test
+	public void testName() {
+		assertEquals("Aaaaaa", RosterGenerator.name(0));
+		assertEquals("Aaaaab", RosterGenerator.name(1));
+		assertEquals("Aaaaba", RosterGenerator.name(26));
+		assertTrue(RosterGenerator.name(25).compareTo(RosterGenerator.name(26)) < 0);
+		assertTrue(RosterGenerator.name(11881375).compareTo(RosterGenerator.name(11881376)) < 0);
+	}
+
+	/**
+	 * Tests that invalid arguments are rejected
+	 */
+	@Test
+	public void testInvalid() {
+		Exception e = assertThrows(IllegalArgumentException.class, () -> RosterGenerator.generate(null, 1, 1));
+		assertEquals("Shape must not be null", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> RosterGenerator.generate(Shape.RANDOM, -1, 1));
+		assertEquals("Size must not be negative: -1", e.getMessage());
+	}
+}
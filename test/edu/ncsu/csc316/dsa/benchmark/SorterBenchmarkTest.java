@@ -0,0 +1,78 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.benchmark.RosterGenerator.Shape;
+
+/**
+ * Tests SorterBenchmark class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class SorterBenchmarkTest {
+
+	/**
+	 * Tests SorterBenchmark.measure() on every sorter and shape with small rosters
+	 */
+	@Test
+	public void testMeasure() {
+		SorterBenchmark benchmark = new SorterBenchmark(0, 1);
+		for (String sorter : SorterBenchmark.getSorterNames()) {
+			for (Shape shape : Shape.values()) {
+				SorterBenchmark.Result result = benchmark.measure(sorter, shape, 200);
+				assertEquals(sorter, result.getSorter());
+				assertEquals(shape, result.getShape());
+				assertEquals(200, result.getSize());
+				assertTrue(result.getMinNanos() > 0);
+				assertTrue(result.getMedianNanos() >= result.getMinNanos());
+				assertTrue(result.toCsv().startsWith(sorter + "," + shape + ",200,"));
+			}
+		}
+		assertTrue(SorterBenchmark.getSorterNames().contains("Quick-Ninther"));
+		assertEquals(8, SorterBenchmark.Result.CSV_HEADER.split(",").length);
+	}
+
+	/**
+	 * Tests the counts measured for a sorter whose counts are known
+	 */
+	@Test
+	public void testCounts() {
+		SorterBenchmark.Result result = new SorterBenchmark(1, 3).measure("Insertion", Shape.ASCENDING, 500);
+		assertEquals(499, result.getComparisons());
+		assertEquals(499, result.getMoves());
+		assertEquals(8, result.toCsv().split(",").length);
+	}
+
+	/**
+	 * Tests which sorters are skipped on large rosters
+	 */
+	@Test
+	public void testIsMeasured() {
+		int large = SorterBenchmark.QUADRATIC_LIMIT + 1;
+		assertTrue(SorterBenchmark.isMeasured("Bubble", Shape.RANDOM, SorterBenchmark.QUADRATIC_LIMIT));
+		assertFalse(SorterBenchmark.isMeasured("Bubble", Shape.RANDOM, large));
+		assertTrue(SorterBenchmark.isMeasured("Insertion", Shape.ASCENDING, large));
+		assertFalse(SorterBenchmark.isMeasured("Quick-First", Shape.ASCENDING, large));
+		assertTrue(SorterBenchmark.isMeasured("Quick-First", Shape.RANDOM, large));
+		assertFalse(SorterBenchmark.isMeasured("Quick-Ninther", Shape.FEW_UNIQUE, large));
+		assertTrue(SorterBenchmark.isMeasured("Quick-Ninther-Block", Shape.FEW_UNIQUE, large));
+		assertTrue(SorterBenchmark.isMeasured("Merge", Shape.DESCENDING, large));
+	}
+
+	/**
+	 * Tests that invalid arguments are rejected
+	 */
+	@Test
+	public void testInvalid() {
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new SorterBenchmark(-1, 1));
+		assertEquals("Warmup must not be negative: -1", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> new SorterBenchmark(0, 0));
+		assertEquals("Iterations must be at least 1: 0", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> new SorterBenchmark().measure("Missing", Shape.RANDOM, 1));
+		assertEquals("Unknown sorter: Missing", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> SorterBenchmark.isMeasured("Missing", Shape.RANDOM, 1));
+		assertEquals("Unknown sorter: Missing", e.getMessage());
+	}
+}
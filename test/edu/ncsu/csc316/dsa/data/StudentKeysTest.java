@@ -0,0 +1,54 @@
+package edu.ncsu.csc316.dsa.data;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+/**
+ * Tests StudentKeys class
+ * @author Jake Donovan
+ *
+ */
+public class StudentKeysTest {
+	
+	/**
+	 * Tests StudentKeys.gpaPoints()
+	 */
+	@Test
+	public void testGpaPoints() {
+		assertEquals(0, StudentKeys.gpaPoints(0.0));
+		assertEquals(110, StudentKeys.gpaPoints(1.1));
+		assertEquals(225, StudentKeys.gpaPoints(2.25));
+		assertEquals(400, StudentKeys.gpaPoints(4.0));
+		assertEquals(0, StudentKeys.gpaPoints(-1.0));
+		assertEquals(StudentKeys.MAX_GPA_POINTS, StudentKeys.gpaPoints(20.0));
+	}
+	
+	/**
+	 * Tests StudentKeys.namePrefix() keeps names in String order
+	 */
+	@Test
+	public void testNamePrefix() {
+		String[] ordered = { "", "A", "Ab", "Abc", "B", "Smit", "Smith", "Smithson", "a", "\u00C5berg" };
+		for(int i = 1; i < ordered.length; i++) {
+			assertTrue(StudentKeys.namePrefix(ordered[i - 1], 9) < StudentKeys.namePrefix(ordered[i], 9));
+		}
+		// Names that share the encoded prefix have equal keys
+		assertEquals(StudentKeys.namePrefix("Smithson", 3), StudentKeys.namePrefix("Smith", 3));
+		// Nothing after a character past the ASCII range is encoded
+		assertEquals(StudentKeys.namePrefix("\u00D6mer", 9), StudentKeys.namePrefix("\u00DCber", 9));
+		assertEquals(StudentKeys.namePrefix("A\u00C9z", 9), StudentKeys.namePrefix("A\u00CBa", 9));
+		assertTrue(StudentKeys.namePrefix("A\u007Ez", 9) < StudentKeys.namePrefix("A\u00CBa", 9));
+	}
+	
+	/**
+	 * Tests that the Student keys agree with the Student orderings
+	 */
+	@Test
+	public void testKeys() {
+		Student high = new Student("Zed", "Zulu", 9, 1, 4.0, "zulu");
+		Student low = new Student("Amy", "Able", 3, 1, 1.5, "able");
+		assertTrue(StudentKeys.GPA.applyAsLong(high) < StudentKeys.GPA.applyAsLong(low));
+		assertTrue(StudentKeys.NAME.applyAsLong(low) < StudentKeys.NAME.applyAsLong(high));
+		assertTrue(StudentKeys.ID.applyAsLong(low) < StudentKeys.ID.applyAsLong(high));
+	}
+}
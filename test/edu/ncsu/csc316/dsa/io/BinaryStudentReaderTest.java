@@ -0,0 +1,165 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * Tests BinaryStudentReader and BinaryStudentWriter classes
+ * @author Jake Donovan
+ *
+ */
+public class BinaryStudentReaderTest {
+	/** The binary roster file */
+	private File file;
+
+	/**
+	 * Creates the binary roster file
+	 * @throws IOException if the file cannot be created
+	 */
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("binary-roster", ".bin");
+	}
+
+	/**
+	 * Deletes the binary roster file
+	 */
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	/**
+	 * Asserts that two rosters hold the same students with the same field values
+	 * @param expected the roster that was written
+	 * @param actual the roster that was read
+	 */
+	private static void assertSameRoster(Student[] expected, Student[] actual) {
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], actual[i]);
+			assertEquals(expected[i].getUnityID(), actual[i].getUnityID());
+			assertEquals(expected[i].getCreditHours(), actual[i].getCreditHours());
+			assertEquals(Double.doubleToLongBits(expected[i].getGpa()), Double.doubleToLongBits(actual[i].getGpa()));
+		}
+	}
+
+	/**
+	 * Tests that a roster written by BinaryStudentWriter is read back by
+	 * BinaryStudentReader into the same Students that StudentReader read from CSV
+	 */
+	@Test
+	public void testReadFile() {
+		for (String name : new String[] { "student_ascendingID", "student_descendingID", "student_randomOrder" }) {
+			Student[] contents = StudentReader.readInputAsArray("input/" + name + ".csv");
+			BinaryStudentWriter.writeOutputFromArray(file.getPath(), contents);
+			assertSameRoster(contents, BinaryStudentReader.readInputAsArray(file.getPath()));
+		}
+		// 16 students of about 40 bytes each
+		assertTrue(file.length() < BinaryStudentWriter.HEADER_BYTES + 16 * 40);
+
+		BinaryStudentWriter.writeOutputFromArray(file.getPath(), new Student[0]);
+		assertEquals(BinaryStudentWriter.HEADER_BYTES, file.length());
+		assertEquals(0, BinaryStudentReader.readInputAsArray(file.getPath()).length);
+	}
+
+	/**
+	 * Tests a roster larger than the write buffer and the mapping window, with
+	 * non-ASCII names, null names, and extreme values
+	 */
+	@Test
+	public void testLargeRoster() {
+		Random random = new Random(316);
+		Student[] roster = new Student[60000];
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First\u00e9" + random.nextInt(1000), "Last" + random.nextInt(1000),
+					random.nextInt(), random.nextInt(19), random.nextInt(401) / 100.0, "unity" + i);
+		}
+		roster[0] = new Student(null, "", Integer.MIN_VALUE, Integer.MAX_VALUE, -4.25, null);
+		BinaryStudentWriter.writeOutputFromArray(file.getPath(), roster);
+		assertSameRoster(roster, BinaryStudentReader.readInputAsArray(file.getPath()));
+		assertSameRoster(roster, BinaryStudentReader.readInputAsArray(file.getPath(), null,
+				BinaryStudentWriter.MAX_RECORD_BYTES + 1000));
+
+		NameDictionary names = new NameDictionary();
+		Student[] shared = BinaryStudentReader.readInputAsArray(file.getPath(), names);
+		assertSameRoster(roster, shared);
+		// 1000 first names, 1000 last names, and the empty last name of the first student
+		assertEquals(2 * roster.length - 1, names.getLookups());
+		assertTrue(names.size() <= 2001);
+		assertTrue(names.getDeduplicationRatio() > 50);
+		Student match = null;
+		for (int i = 2; match == null; i++) {
+			if (shared[i].getLast().equals(shared[1].getLast())) {
+				match = shared[i];
+			}
+		}
+		assertSame(shared[1].getLast(), match.getLast());
+	}
+
+	/**
+	 * Tests BinaryStudentWriter.hundredths()
+	 */
+	@Test
+	public void testHundredths() {
+		assertEquals(110, BinaryStudentWriter.hundredths(1.1));
+		assertEquals(225, BinaryStudentWriter.hundredths(2.25));
+		assertEquals(400, BinaryStudentWriter.hundredths(4.0));
+		Exception e = assertThrows(IllegalArgumentException.class, () -> BinaryStudentWriter.hundredths(3.125));
+		assertEquals("GPA must be a whole number of hundredths: 3.125", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> BinaryStudentWriter.hundredths(Double.NaN));
+	}
+
+	/**
+	 * Tests that missing, foreign, truncated, and corrupted files are rejected
+	 * @throws IOException if the file cannot be changed
+	 */
+	@Test
+	public void testInvalid() throws IOException {
+		Exception e = assertThrows(IllegalArgumentException.class,
+				() -> BinaryStudentReader.readInputAsArray("input/missing.bin"));
+		assertTrue(e.getMessage().startsWith("File not found: "));
+		e = assertThrows(IllegalArgumentException.class,
+				() -> BinaryStudentReader.readInputAsArray("input/student_randomOrder.csv"));
+		assertEquals("Not a binary roster file: input/student_randomOrder.csv", e.getMessage());
+
+		Student[] contents = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		BinaryStudentWriter.writeOutputFromArray(file.getPath(), contents);
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			// Change one byte of a name
+			raf.seek(BinaryStudentWriter.HEADER_BYTES + BinaryStudentWriter.FIXED_RECORD_BYTES);
+			int b = raf.read();
+			raf.seek(BinaryStudentWriter.HEADER_BYTES + BinaryStudentWriter.FIXED_RECORD_BYTES);
+			raf.write(b + 1);
+		}
+		e = assertThrows(IllegalArgumentException.class, () -> BinaryStudentReader.readInputAsArray(file.getPath()));
+		assertEquals("Binary roster file is corrupted: " + file.getPath(), e.getMessage());
+
+		BinaryStudentWriter.writeOutputFromArray(file.getPath(), contents);
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(raf.length() - 1);
+		}
+		e = assertThrows(IllegalArgumentException.class, () -> BinaryStudentReader.readInputAsArray(file.getPath()));
+		assertEquals("Binary roster file is truncated: " + file.getPath(), e.getMessage());
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.seek(Integer.BYTES);
+			raf.writeInt(BinaryStudentWriter.VERSION + 1);
+		}
+		e = assertThrows(IllegalArgumentException.class, () -> BinaryStudentReader.readInputAsArray(file.getPath()));
+		assertEquals("Unsupported binary roster version: 2", e.getMessage());
+
+		Student[] precise = { new Student("A", "B", 1, 1, 3.333, "c") };
+		assertThrows(IllegalArgumentException.class, () -> BinaryStudentWriter.writeOutputFromArray(file.getPath(), precise));
+	}
+}
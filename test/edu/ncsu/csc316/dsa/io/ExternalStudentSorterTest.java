@@ -0,0 +1,109 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.sorter.MergeSorter;
+import edu.ncsu.csc316.dsa.sorter.QuickSorter;
+
+/**
+ * Tests ExternalStudentSorter class
+ * @author Jake Donovan
+ *
+ */
+public class ExternalStudentSorterTest {
+	/** The directory holding the output file and the temporary run files */
+	private File directory;
+	/** The sorted output file */
+	private File output;
+
+	/**
+	 * Creates a temporary directory for the output and run files
+	 * @throws IOException if the directory cannot be created
+	 */
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("external-sort").toFile();
+		output = new File(directory, "sorted.csv");
+	}
+
+	/**
+	 * Deletes the output file and the temporary directory
+	 */
+	@After
+	public void tearDown() {
+		output.delete();
+		directory.delete();
+	}
+
+	/**
+	 * Tests ExternalStudentSorter.sort() with chunks smaller than the roster and a
+	 * merge width that needs several merge passes, and that no run files are left
+	 */
+	@Test
+	public void testSort() {
+		ExternalStudentSorter sorter = new ExternalStudentSorter(new QuickSorter<Student>(new StudentIDComparator()),
+				new StudentIDComparator(), 3, 2, directory);
+		sorter.sort("input/student_randomOrder.csv", output.getPath());
+		Student[] sorted = StudentReader.readInputAsArray(output.getPath());
+		Student[] expected = StudentReader.readInputAsArray("input/student_ascendingID.csv");
+		assertArrayEquals(expected, sorted);
+		assertEquals(1, directory.list().length);
+
+		// The default chunk size holds the whole roster, so there is a single run
+		new ExternalStudentSorter(null, null).sort("input/student_descendingID.csv", output.getPath());
+		sorted = StudentReader.readInputAsArray(output.getPath());
+		expected = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		new MergeSorter<Student>().sort(expected);
+		assertArrayEquals(expected, sorted);
+	}
+
+	/**
+	 * Tests that ExternalStudentSorter.sort() keeps equal students in input order
+	 * across chunks when the chunk sorter is stable
+	 * @throws IOException if the input file cannot be written
+	 */
+	@Test
+	public void testSortStable() throws IOException {
+		Random random = new Random(316);
+		Student[] roster = new Student[1000];
+		for(int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First" + i, "Last" + i, i, i, random.nextInt(5) / 2.0, "unity" + i);
+		}
+		File input = new File(directory, "roster.csv");
+		try {
+			StudentWriter.writeOutputFromArray(input.getPath(), roster);
+			new ExternalStudentSorter(null, new StudentGPAComparator(), 64, 4, directory).sort(input.getPath(), output.getPath());
+			new MergeSorter<Student>(new StudentGPAComparator()).sort(roster);
+			assertArrayEquals(roster, StudentReader.readInputAsArray(output.getPath()));
+			assertEquals(2, directory.list().length);
+		} finally {
+			input.delete();
+		}
+	}
+
+	/**
+	 * Tests ExternalStudentSorter with invalid arguments and a missing input file
+	 */
+	@Test
+	public void testInvalid() {
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new ExternalStudentSorter(null, null, 0));
+		assertEquals("Chunk size must be at least 1: 0", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> new ExternalStudentSorter(null, null, 1, 1, null));
+		assertEquals("Merge width must be at least 2: 1", e.getMessage());
+		ExternalStudentSorter sorter = new ExternalStudentSorter(null, null, 4, 2, directory);
+		assertThrows(IllegalArgumentException.class, () -> sorter.sort("input/missing.csv", output.getPath()));
+		assertEquals(0, directory.list().length);
+	}
+}
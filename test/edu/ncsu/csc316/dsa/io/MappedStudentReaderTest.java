@@ -0,0 +1,175 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * Tests MappedStudentReader class
+ * @author Jake Donovan
+ *
+ */
+public class MappedStudentReaderTest {
+
+	/**
+	 * Asserts that two rosters hold the same students with the same field values
+	 * @param expected the roster read by StudentReader
+	 * @param actual the roster read by MappedStudentReader
+	 */
+	private static void assertSameRoster(Student[] expected, Student[] actual) {
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], actual[i]);
+			assertEquals(expected[i].getUnityID(), actual[i].getUnityID());
+			assertEquals(expected[i].getCreditHours(), actual[i].getCreditHours());
+			assertEquals(Double.doubleToLongBits(expected[i].getGpa()), Double.doubleToLongBits(actual[i].getGpa()));
+		}
+	}
+
+	/**
+	 * Writes text to a new temporary file
+	 * @param text the contents of the file
+	 * @return the temporary file
+	 * @throws IOException if the file cannot be written
+	 */
+	private static File write(String text) throws IOException {
+		File file = File.createTempFile("mapped-reader", ".csv");
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	/**
+	 * Tests that MappedStudentReader.readInputAsArray() reads the input files the
+	 * same way StudentReader does
+	 */
+	@Test
+	public void testReadFile() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		for (String name : new String[] { "student_ascendingID", "student_descendingID", "student_randomOrder" }) {
+			String path = "input/" + name + ".csv";
+			Student[] expected = StudentReader.readInputAsArray(path);
+			assertSameRoster(expected, MappedStudentReader.readInputAsArray(path));
+			// Chunks smaller than the file split it into many chunks, some of them empty
+			for (int chunkBytes : new int[] { 1, 64, 100, 257 }) {
+				assertSameRoster(expected, MappedStudentReader.readInputAsArray(path, 1, null, null, chunkBytes));
+				assertSameRoster(expected, MappedStudentReader.readInputAsArray(path, 4, pool, null, chunkBytes));
+			}
+			assertSameRoster(expected, MappedStudentReader.readInputAsArray(path, 8, null));
+		}
+		pool.shutdown();
+		Student[] contents = MappedStudentReader.readInputAsArray("input/student_ascendingID.csv");
+		assertEquals("Amber", contents[0].getFirst());
+		assertEquals("Michael", contents[0].getLast());
+		assertEquals("michaea", contents[0].getUnityID());
+		assertEquals(1, contents[0].getId());
+		assertEquals(1.1, contents[0].getGpa(), 0);
+		assertEquals(10, contents[0].getCreditHours());
+	}
+
+	/**
+	 * Tests line endings, a missing final line break, non-ASCII names, and
+	 * numbers that are not plain decimals
+	 * @throws IOException if the temporary files cannot be written
+	 */
+	@Test
+	public void testFormats() throws IOException {
+		String[] texts = {
+			StudentWriter.HEADER + "\r\nAmber,Michael,michaea,1,1.10,10\r\nAra,Marsh,marsha,3,2.25,11\r\n",
+			StudentWriter.HEADER + "\rAmber,Michael,michaea,1,1.10,10\rAra,Marsh,marsha,3,2.25,11",
+			StudentWriter.HEADER + "\nZo\u00eb,\u00c7elik,celikz,+42,4,-1\nA,B,c,-7,1e-1,2,extra\nA,B,c,2147483647,-0.00,0",
+			StudentWriter.HEADER + "\nA,B,c,1,.5,1\nA,B,c,1,3.,1\nA,B,c,1,0.1234567890123456789,1\nA,B,c,1, 2.5,1\n",
+			StudentWriter.HEADER,
+			StudentWriter.HEADER + "\n"
+		};
+		for (String text : texts) {
+			File file = write(text);
+			try {
+				Student[] expected = StudentReader.readInputAsArray(file.getPath());
+				assertSameRoster(expected, MappedStudentReader.readInputAsArray(file.getPath()));
+				for (int chunkBytes = 1; chunkBytes < 100; chunkBytes++) {
+					assertSameRoster(expected, MappedStudentReader.readInputAsArray(file.getPath(), 2, null, null, chunkBytes));
+				}
+			} finally {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Tests that MappedStudentReader reads generated GPAs to the same doubles as
+	 * StudentReader
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	@Test
+	public void testNumbers() throws IOException {
+		Random random = new Random(316);
+		StringBuilder text = new StringBuilder(StudentWriter.HEADER).append('\n');
+		for (int i = 0; i < 5000; i++) {
+			text.append("First,Last,unity,").append(random.nextInt(Integer.MAX_VALUE)).append(',');
+			text.append(String.format("%.2f", random.nextInt(401) / 100.0)).append(',');
+			text.append(random.nextInt(19)).append('\n');
+			text.append("First,Last,unity,").append(-random.nextInt(1000)).append(',');
+			text.append(random.nextDouble() * 4).append(',').append(random.nextInt(19)).append('\n');
+		}
+		File file = write(text.toString());
+		try {
+			assertSameRoster(StudentReader.readInputAsArray(file.getPath()),
+					MappedStudentReader.readInputAsArray(file.getPath(), 3, null, null, 4096));
+		} finally {
+			file.delete();
+		}
+
+		assertEquals(3, MappedStudentReader.countLines(ByteBuffer.wrap("a\r\nb\rc".getBytes(StandardCharsets.UTF_8))));
+		assertEquals(2, MappedStudentReader.countLines(ByteBuffer.wrap("\n\n".getBytes(StandardCharsets.UTF_8))));
+
+		ByteBuffer buffer = ByteBuffer.wrap("12,-3.25,x".getBytes(StandardCharsets.UTF_8));
+		assertEquals(12, MappedStudentReader.parseInt(buffer, 0, 2));
+		assertEquals(-3.25, MappedStudentReader.parseDouble(buffer, 3, 8), 0);
+		assertThrows(NumberFormatException.class, () -> MappedStudentReader.parseInt(buffer, 9, 10));
+		assertThrows(NumberFormatException.class, () -> MappedStudentReader.parseDouble(buffer, 9, 10));
+	}
+
+	/**
+	 * Tests MappedStudentReader with a missing file, an empty file, and lines
+	 * that cannot be read
+	 * @throws IOException if the temporary files cannot be written
+	 */
+	@Test
+	public void testInvalid() throws IOException {
+		Exception e = assertThrows(IllegalArgumentException.class,
+				() -> MappedStudentReader.readInputAsArray("input/missing.csv"));
+		assertTrue(e.getMessage().startsWith("File not found: "));
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		File empty = write("");
+		File shortLine = write(StudentWriter.HEADER + "\nAmber,Michael,michaea,1,1.10\n");
+		try {
+			assertThrows(NoSuchElementException.class, () -> MappedStudentReader.readInputAsArray(empty.getPath()));
+			e = assertThrows(IllegalArgumentException.class,
+					() -> MappedStudentReader.readInputAsArray(shortLine.getPath()));
+			assertEquals("Student line must have 6 fields: Amber,Michael,michaea,1,1.10", e.getMessage());
+			// The exception thrown by a worker is the one the caller sees
+			e = assertThrows(IllegalArgumentException.class,
+					() -> MappedStudentReader.readInputAsArray(shortLine.getPath(), 2, pool, null, 1));
+			assertEquals("Student line must have 6 fields: Amber,Michael,michaea,1,1.10", e.getMessage());
+			e = assertThrows(IllegalArgumentException.class,
+					() -> MappedStudentReader.readInputAsArray(shortLine.getPath(), 0, null));
+			assertEquals("Parallelism must be at least 1: 0", e.getMessage());
+		} finally {
+			empty.delete();
+			shortLine.delete();
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * Tests NameDictionary class
+ * @author Jake Donovan
+ *
+ */
+public class NameDictionaryTest {
+
+	/**
+	 * Tests NameDictionary.intern() with Strings and with bytes, and the counts
+	 * it reports
+	 */
+	@Test
+	public void testIntern() {
+		NameDictionary names = new NameDictionary();
+		assertEquals(1, names.getDeduplicationRatio(), 0);
+		String amber = new String("Amber");
+		assertSame(amber, names.intern(amber));
+		assertSame(amber, names.intern(new String("Amber")));
+		assertNull(names.intern((String) null));
+
+		ByteBuffer buffer = ByteBuffer.wrap("Amber,Zo\u00eb,Zo\u00eb,,Ara".getBytes(StandardCharsets.UTF_8));
+		assertSame(amber, names.intern(buffer, 0, 5));
+		String zoe = names.intern(buffer, 6, 10);
+		assertEquals("Zo\u00eb", zoe);
+		assertSame(zoe, names.intern(buffer, 11, 15));
+		assertEquals("", names.intern(buffer, 16, 16));
+		assertSame(names.intern(buffer, 17, 20), names.intern("Ara"));
+
+		assertEquals(4, names.size());
+		assertEquals(8, names.getLookups());
+		assertEquals(2, names.getDeduplicationRatio(), 0);
+		assertEquals("lookups=8 distinct=4 ratio=2.00", names.toString());
+	}
+
+	/**
+	 * Tests that a roster loaded through a NameDictionary shares its names,
+	 * including across the chunks of a parallel load
+	 */
+	@Test
+	public void testLoad() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		NameDictionary names = new NameDictionary();
+		Student[] roster = MappedStudentReader.readInputAsArray("input/student_randomOrder.csv", 4, pool, names, 64);
+		pool.shutdown();
+		Student[] again = MappedStudentReader.readInputAsArray("input/student_randomOrder.csv", 1, null, names);
+		assertEquals(2 * 2 * roster.length, names.getLookups());
+		assertEquals(names.getLookups() / names.getDeduplicationRatio(), names.size(), 1e-9);
+		for (int i = 0; i < roster.length; i++) {
+			assertNotSame(roster[i], again[i]);
+			assertSame(roster[i].getFirst(), again[i].getFirst());
+			assertSame(roster[i].getLast(), again[i].getLast());
+			assertNotSame(roster[i].getUnityID(), again[i].getUnityID());
+			assertEquals(0, roster[i].compareTo(again[i]));
+		}
+	}
+}
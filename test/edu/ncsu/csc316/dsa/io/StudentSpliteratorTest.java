@@ -0,0 +1,158 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * Tests StudentSpliterator class and MappedStudentReader.stream()
+ * @author Jake Donovan
+ *
+ */
+public class StudentSpliteratorTest {
+	/** A roster file large enough to be split several times */
+	private File file;
+	/** The students in the roster file */
+	private Student[] roster;
+
+	/**
+	 * Writes a roster file of random students
+	 * @throws IOException if the file cannot be created
+	 */
+	@Before
+	public void setUp() throws IOException {
+		Random random = new Random(316);
+		roster = new Student[20000];
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First" + random.nextInt(1000), "Last" + random.nextInt(1000), i,
+					random.nextInt(19), random.nextInt(401) / 100.0, "unity" + i);
+		}
+		file = File.createTempFile("student-spliterator", ".csv");
+		StudentWriter.writeOutputFromArray(file.getPath(), roster);
+	}
+
+	/**
+	 * Deletes the roster file
+	 */
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	/**
+	 * Tests that MappedStudentReader.stream() gives the same Students, in the
+	 * same order, as MappedStudentReader.readInputAsArray()
+	 */
+	@Test
+	public void testStream() {
+		for (String path : new String[] { "input/student_randomOrder.csv", file.getPath() }) {
+			Student[] expected = MappedStudentReader.readInputAsArray(path);
+			// Small windows make lines cross the end of the window
+			int[] windows = expected.length < 100 ? new int[] { 1, 7, 64 } : new int[] { 4096, 4099 };
+			for (int windowBytes : windows) {
+				try (Stream<Student> students = MappedStudentReader.stream(path, windowBytes)) {
+					assertArrayEquals(expected, students.toArray(Student[]::new));
+				}
+			}
+			try (Stream<Student> students = MappedStudentReader.stream(path)) {
+				Iterator<Student> it = students.iterator();
+				for (Student s : expected) {
+					assertTrue(it.hasNext());
+					Student next = it.next();
+					assertEquals(s, next);
+					assertEquals(s.getGpa(), next.getGpa(), 0);
+				}
+				assertFalse(it.hasNext());
+			}
+		}
+	}
+
+	/**
+	 * Tests that a parallel stream splits the file and keeps file order
+	 */
+	@Test
+	public void testParallel() {
+		try (Stream<Student> students = MappedStudentReader.stream(file.getPath(), 4096)) {
+			List<Student> list = students.parallel().collect(Collectors.toList());
+			assertArrayEquals(roster, list.toArray(new Student[0]));
+		}
+		try (Stream<Student> students = MappedStudentReader.stream(file.getPath())) {
+			double total = students.parallel().filter(s -> s.getGpa() >= 3).mapToDouble(Student::getGpa).sum();
+			double expected = 0;
+			for (Student s : roster) {
+				if (s.getGpa() >= 3) {
+					expected += s.getGpa();
+				}
+			}
+			assertEquals(expected, total, 1e-6);
+		}
+	}
+
+	/**
+	 * Tests StudentSpliterator.trySplit()
+	 * @throws IOException if the file cannot be read
+	 */
+	@Test
+	public void testTrySplit() throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long first = MappedStudentReader.lineStart(channel, 1, channel.size());
+			StudentSpliterator spliterator = new StudentSpliterator(channel, first, channel.size(), 4096);
+			long size = spliterator.estimateSize();
+			assertEquals(channel.size() - first, size);
+			assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+			assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+
+			Spliterator<Student> earlier = spliterator.trySplit();
+			assertNotNull(earlier);
+			assertEquals(size, spliterator.estimateSize() + earlier.estimateSize());
+			int[] count = new int[1];
+			earlier.forEachRemaining(s -> assertEquals(roster[count[0]++], s));
+			spliterator.forEachRemaining(s -> assertEquals(roster[count[0]++], s));
+			assertEquals(roster.length, count[0]);
+			assertFalse(spliterator.tryAdvance(s -> fail()));
+			assertNull(spliterator.trySplit());
+		}
+	}
+
+	/**
+	 * Tests MappedStudentReader.stream() with a missing file, an empty file, and
+	 * that closing the stream closes the file
+	 * @throws IOException if the empty file cannot be created
+	 */
+	@Test
+	public void testInvalid() throws IOException {
+		Exception e = assertThrows(IllegalArgumentException.class, () -> MappedStudentReader.stream("input/missing.csv"));
+		assertTrue(e.getMessage().startsWith("File not found: "));
+
+		File empty = File.createTempFile("student-spliterator", ".csv");
+		try {
+			assertThrows(NoSuchElementException.class, () -> MappedStudentReader.stream(empty.getPath()));
+		} finally {
+			empty.delete();
+		}
+
+		Stream<Student> students = MappedStudentReader.stream(file.getPath(), 64);
+		Iterator<Student> it = students.iterator();
+		assertEquals(roster[0], it.next());
+		students.close();
+		assertThrows(RuntimeException.class, () -> it.forEachRemaining(s -> { }));
+		// The file is no longer open, so it can be deleted
+		assertTrue(file.delete());
+	}
+}
@@ -0,0 +1,49 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+/**
+ * Tests StudentWriter class
+ * @author Jake Donovan
+ *
+ */
+public class StudentWriterTest {
+	/**
+	 * Tests that StudentWriter.writeOutputFromArray() writes a file that
+	 * StudentReader reads back into the same students
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	public void testWriteFile() throws IOException {
+		Student[] contents = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		File output = File.createTempFile("student-writer", ".csv");
+		try {
+			StudentWriter.writeOutputFromArray(output.getPath(), contents);
+			Student[] copy = StudentReader.readInputAsArray(output.getPath());
+			assertEquals(contents.length, copy.length);
+			for(int i = 0; i < contents.length; i++) {
+				assertEquals(contents[i], copy[i]);
+				assertEquals(contents[i].getUnityID(), copy[i].getUnityID());
+				assertEquals(contents[i].getGpa(), copy[i].getGpa(), 0);
+				assertEquals(contents[i].getCreditHours(), copy[i].getCreditHours());
+			}
+		} finally {
+			output.delete();
+		}
+	}
+	
+	/**
+	 * Tests StudentWriter.formatLine()
+	 */
+	@Test
+	public void testFormatLine() {
+		Student s = new Student("Amber", "Michael", 1, 10, 1.1, "michaea");
+		assertEquals("Amber,Michael,michaea,1,1.1,10", StudentWriter.formatLine(s));
+	}
+}
@@ -2,8 +2,11 @@ package edu.ncsu.csc316.dsa.list;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -217,4 +220,52 @@ public class ArrayBasedListTest {
        assertEquals("Donovan", list.first());
        assertEquals("Donovan", list.last());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test the output of the sort(comparator) behavior, which must keep equal
+     * elements in their current order
+     */
+    @Test
+    public void testSort() {
+        list.sort(null);
+        assertTrue(list.isEmpty());
+
+        list.addLast("bb");
+        list.addLast("a");
+        list.addLast("eee");
+        list.addLast("d");
+        list.addLast("cc");
+        list.addLast("f");
+        list.sort(Comparator.comparingInt(String::length));
+        assertEquals(6, list.size());
+        assertEquals("a", list.get(0));
+        assertEquals("d", list.get(1));
+        assertEquals("f", list.get(2));
+        assertEquals("bb", list.get(3));
+        assertEquals("cc", list.get(4));
+        assertEquals("eee", list.get(5));
+        assertEquals("eee", list.last());
+
+        list.sort(null);
+        assertEquals("a", list.first());
+        assertEquals("f", list.last());
+
+        // 43 elements leave empty slots at the end of the backing array, which the sort must leave out
+        Random random = new Random(316);
+        for (int i = 0; i < 37; i++) {
+            list.addLast(Integer.toString(random.nextInt(1000)));
+        }
+        ArrayList<String> expected = new ArrayList<String>();
+        for (String s : list) {
+            expected.add(s);
+        }
+        expected.sort(Comparator.reverseOrder());
+        list.sort(Comparator.reverseOrder());
+        assertEquals(43, list.size());
+        Iterator<String> it = list.iterator();
+        for (String s : expected) {
+            assertEquals(s, it.next());
+        }
+        assertFalse(it.hasNext());
+    }
+}
@@ -5,8 +5,11 @@ package edu.ncsu.csc316.dsa.list;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -264,4 +267,105 @@ public class SinglyLinkedListTest {
         it.remove();
         assertEquals(0, list.size());
 	}
+
+	/**
+	 * Test the output of the sort(comparator) behavior, which must keep equal
+	 * elements in their current order
+	 */
+	@Test
+	public void testSort() {
+		list.sort(null);
+		assertTrue(list.isEmpty());
+
+		list.addLast("bb");
+		list.addLast("a");
+		list.addLast("eee");
+		list.addLast("d");
+		list.addLast("cc");
+		list.addLast("f");
+		list.sort(Comparator.comparingInt(String::length));
+		assertEquals(6, list.size());
+		assertEquals("a", list.get(0));
+		assertEquals("d", list.get(1));
+		assertEquals("f", list.get(2));
+		assertEquals("bb", list.get(3));
+		assertEquals("cc", list.get(4));
+		assertEquals("eee", list.get(5));
+		assertEquals("eee", list.last());
+
+		list.sort(null);
+		assertEquals("a", list.first());
+		assertEquals("f", list.last());
+
+		// The tail must be the last node after relinking
+		list.addLast("g");
+		assertEquals("g", list.last());
+		assertEquals(7, list.size());
+		list.removeLast();
+
+		// Odd sizes leave a sublist without a partner on some passes
+		Random random = new Random(316);
+		for (int i = 0; i < 37; i++) {
+			list.addLast(Integer.toString(random.nextInt(1000)));
+		}
+		ArrayList<String> expected = new ArrayList<String>();
+		for (String s : list) {
+			expected.add(s);
+		}
+		expected.sort(Comparator.reverseOrder());
+		list.sort(Comparator.reverseOrder());
+		assertEquals(43, list.size());
+		Iterator<String> it = list.iterator();
+		for (String s : expected) {
+			assertEquals(s, it.next());
+		}
+		assertFalse(it.hasNext());
+		assertEquals(expected.get(42), list.last());
+	}
+
+	/**
+	 * Test that sort(null) rejects elements that are not Comparable before
+	 * relinking any nodes, and that a comparator that throws leaves every
+	 * element linked into the list
+	 */
+	@Test
+	public void testSortThrows() {
+		List<Object> objects = new SinglyLinkedList<Object>();
+		Object[] elements = { new Object(), new Object(), new Object() };
+		for (Object o : elements) {
+			objects.addLast(o);
+		}
+		assertThrows(ClassCastException.class, () -> objects.sort(null));
+		assertEquals(3, objects.size());
+		Iterator<Object> objectIt = objects.iterator();
+		for (Object o : elements) {
+			assertSame(o, objectIt.next());
+		}
+		assertFalse(objectIt.hasNext());
+		assertSame(elements[2], objects.last());
+
+		for (int i = 0; i < 37; i++) {
+			list.addLast(Integer.toString(i));
+		}
+		int[] calls = new int[1];
+		assertThrows(IllegalStateException.class, () -> list.sort((x, y) -> {
+			if (++calls[0] == 50) {
+				throw new IllegalStateException();
+			}
+			return x.compareTo(y);
+		}));
+		assertEquals(37, list.size());
+		ArrayList<String> remaining = new ArrayList<String>();
+		for (String s : list) {
+			remaining.add(s);
+		}
+		remaining.sort(Comparator.comparingInt(Integer::parseInt));
+		for (int i = 0; i < 37; i++) {
+			assertEquals(Integer.toString(i), remaining.get(i));
+		}
+		// The tail must still be the last node
+		list.addLast("end");
+		assertEquals("end", list.get(37));
+		assertEquals("end", list.last());
+	}
 }
@@ -2,7 +2,10 @@ package edu.ncsu.csc316.dsa.list.positional;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -213,4 +216,125 @@ public class PositionalLinkedListTest {
         	assertTrue(e instanceof IllegalStateException);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Test the output of the sort(comparator) behavior, which must keep every
+     * position valid with its element and keep equal elements in their current order
+     */
+    @Test
+    public void testSort() {
+        list.sort(null);
+        assertTrue(list.isEmpty());
+
+        Position<String> bb = list.addLast("bb");
+        Position<String> a = list.addLast("a");
+        Position<String> eee = list.addLast("eee");
+        Position<String> d = list.addLast("d");
+        Position<String> cc = list.addLast("cc");
+        list.sort(Comparator.comparingInt(String::length));
+        assertEquals(5, list.size());
+        assertEquals(a, list.first());
+        assertEquals(d, list.after(a));
+        assertEquals(bb, list.after(d));
+        assertEquals(cc, list.after(bb));
+        assertEquals(eee, list.after(cc));
+        assertEquals(eee, list.last());
+        assertNull(list.after(eee));
+        assertEquals(cc, list.before(eee));
+        assertEquals(bb, list.before(cc));
+        assertEquals(d, list.before(bb));
+        assertEquals(a, list.before(d));
+        assertNull(list.before(a));
+        assertEquals("bb", bb.getElement());
+
+        // Positions held before sorting still work for updates
+        list.sort(null);
+        assertEquals("eee", list.last().getElement());
+        list.remove(bb);
+        assertEquals(cc, list.after(a));
+        list.addAfter(cc, "z");
+        assertEquals("z", list.after(cc).getElement());
+        Iterator<String> it = list.iterator();
+        assertEquals("a", it.next());
+        assertEquals("cc", it.next());
+        assertEquals("z", it.next());
+        assertEquals("d", it.next());
+        assertEquals("eee", it.next());
+        assertFalse(it.hasNext());
+
+        // Sizes that are not powers of two leave a sublist without a partner on some passes
+        Random random = new Random(316);
+        for (int i = 0; i < 37; i++) {
+            list.addLast(Integer.toString(random.nextInt(1000)));
+        }
+        ArrayList<String> expected = new ArrayList<String>();
+        for (String s : list) {
+            expected.add(s);
+        }
+        expected.sort(Comparator.reverseOrder());
+        list.sort(Comparator.reverseOrder());
+        assertEquals(42, list.size());
+        it = list.iterator();
+        for (String s : expected) {
+            assertEquals(s, it.next());
+        }
+        assertFalse(it.hasNext());
+        // The previous links are repaired too
+        Position<String> p = list.last();
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            assertEquals(expected.get(i), p.getElement());
+            p = list.before(p);
+        }
+        assertNull(p);
+    }
+
+    /**
+     * Test that sort(null) rejects elements that are not Comparable before
+     * relinking any nodes, and that a comparator that throws leaves every
+     * position linked into the list in both directions
+     */
+    @Test
+    public void testSortThrows() {
+        PositionalList<Object> objects = new PositionalLinkedList<Object>();
+        Position<Object> first = objects.addLast(new Object());
+        Position<Object> second = objects.addLast(new Object());
+        Position<Object> third = objects.addLast(new Object());
+        assertThrows(ClassCastException.class, () -> objects.sort(null));
+        assertEquals(3, objects.size());
+        assertEquals(first, objects.first());
+        assertEquals(second, objects.after(first));
+        assertEquals(third, objects.after(second));
+        assertNull(objects.after(third));
+        assertEquals(third, objects.last());
+        assertEquals(second, objects.before(third));
+
+        for (int i = 0; i < 37; i++) {
+            list.addLast(Integer.toString(i));
+        }
+        int[] calls = new int[1];
+        assertThrows(IllegalStateException.class, () -> list.sort((x, y) -> {
+            if (++calls[0] == 50) {
+                throw new IllegalStateException();
+            }
+            return x.compareTo(y);
+        }));
+        assertEquals(37, list.size());
+        ArrayList<String> remaining = new ArrayList<String>();
+        for (String s : list) {
+            remaining.add(s);
+        }
+        remaining.sort(Comparator.comparingInt(Integer::parseInt));
+        for (int i = 0; i < 37; i++) {
+            assertEquals(Integer.toString(i), remaining.get(i));
+        }
+        // The previous links and the end sentinel are repaired too
+        Position<String> p = list.last();
+        for (int i = 36; i >= 0; i--) {
+            assertNotNull(p);
+            p = list.before(p);
+        }
+        assertNull(p);
+        list.addLast("end");
+        assertEquals("end", list.last().getElement());
+    }
+}
@@ -2,12 +2,19 @@ package edu.ncsu.csc316.dsa.manager;
 
 import static org.junit.Assert.*;
 
+import java.io.File;
+import java.io.IOException;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import edu.ncsu.csc316.dsa.data.Student;
 import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
 import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.io.BinaryStudentWriter;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+import edu.ncsu.csc316.dsa.io.StudentWriter;
+import edu.ncsu.csc316.dsa.sorter.GPABucketSorter;
 import edu.ncsu.csc316.dsa.sorter.InsertionSorter;
 
 /**
@@ -28,7 +35,7 @@ public class StudentManagerTest {
 	}
 	
 	/**
-	 * Test StudentManager.sort(), should call InsertionSort class
+	 * Test StudentManager.sort() with the default adaptive sorter
 	 */
 	@Test
 	public void testSort() {
@@ -92,4 +99,90 @@ public class StudentManagerTest {
 		assertEquals("Tanner", sorted3[14].getFirst());
 		assertEquals("Dante", sorted3[15].getFirst());
 }
-}
\ No newline at end of file
+	
+	/**
+	 * Test StudentManager.topK() and StudentManager.select() against a fully sorted roster
+	 */
+	@Test
+	public void testTopKAndSelect() {
+		Student[] topGPA = sm.topK(3, new StudentGPAComparator());
+		assertEquals(3, topGPA.length);
+		assertEquals("Nichole", topGPA[0].getFirst());
+		assertEquals("Alicia", topGPA[1].getFirst());
+		assertEquals("Charlene", topGPA[2].getFirst());
+		assertEquals(16, sm.topK(100, null).length);
+		
+		// The roster holds IDs 1 through 16 in random order
+		Student median = sm.select(8, new StudentIDComparator());
+		Student[] byID = new StudentManager("input/student_ascendingID.csv").sort();
+		new InsertionSorter<Student>(new StudentIDComparator()).sort(byID);
+		assertEquals(byID[8], median);
+		assertEquals(byID[0], sm.select(0, new StudentIDComparator()));
+		assertEquals(byID[15], sm.select(15, new StudentIDComparator()));
+	}
+	
+	/**
+	 * Test StudentManager.getNameDictionary() on rosters with distinct and with
+	 * repeated names
+	 * @throws IOException if the roster file cannot be created
+	 */
+	@Test
+	public void testNameDictionary() throws IOException {
+		// Every first and last name of the roster is looked up once, and they are all different
+		assertEquals(32, sm.getNameDictionary().getLookups());
+		assertEquals(32, sm.getNameDictionary().size());
+		assertEquals(1.0, sm.getNameDictionary().getDeduplicationRatio(), 0);
+
+		File file = File.createTempFile("student-manager", ".csv");
+		try {
+			Student[] roster = { new Student("Amber", "Michael", 1, 10, 1.1, "michaea"),
+					new Student("Amber", "Marsh", 2, 11, 2.25, "marsha"),
+					new Student("Ara", "Michael", 3, 12, 3.5, "michaeb") };
+			StudentWriter.writeOutputFromArray(file.getPath(), roster);
+			StudentManager manager = new StudentManager(file.getPath());
+			assertEquals(6, manager.getNameDictionary().getLookups());
+			assertEquals(4, manager.getNameDictionary().size());
+			assertEquals(1.5, manager.getNameDictionary().getDeduplicationRatio(), 0);
+			Student[] sorted = manager.sort();
+			// Marsh, then the two Michaels by first name
+			assertSame(sorted[1].getLast(), sorted[2].getLast());
+			assertSame(sorted[0].getFirst(), sorted[1].getFirst());
+		} finally {
+			file.delete();
+		}
+	}
+	
+	/**
+	 * Test StudentManager.sort() with a GPABucketSorter plugged in
+	 */
+	@Test
+	public void testSortByGPABuckets() {
+		Student[] sorted = new StudentManager("input/student_randomOrder.csv", new GPABucketSorter()).sort();
+		assertEquals("Nichole", sorted[0].getFirst());
+		assertEquals("Alicia", sorted[1].getFirst());
+		assertEquals("Charlene", sorted[2].getFirst());
+		assertEquals("Shanti", sorted[14].getFirst());
+		assertEquals("Lewis", sorted[15].getFirst());
+	}
+	
+	/**
+	 * Test StudentManager with a binary roster file
+	 * @throws IOException if the binary roster file cannot be created
+	 */
+	@Test
+	public void testBinaryRoster() throws IOException {
+		File file = File.createTempFile("student-manager", ".bin");
+		try {
+			BinaryStudentWriter.writeOutputFromArray(file.getPath(),
+					StudentReader.readInputAsArray("input/student_randomOrder.csv"));
+			StudentManager manager = new StudentManager(file.getPath(), new GPABucketSorter(), true);
+			assertEquals(32, manager.getNameDictionary().getLookups());
+			Student[] sorted = manager.sort();
+			assertEquals(16, sorted.length);
+			assertEquals("Nichole", sorted[0].getFirst());
+			assertEquals("Lewis", sorted[15].getFirst());
+		} finally {
+			file.delete();
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests HeapIndex class
+ * @author Jake Donovan
+ *
+ */
+public class HeapIndexTest {
+
+	/**
+	 * Tests that parent, left, and right agree for every index of a small heap
+	 */
+	@Test
+	public void testIndexes() {
+		assertEquals(1, HeapIndex.left(0));
+		assertEquals(2, HeapIndex.right(0));
+		assertEquals(7, HeapIndex.left(3));
+		assertEquals(8, HeapIndex.right(3));
+		assertEquals(0, HeapIndex.parent(1));
+		assertEquals(0, HeapIndex.parent(2));
+		assertEquals(2, HeapIndex.parent(6));
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, HeapIndex.parent(HeapIndex.left(i)));
+			assertEquals(i, HeapIndex.parent(HeapIndex.right(i)));
+			assertEquals(HeapIndex.left(i) + 1, HeapIndex.right(i));
+		}
+	}
+}
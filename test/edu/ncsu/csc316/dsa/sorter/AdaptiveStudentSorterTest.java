@@ -0,0 +1,188 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+import edu.ncsu.csc316.dsa.sorter.AdaptiveStudentSorter.Decision;
+import edu.ncsu.csc316.dsa.sorter.AdaptiveStudentSorter.Strategy;
+
+/**
+ * Tests AdaptiveStudentSorter class to make sure it chooses a suitable sorter
+ * and always sorts correctly
+ * @author Jake Donovan
+ *
+ */
+public class AdaptiveStudentSorterTest {
+
+	/** The number of Students in the generated rosters */
+	private static final int N = 5000;
+
+	/**
+	 * Returns a roster of Students with random names, GPAs on the two-decimal
+	 * grid, credit hours from 0 to 3, and the given IDs
+	 *
+	 * @param random the source of randomness
+	 * @param ids    the ID of each Student
+	 * @return the roster
+	 */
+	private static Student[] roster(Random random, int[] ids) {
+		Student[] roster = new Student[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			String first = "F" + random.nextInt(1000);
+			String last = "L" + random.nextInt(1000);
+			roster[i] = new Student(first, last, ids[i], random.nextInt(4), random.nextInt(401) / 100.0, "unity");
+		}
+		return roster;
+	}
+
+	/**
+	 * Sorts a copy of a roster, checks the result against RunMergeSorter, and
+	 * returns the strategy that was chosen
+	 *
+	 * @param sorter     the AdaptiveStudentSorter
+	 * @param comparator the ordering of sorter, or null for natural ordering
+	 * @param roster     the roster to sort
+	 * @return the chosen strategy
+	 */
+	private static Strategy sortAndCheck(AdaptiveStudentSorter sorter, Comparator<Student> comparator, Student[] roster) {
+		Student[] data = roster.clone();
+		Student[] expected = roster.clone();
+		RunMergeSorter<Student> reference = new RunMergeSorter<Student>(comparator);
+		reference.sort(expected);
+		sorter.sort(data);
+		for (int i = 0; i < data.length; i++) {
+			assertEquals(0, reference.compare(expected[i], data[i]));
+		}
+		Decision decision = sorter.getLastDecision();
+		assertEquals(roster.length, decision.getSize());
+		assertTrue(decision.getAnalysisNanos() >= 0);
+		assertTrue(decision.getSortNanos() >= 0);
+		assertTrue(decision.toString().startsWith(decision.getStrategy().toString()));
+		return decision.getStrategy();
+	}
+
+	/**
+	 * Tests that the natural ordering uses StudentNameSorter on random input and
+	 * RunMergeSorter on small or presorted input
+	 */
+	@Test
+	public void testNaturalOrdering() {
+		AdaptiveStudentSorter sorter = new AdaptiveStudentSorter();
+		assertNull(sorter.getLastDecision());
+		Random random = new Random(316);
+		int[] ids = new int[N];
+		for (int i = 0; i < N; i++) {
+			ids[i] = random.nextInt(N);
+		}
+		Student[] roster = roster(random, ids);
+		assertEquals(Strategy.NAME, sortAndCheck(sorter, null, roster));
+		assertTrue(sorter.getLastDecision().getSortedFraction() < AdaptiveStudentSorter.PRESORTED_FRACTION);
+		assertTrue(Double.isNaN(sorter.getLastDecision().getIdDensity()));
+
+		Student[] sorted = roster.clone();
+		sorter.sort(sorted);
+		assertEquals(Strategy.RUN_MERGE, sortAndCheck(sorter, null, sorted));
+		assertEquals(1.0, sorter.getLastDecision().getSortedFraction(), 0);
+
+		Student[] reversed = new Student[N];
+		for (int i = 0; i < N; i++) {
+			reversed[i] = sorted[N - 1 - i];
+		}
+		assertEquals(Strategy.RUN_MERGE, sortAndCheck(sorter, null, reversed));
+
+		for (String file : new String[] { "input/student_ascendingID.csv", "input/student_randomOrder.csv" }) {
+			assertEquals(Strategy.RUN_MERGE, sortAndCheck(sorter, null, StudentReader.readInputAsArray(file)));
+		}
+	}
+
+	/**
+	 * Tests that ID ordering uses counting sort for dense IDs and radix sort for
+	 * sparse IDs
+	 */
+	@Test
+	public void testIDOrdering() {
+		Comparator<Student> byID = new StudentIDComparator();
+		AdaptiveStudentSorter sorter = new AdaptiveStudentSorter(byID);
+		Random random = new Random(316);
+		int[] dense = new int[N];
+		int[] sparse = new int[N];
+		for (int i = 0; i < N; i++) {
+			dense[i] = 1000 + random.nextInt(N);
+			sparse[i] = random.nextInt(Integer.MAX_VALUE);
+		}
+		assertEquals(Strategy.COUNTING, sortAndCheck(sorter, byID, roster(random, dense)));
+		assertTrue(sorter.getLastDecision().getIdDensity() > 0.5);
+		assertEquals(Strategy.RADIX, sortAndCheck(sorter, byID, roster(random, sparse)));
+		assertTrue(sorter.getLastDecision().getIdDensity() < 0.001);
+
+		AdaptiveStudentSorter parallel = new AdaptiveStudentSorter(byID, 4);
+		assertEquals(Strategy.COUNTING, sortAndCheck(parallel, byID, roster(random, dense)));
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new AdaptiveStudentSorter(byID, 0));
+		assertEquals("Parallelism must be at least 1: 0", e.getMessage());
+	}
+
+	/**
+	 * Tests that GPA ordering uses GPABucketSorter, and that a duplicate-heavy
+	 * custom ordering uses IntroSorter
+	 */
+	@Test
+	public void testOtherOrderings() {
+		Random random = new Random(316);
+		int[] ids = new int[N];
+		for (int i = 0; i < N; i++) {
+			ids[i] = i;
+		}
+		Student[] roster = roster(random, ids);
+		for (int i = N - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			Student temp = roster[i];
+			roster[i] = roster[j];
+			roster[j] = temp;
+		}
+
+		Comparator<Student> byGPA = new StudentGPAComparator();
+		assertEquals(Strategy.GPA_BUCKET, sortAndCheck(new AdaptiveStudentSorter(byGPA), byGPA, roster));
+
+		Comparator<Student> byHours = Comparator.comparingInt(Student::getCreditHours);
+		AdaptiveStudentSorter hoursSorter = new AdaptiveStudentSorter(byHours);
+		assertEquals(Strategy.INTRO, sortAndCheck(hoursSorter, byHours, roster));
+		assertTrue(hoursSorter.getLastDecision().getDuplicateRatio() >= AdaptiveStudentSorter.DUPLICATE_FRACTION);
+
+		Comparator<Student> byUnityThenID = Comparator.comparing(Student::getUnityID).thenComparingInt(Student::getId);
+		assertEquals(Strategy.INTRO, sortAndCheck(new AdaptiveStudentSorter(byUnityThenID), byUnityThenID, roster));
+	}
+
+	/**
+	 * Tests AdaptiveStudentSorter.sort() on a range
+	 */
+	@Test
+	public void testSortRange() {
+		Random random = new Random(316);
+		int[] ids = new int[N];
+		for (int i = 0; i < N; i++) {
+			ids[i] = random.nextInt(N);
+		}
+		Student[] roster = roster(random, ids);
+		Student[] data = roster.clone();
+		AdaptiveStudentSorter sorter = new AdaptiveStudentSorter();
+		sorter.sort(data, 100, N - 100);
+		assertEquals(N - 200, sorter.getLastDecision().getSize());
+		for (int i = 0; i < N; i++) {
+			if (i < 100 || i >= N - 100) {
+				assertSame(roster[i], data[i]);
+			} else if (i > 100) {
+				assertTrue(data[i - 1].compareTo(data[i]) <= 0);
+			}
+		}
+		assertThrows(IllegalArgumentException.class, () -> sorter.sort(data, 2, 1));
+	}
+}
@@ -5,6 +5,8 @@ package edu.ncsu.csc316.dsa.sorter;
 
 import static org.junit.Assert.*;
 
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -58,4 +60,18 @@ public class BubbleSorterTest {
 		assertEquals(4, (int)dataRandom[3]);
 		assertEquals(5, (int)dataRandom[4]);
 	}
+
+	/**
+	 * Tests BubbleSorter.sort() on ranges at an offset and at the ends of the
+	 * array. Each pass compares data[i - 1] with data[i], so it must start at
+	 * from + 1 and stop before to.
+	 */
+	@Test
+	public void testSortRange() {
+		Random random = new Random(316);
+		for (int length = 0; length <= 12; length++) {
+			SorterTest.assertSortsRange(integerSorter, length + 5, 2, 2 + length, random);
+			SorterTest.assertSortsRange(integerSorter, length, 0, length, random);
+		}
+	}
 }
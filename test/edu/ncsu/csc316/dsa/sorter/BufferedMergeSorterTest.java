@@ -0,0 +1,116 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Tests BufferedMergeSorter class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class BufferedMergeSorterTest {
+	/** An array of Integers in ascending order */
+	private Integer[] dataAscending = { 1, 2, 3, 4, 5 };
+	/** An array of Integers in descending order */
+	private Integer[] dataDescending = { 5, 4, 3, 2, 1 };
+	/** An array of Integers in random order */
+	private Integer[] dataRandom = { 4, 1, 5, 3, 2 };
+	/** A BufferedMergeSorter that merges all the way down to single elements */
+	private BufferedMergeSorter<Integer> mergeSorter;
+
+	/**
+	 * Creates a BufferedMergeSorter which will be used for testing
+	 */
+	@Before
+	public void setUp() {
+		mergeSorter = new BufferedMergeSorter<Integer>(null, 1);
+	}
+
+	/**
+	 * Tests BufferedMergeSorter.sort() on small arrays, reusing one sorter
+	 */
+	@Test
+	public void testSort() {
+		mergeSorter.sort(dataAscending);
+		assertEquals(1, (int)dataAscending[0]);
+		assertEquals(2, (int)dataAscending[1]);
+		assertEquals(3, (int)dataAscending[2]);
+		assertEquals(4, (int)dataAscending[3]);
+		assertEquals(5, (int)dataAscending[4]);
+
+		mergeSorter.sort(dataDescending);
+		assertEquals(1, (int)dataDescending[0]);
+		assertEquals(2, (int)dataDescending[1]);
+		assertEquals(3, (int)dataDescending[2]);
+		assertEquals(4, (int)dataDescending[3]);
+		assertEquals(5, (int)dataDescending[4]);
+
+		mergeSorter.sort(dataRandom);
+		assertEquals(1, (int)dataRandom[0]);
+		assertEquals(2, (int)dataRandom[1]);
+		assertEquals(3, (int)dataRandom[2]);
+		assertEquals(4, (int)dataRandom[3]);
+		assertEquals(5, (int)dataRandom[4]);
+
+		Integer[] single = { 7 };
+		mergeSorter.sort(single);
+		assertEquals(7, (int)single[0]);
+	}
+
+	/**
+	 * Tests BufferedMergeSorter.sort() with custom comparators against MergeSorter,
+	 * including growing the reused buffer and keeping equal elements in order
+	 */
+	@Test
+	public void testSortStudents() {
+		Random random = new Random(316);
+		BufferedMergeSorter<Student> gpaSorter = new BufferedMergeSorter<Student>(new StudentGPAComparator());
+		for (int size = 10; size <= 10000; size *= 10) {
+			Student[] roster = new Student[size];
+			for (int i = 0; i < roster.length; i++) {
+				roster[i] = new Student("First" + i, "Last" + i, random.nextInt(50), i, random.nextInt(401) / 100.0, "unity" + i);
+			}
+			Student[] expected = roster.clone();
+			new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+			Student[] actual = roster.clone();
+			gpaSorter.sort(actual);
+			assertArrayEquals(expected, actual);
+
+			// IDs repeat, so credit hours (the original index) must stay ascending within an ID
+			new BufferedMergeSorter<Student>(new StudentIDComparator()).sort(roster);
+			for (int i = 1; i < roster.length; i++) {
+				assertTrue(roster[i - 1].getId() <= roster[i].getId());
+				if (roster[i - 1].getId() == roster[i].getId()) {
+					assertTrue(roster[i - 1].getCreditHours() < roster[i].getCreditHours());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests BufferedMergeSorter.sort() on ranges at an offset whose lengths fall on
+	 * both sides of the insertion sort cutoff, which is applied to subarrays
+	 * indexed from the start of the range
+	 */
+	@Test
+	public void testSortRange() {
+		Random random = new Random(316);
+		BufferedMergeSorter<Integer> defaultCutoff = new BufferedMergeSorter<Integer>();
+		for (BufferedMergeSorter<Integer> sorter : Arrays.asList(mergeSorter, defaultCutoff, new BufferedMergeSorter<Integer>(null, 5))) {
+			for (int length = 0; length <= 2 * BufferedMergeSorter.DEFAULT_CUTOFF + 2; length++) {
+				SorterTest.assertSortsRange(sorter, length + 7, 3, 3 + length, random);
+			}
+		}
+		// The merge buffer is indexed from the start of the range, not from 0
+		SorterTest.assertSortsRange(defaultCutoff, 1000, 100, 900, random);
+	}
+}
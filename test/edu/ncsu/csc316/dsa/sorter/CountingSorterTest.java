@@ -1,6 +1,13 @@
 package edu.ncsu.csc316.dsa.sorter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -51,5 +58,112 @@ public class CountingSorterTest {
 		assertEquals(sThree, original[2]);
 		assertEquals(sFour, original[3]);
 		assertEquals(sFive, original[4]);
+		// Five counts and a five-reference output buffer
+		assertEquals(5L * Integer.BYTES + 5L * SortInstrumentation.REFERENCE_BYTES, sorter.getPeakMemory());
+	}
+	
+	/**
+	 * Tests CountingSorter.sort() in parallel mode, including negative IDs and
+	 * keeping students with equal IDs in their original order
+	 */
+	@Test
+	public void testSortParallel() {
+		Random random = new Random(316);
+		Student[] roster = new Student[50000];
+		for(int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", "Last", random.nextInt(2000) - 1000, i, 1.0, "unity");
+		}
+		new CountingSorter<Student>(4).sort(roster);
+		for(int i = 1; i < roster.length; i++) {
+			assertTrue(roster[i - 1].getId() <= roster[i].getId());
+			if(roster[i - 1].getId() == roster[i].getId()) {
+				assertTrue(roster[i - 1].getCreditHours() < roster[i].getCreditHours());
+			}
+		}
+		
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new CountingSorter<Student>(0));
+		assertEquals("Parallelism must be at least 1: 0", e.getMessage());
+	}
+	
+	/**
+	 * Tests that CountingSorter.sort() falls back to radix sort when IDs are sparse
+	 * or the counts would exceed the memory limit, and reports the memory it used
+	 */
+	@Test
+	public void testSortSparse() {
+		Student[] sparse = { sOne, sTwo, sThree, sFour, sFive,
+				new Student("Max", "Int", Integer.MAX_VALUE, 1, 1.0, "maxint"),
+				new Student("Min", "Int", Integer.MIN_VALUE, 1, 1.0, "minint") };
+		CountingSorter<Student> sparseSorter = new CountingSorter<Student>();
+		sparseSorter.sort(sparse);
+		assertTrue(sparseSorter.isRadixUsed());
+		assertTrue(sparseSorter.getPeakMemory() > 0);
+		for(int i = 1; i < sparse.length; i++) {
+			assertTrue(sparse[i - 1].getId() <= sparse[i].getId());
+		}
+		assertEquals(Integer.MIN_VALUE, sparse[0].getId());
+		assertEquals(Integer.MAX_VALUE, sparse[6].getId());
+		
+		// Dense IDs are counted, unless the memory limit is too small for the counts
+		Random random = new Random(316);
+		Student[] dense = new Student[1000];
+		for(int i = 0; i < dense.length; i++) {
+			dense[i] = new Student("First", "Last", random.nextInt(2000), i, 1.0, "unity");
+		}
+		Student[] limited = dense.clone();
+		sorter.sort(dense);
+		assertFalse(sorter.isRadixUsed());
+		
+		CountingSorter<Student> limitedSorter = new CountingSorter<Student>(1, 1024);
+		limitedSorter.sort(limited);
+		assertTrue(limitedSorter.isRadixUsed());
+		for(int i = 0; i < dense.length; i++) {
+			assertEquals(dense[i], limited[i]);
+		}
+		
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new CountingSorter<Student>(1, 0));
+		assertEquals("Memory limit must be positive: 0", e.getMessage());
+	}
+
+	/**
+	 * Tests CountingSorter.sort() on a range, including the sparse radix fallback
+	 * and the parallel mode, which must leave the students outside the range unchanged
+	 */
+	@Test
+	public void testSortRange() {
+		Student[] data = { sFive, sFour, sTwo, sThree, sOne };
+		sorter.sort(data, 1, 4);
+		assertEquals(sFive, data[0]);
+		assertEquals(sTwo, data[1]);
+		assertEquals(sThree, data[2]);
+		assertEquals(sFour, data[3]);
+		assertEquals(sOne, data[4]);
+		assertThrows(IllegalArgumentException.class, () -> sorter.sort(data, 3, 2));
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(data, 0, 6));
+
+		Random random = new Random(316);
+		Student[] roster = new Student[40000];
+		for(int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", "Last", random.nextInt(30000), i, 1.0, "unity");
+		}
+		Student[] sparse = roster.clone();
+		sparse[1000] = new Student("First", "Last", Integer.MAX_VALUE, 0, 1.0, "unity");
+		List<CountingSorter<Student>> rangeSorters = Arrays.asList(sorter, new CountingSorter<Student>(4));
+		for(CountingSorter<Student> rangeSorter : rangeSorters) {
+			for(Student[] original : new Student[][] { roster, sparse }) {
+				Student[] range = original.clone();
+				rangeSorter.sort(range, 1000, 39000);
+				for(int i = 0; i < range.length; i++) {
+					if(i < 1000 || i >= 39000) {
+						assertEquals(original[i], range[i]);
+					} else if(i > 1000) {
+						assertTrue(range[i - 1].getId() <= range[i].getId());
+						if(range[i - 1].getId() == range[i].getId()) {
+							assertTrue(range[i - 1].getCreditHours() < range[i].getCreditHours());
+						}
+					}
+				}
+			}
+		}
 	}
 }
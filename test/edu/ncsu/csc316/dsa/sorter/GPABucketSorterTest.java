@@ -0,0 +1,82 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+
+/**
+ * Tests GPABucketSorter class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class GPABucketSorterTest {
+
+	/**
+	 * Tests that GPABucketSorter.sort() gives the same result as sorting with
+	 * StudentGPAComparator
+	 */
+	@Test
+	public void testSort() {
+		Student[] roster = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		Student[] expected = roster.clone();
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+		new GPABucketSorter().sort(roster);
+		assertArrayEquals(expected, roster);
+
+		Random random = new Random(316);
+		roster = new Student[20000];
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First" + random.nextInt(100), "Last" + random.nextInt(100), i, i,
+					random.nextInt(401) / 100.0, "unity" + i);
+		}
+		expected = roster.clone();
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+		Student[] actual = roster.clone();
+		new GPABucketSorter().sort(actual);
+		assertArrayEquals(expected, actual);
+
+		// A secondary ordering by ID
+		new GPABucketSorter(new StudentIDComparator()).sort(roster);
+		for (int i = 1; i < roster.length; i++) {
+			assertTrue(roster[i - 1].getGpa() >= roster[i].getGpa());
+			if (roster[i - 1].getGpa() == roster[i].getGpa()) {
+				assertTrue(roster[i - 1].getId() < roster[i].getId());
+			}
+		}
+
+		Student[] empty = {};
+		new GPABucketSorter().sort(empty);
+		assertEquals(0, empty.length);
+	}
+
+	/**
+	 * Tests that GPABucketSorter.sort() without a secondary ordering keeps
+	 * Students with the same GPA in input order, and falls back to a comparison
+	 * sort for GPAs that are not two-decimal values from 0.00 to 4.00
+	 */
+	@Test
+	public void testSortStableAndOffGrid() {
+		Student a = new Student("A", "A", 1, 1, 3.5, "a");
+		Student b = new Student("B", "B", 2, 2, 2.0, "b");
+		Student c = new Student("C", "C", 3, 3, 3.5, "c");
+		Student d = new Student("D", "D", 4, 4, 4.0, "d");
+		Student[] roster = { c, b, a, d };
+		new GPABucketSorter(null).sort(roster);
+		assertArrayEquals(new Student[] { d, c, a, b }, roster);
+
+		Student offGrid = new Student("E", "E", 5, 5, 3.505, "e");
+		Student tooHigh = new Student("F", "F", 6, 6, 4.5, "f");
+		roster = new Student[] { c, offGrid, b, a, tooHigh, d };
+		new GPABucketSorter(null).sort(roster);
+		assertArrayEquals(new Student[] { tooHigh, d, offGrid, c, a, b }, roster);
+		new GPABucketSorter().sort(roster);
+		assertArrayEquals(new Student[] { tooHigh, d, offGrid, a, c, b }, roster);
+	}
+}
@@ -0,0 +1,113 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+
+/**
+ * Tests HeapSorter class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class HeapSorterTest {
+	/** An array of Integers in ascending order */
+	private Integer[] dataAscending = { 1, 2, 3, 4, 5 };
+	/** An array of Integers in descending order */
+	private Integer[] dataDescending = { 5, 4, 3, 2, 1 };
+	/** An array of Integers in random order */
+	private Integer[] dataRandom = { 4, 1, 5, 3, 2 };
+	/** A HeapSorter for Integers */
+	private HeapSorter<Integer> heapSorter;
+
+	/**
+	 * Constructs a HeapSorter which will be used for testing
+	 */
+	@Before
+	public void setUp() {
+		heapSorter = new HeapSorter<Integer>();
+	}
+
+	/**
+	 * Tests HeapSorter.sort() on small arrays
+	 */
+	@Test
+	public void testSort() {
+		heapSorter.sort(dataAscending);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataAscending);
+
+		heapSorter.sort(dataDescending);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataDescending);
+
+		heapSorter.sort(dataRandom);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataRandom);
+
+		Integer[] empty = {};
+		heapSorter.sort(empty);
+		assertEquals(0, empty.length);
+
+		Integer[] single = { 7 };
+		heapSorter.sort(single);
+		assertEquals(7, (int) single[0]);
+	}
+
+	/**
+	 * Tests HeapSorter.sort() on large random, sorted, reverse-sorted, and
+	 * duplicate-heavy inputs, and on a range
+	 */
+	@Test
+	public void testSortLarge() {
+		Random random = new Random(316);
+		int n = 10001;
+		Integer[] randomData = new Integer[n];
+		Integer[] ascending = new Integer[n];
+		Integer[] descending = new Integer[n];
+		Integer[] fewUnique = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			randomData[i] = random.nextInt();
+			ascending[i] = i;
+			descending[i] = n - i;
+			fewUnique[i] = random.nextInt(4);
+		}
+		for (Integer[] data : new Integer[][] { randomData, ascending, descending, fewUnique }) {
+			Integer[] expected = data.clone();
+			Arrays.sort(expected);
+			heapSorter.sort(data);
+			assertArrayEquals(expected, data);
+		}
+
+		Integer[] range = new Integer[1000];
+		for (int i = 0; i < range.length; i++) {
+			range[i] = random.nextInt(100);
+		}
+		Integer[] expected = range.clone();
+		Arrays.sort(expected, 100, 900);
+		heapSorter.sort(range, 100, 900);
+		assertArrayEquals(expected, range);
+		assertThrows(IllegalArgumentException.class, () -> heapSorter.sort(range, 5, 4));
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> heapSorter.sort(range, 0, 1001));
+	}
+
+	/**
+	 * Tests HeapSorter.sort() with a custom Comparator
+	 */
+	@Test
+	public void testSortStudentComparator() {
+		Student sOne = new Student("OneFirst", "OneLast", 1, 1, 1.0, "oneUnityID");
+		Student sTwo = new Student("TwoFirst", "TwoLast", 2, 2, 2.0, "twoUnityID");
+		Student sThree = new Student("ThreeFirst", "ThreeLast", 3, 3, 3.0, "threeUnityID");
+		Student sFour = new Student("FourFirst", "FourLast", 4, 4, 4.0, "fourUnityID");
+		Student[] data = { sTwo, sFour, sOne, sThree };
+		new HeapSorter<Student>(new StudentGPAComparator()).sort(data);
+		assertEquals(sFour, data[0]);
+		assertEquals(sThree, data[1]);
+		assertEquals(sTwo, data[2]);
+		assertEquals(sOne, data[3]);
+	}
+}
@@ -1,7 +1,10 @@
 package edu.ncsu.csc316.dsa.sorter;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -82,4 +85,20 @@ public class InsertionSorterTest {
 		assertEquals("Loise", s[14].getFirst());
 		assertEquals("Nichole", s[15].getFirst());		
 	}
+
+	/**
+	 * Tests InsertionSorter.sort() on ranges at an offset. Elements shifted right
+	 * must stop at from, even when the element before the range is larger.
+	 */
+	@Test
+	public void testSortRange() {
+		Random random = new Random(316);
+		for (int length = 0; length <= 12; length++) {
+			SorterTest.assertSortsRange(integerSorter, length + 5, 2, 2 + length, random);
+		}
+		// Every element of a reversed range is shifted all the way to from
+		Integer[] data = { 100, 5, 4, 3, 2, 1, -1 };
+		integerSorter.sort(data, 1, 6);
+		assertArrayEquals(new Integer[] { 100, 1, 2, 3, 4, 5, -1 }, data);
+	}
 }
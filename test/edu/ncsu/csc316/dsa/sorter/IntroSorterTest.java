@@ -0,0 +1,136 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+
+/**
+ * Tests IntroSorter class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class IntroSorterTest {
+	/** An array of Integers in ascending order */
+	private Integer[] dataAscending = { 1, 2, 3, 4, 5 };
+	/** An array of Integers in descending order */
+	private Integer[] dataDescending = { 5, 4, 3, 2, 1 };
+	/** An array of Integers in random order */
+	private Integer[] dataRandom = { 4, 1, 5, 3, 2 };
+	/** An IntroSorter for Integers */
+	private IntroSorter<Integer> introSorter;
+
+	/**
+	 * Constructs an IntroSorter which will be used for testing
+	 */
+	@Before
+	public void setUp() {
+		introSorter = new IntroSorter<Integer>();
+	}
+
+	/**
+	 * Tests IntroSorter.sort() on small arrays
+	 */
+	@Test
+	public void testSort() {
+		introSorter.sort(dataAscending);
+		assertEquals(1, (int)dataAscending[0]);
+		assertEquals(2, (int)dataAscending[1]);
+		assertEquals(3, (int)dataAscending[2]);
+		assertEquals(4, (int)dataAscending[3]);
+		assertEquals(5, (int)dataAscending[4]);
+
+		introSorter.sort(dataDescending);
+		assertEquals(1, (int)dataDescending[0]);
+		assertEquals(2, (int)dataDescending[1]);
+		assertEquals(3, (int)dataDescending[2]);
+		assertEquals(4, (int)dataDescending[3]);
+		assertEquals(5, (int)dataDescending[4]);
+
+		introSorter.sort(dataRandom);
+		assertEquals(1, (int)dataRandom[0]);
+		assertEquals(2, (int)dataRandom[1]);
+		assertEquals(3, (int)dataRandom[2]);
+		assertEquals(4, (int)dataRandom[3]);
+		assertEquals(5, (int)dataRandom[4]);
+
+		Integer[] empty = {};
+		introSorter.sort(empty);
+		assertEquals(0, empty.length);
+	}
+
+	/**
+	 * Tests IntroSorter.sort() on large sorted, reverse-sorted, and duplicate-heavy
+	 * inputs with every pivot selector. The first and last element selectors hit
+	 * the depth limit on sorted input, which exercises the heap sort fallback.
+	 */
+	@Test
+	public void testSortAdversarial() {
+		int n = 100000;
+		Integer[] ascending = new Integer[n];
+		Integer[] descending = new Integer[n];
+		Integer[] fewUnique = new Integer[n];
+		Integer[] random = new Integer[n];
+		Random rand = new Random(316);
+		for (int i = 0; i < n; i++) {
+			ascending[i] = i;
+			descending[i] = n - i;
+			fewUnique[i] = rand.nextInt(4);
+			random[i] = rand.nextInt();
+		}
+
+		QuickSorter.PivotSelector[] selectors = { QuickSorter.FIRST_ELEMENT_SELECTOR, QuickSorter.LAST_ELEMENT_SELECTOR,
+				QuickSorter.MIDDLE_ELEMENT_SELECTOR, QuickSorter.RANDOM_ELEMENT_SELECTOR,
+				QuickSorter.MEDIAN_OF_THREE_SELECTOR, QuickSorter.NINTHER_SELECTOR };
+		for (QuickSorter.PivotSelector selector : selectors) {
+			IntroSorter<Integer> sorter = new IntroSorter<Integer>(selector);
+			for (Integer[] input : new Integer[][] { ascending, descending, fewUnique, random }) {
+				Integer[] data = input.clone();
+				sorter.sort(data);
+				for (int i = 1; i < n; i++) {
+					assertTrue(data[i - 1] <= data[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests IntroSorter.sort() with students and a custom comparator
+	 */
+	@Test
+	public void testSortStudents() {
+		Student[] roster = StudentReader.readInputAsArray("input/student_ascendingID.csv");
+		Student[] expected = roster.clone();
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+		new IntroSorter<Student>(new StudentGPAComparator()).sort(roster);
+		assertArrayEquals(expected, roster);
+	}
+
+	/**
+	 * Tests IntroSorter.sort() on ranges at an offset whose lengths fall on both
+	 * sides of the insertion sort cutoff, and on a sorted range that sends the
+	 * first element selector to the heap sort fallback with the range offset
+	 */
+	@Test
+	public void testSortRange() {
+		Random random = new Random(316);
+		for (int length = 0; length <= 2 * IntroSorter.INSERTION_CUTOFF + 2; length++) {
+			SorterTest.assertSortsRange(introSorter, length + 7, 3, 3 + length, random);
+		}
+		SorterTest.assertSortsRange(introSorter, 1000, 100, 900, random);
+
+		Integer[] data = new Integer[1000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = i < 100 ? 5000 : i < 900 ? i : -i;
+		}
+		Integer[] expected = data.clone();
+		new IntroSorter<Integer>(QuickSorter.FIRST_ELEMENT_SELECTOR).sort(data, 100, 900);
+		assertArrayEquals(expected, data);
+	}
+}
@@ -0,0 +1,158 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.data.StudentKeys;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+
+/**
+ * Tests KeyExtractedSorter class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class KeyExtractedSorterTest {
+
+	/**
+	 * Tests KeyExtractedSorter.sort() on small arrays of Integers
+	 */
+	@Test
+	public void testSort() {
+		KeyExtractedSorter<Integer> sorter = new KeyExtractedSorter<Integer>(i -> i);
+		Integer[] dataRandom = { 4, 1, 5, 3, 2 };
+		sorter.sort(dataRandom);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataRandom);
+
+		// A key that ignores the last digit leaves ties for the comparator
+		Integer[] ties = { 19, 12, 15, 3, 11, 1 };
+		new KeyExtractedSorter<Integer>(i -> i / 10).sort(ties);
+		assertArrayEquals(new Integer[] { 1, 3, 11, 12, 15, 19 }, ties);
+
+		Integer[] empty = {};
+		sorter.sort(empty);
+		assertEquals(0, empty.length);
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new KeyExtractedSorter<Integer>(null));
+		assertEquals("Key extractor must not be null", e.getMessage());
+	}
+
+	/**
+	 * Tests that KeyExtractedSorter.sort() with each Student key gives the same
+	 * result as MergeSorter with the matching ordering, and calls the comparator
+	 * far fewer times
+	 */
+	@Test
+	public void testSortStudents() {
+		Random random = new Random(316);
+		String[] lastNames = { "Smith", "Smithson", "Smit", "Sm", "Nguyen", "O'Neil", "Zhang", "\u00C5berg", "" };
+		Student[] roster = new Student[20000];
+		for (int i = 0; i < roster.length; i++) {
+			String last = lastNames[random.nextInt(lastNames.length)] + (random.nextBoolean() ? "" : (char) ('a' + random.nextInt(3)));
+			roster[i] = new Student("First" + random.nextInt(50), last, random.nextInt(1000000), i,
+					random.nextInt(401) / 100.0, "unity" + i);
+		}
+
+		int[] comparisons = new int[1];
+		Comparator<Student> countingGPA = (a, b) -> {
+			comparisons[0]++;
+			return new StudentGPAComparator().compare(a, b);
+		};
+		Student[] expected = roster.clone();
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+		Student[] actual = roster.clone();
+		new KeyExtractedSorter<Student>(StudentKeys.GPA, countingGPA).sort(actual);
+		assertArrayEquals(expected, actual);
+		assertTrue(comparisons[0] < roster.length * 4);
+
+		expected = roster.clone();
+		new MergeSorter<Student>().sort(expected);
+		actual = roster.clone();
+		new KeyExtractedSorter<Student>(StudentKeys.NAME).sort(actual);
+		assertArrayEquals(expected, actual);
+
+		// IDs repeat, and MergeSorter does not keep equal elements in order, so compare to a stable sorter
+		expected = roster.clone();
+		new BufferedMergeSorter<Student>(new StudentIDComparator()).sort(expected);
+		actual = roster.clone();
+		new KeyExtractedSorter<Student>(StudentKeys.ID, new StudentIDComparator()).sort(actual);
+		assertArrayEquals(expected, actual);
+
+		Student[] file = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		expected = file.clone();
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+		new KeyExtractedSorter<Student>(StudentKeys.GPA, new StudentGPAComparator()).sort(file);
+		assertArrayEquals(expected, file);
+	}
+
+	/**
+	 * Tests that KeyExtractedSorter.sort() with the GPA key orders GPAs that are
+	 * not whole hundredths, or are outside the key's range, by GPA and not by name
+	 */
+	@Test
+	public void testSortInexactGPAs() {
+		Student[] pair = { new Student("Aaron", "Aaron", 1, 1, 3.449, "aaron"),
+				new Student("Zed", "Zed", 2, 1, 3.451, "zed") };
+		new KeyExtractedSorter<Student>(StudentKeys.GPA, new StudentGPAComparator()).sort(pair);
+		assertEquals("Zed", pair[0].getFirst());
+		assertEquals("Aaron", pair[1].getFirst());
+
+		double[] gpas = { 3.449, 3.451, 3.45, 3.44, 3.4499999, 0.005, 0, 0.01, -0.5, -1, 10.23, 10.231, 10.5, 11, 4.0 };
+		String[] lastNames = { "Aaron", "Mills", "Zed", "" };
+		Student[] roster = new Student[gpas.length * lastNames.length];
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", lastNames[i % lastNames.length], i, 1, gpas[i / lastNames.length], "unity" + i);
+		}
+		Random random = new Random(316);
+		for (int trial = 0; trial < 20; trial++) {
+			for (int i = roster.length - 1; i > 0; i--) {
+				int j = random.nextInt(i + 1);
+				Student temp = roster[i];
+				roster[i] = roster[j];
+				roster[j] = temp;
+			}
+			Student[] expected = roster.clone();
+			new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+			Student[] actual = roster.clone();
+			new KeyExtractedSorter<Student>(StudentKeys.GPA, new StudentGPAComparator()).sort(actual);
+			assertArrayEquals(expected, actual);
+		}
+	}
+
+	/**
+	 * Tests that KeyExtractedSorter.sort() orders last names that differ after a
+	 * character past the ASCII range
+	 */
+	@Test
+	public void testSortNonAsciiNames() {
+		String[] lastNames = { "\u00DCber", "\u00D6mer", "\u00CBa", "\u00C9z", "O\u00DCz", "O\u00D6a", "Zz" };
+		Student[] roster = new Student[lastNames.length * 2];
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", lastNames[i % lastNames.length], i, 1, 3.0, "unity" + i);
+		}
+
+		Student[] expected = roster.clone();
+		new MergeSorter<Student>().sort(expected);
+		Student[] actual = roster.clone();
+		new KeyExtractedSorter<Student>(StudentKeys.NAME).sort(actual);
+		assertArrayEquals(expected, actual);
+		assertEquals("O\u00D6a", actual[0].getLast());
+		assertEquals("O\u00DCz", actual[2].getLast());
+		assertEquals("\u00C9z", actual[6].getLast());
+		assertEquals("\u00CBa", actual[8].getLast());
+		assertEquals("\u00D6mer", actual[10].getLast());
+		assertEquals("\u00DCber", actual[12].getLast());
+
+		expected = roster.clone();
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+		actual = roster.clone();
+		new KeyExtractedSorter<Student>(StudentKeys.GPA, new StudentGPAComparator()).sort(actual);
+		assertArrayEquals(expected, actual);
+	}
+}
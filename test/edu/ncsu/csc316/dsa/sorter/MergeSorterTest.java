@@ -5,6 +5,8 @@ package edu.ncsu.csc316.dsa.sorter;
 
 import static org.junit.Assert.*;
 
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -59,4 +61,17 @@ public class MergeSorterTest {
 		assertEquals(4, (int)dataRandom[3]);
 		assertEquals(5, (int)dataRandom[4]);
 	}
+
+	/**
+	 * Tests MergeSorter.sort() on ranges at an offset. The range is split at
+	 * from + n / 2 and the halves are copied out with inclusive end indexes, so
+	 * odd and even lengths both need checking.
+	 */
+	@Test
+	public void testSortRange() {
+		Random random = new Random(316);
+		for (int length = 0; length <= 40; length++) {
+			SorterTest.assertSortsRange(mergeSorter, length + 7, 3, 3 + length, random);
+		}
+	}
 }
@@ -0,0 +1,125 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Tests ParallelMergeSorter class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class ParallelMergeSorterTest {
+	/** An array of Integers in ascending order */
+	private Integer[] dataAscending = { 1, 2, 3, 4, 5 };
+	/** An array of Integers in descending order */
+	private Integer[] dataDescending = { 5, 4, 3, 2, 1 };
+	/** An array of Integers in random order */
+	private Integer[] dataRandom = { 4, 1, 5, 3, 2 };
+	/** A ParallelMergeSorter that splits all the way down to single elements */
+	private ParallelMergeSorter<Integer> mergeSorter;
+
+	/**
+	 * Creates a ParallelMergeSorter which will be used for testing
+	 */
+	@Before
+	public void setUp() {
+		mergeSorter = new ParallelMergeSorter<Integer>(null, 1);
+	}
+
+	/**
+	 * Tests ParallelMergeSorter.sort() on small arrays
+	 */
+	@Test
+	public void testSort() {
+		mergeSorter.sort(dataAscending);
+		assertEquals(1, (int)dataAscending[0]);
+		assertEquals(2, (int)dataAscending[1]);
+		assertEquals(3, (int)dataAscending[2]);
+		assertEquals(4, (int)dataAscending[3]);
+		assertEquals(5, (int)dataAscending[4]);
+
+		mergeSorter.sort(dataDescending);
+		assertEquals(1, (int)dataDescending[0]);
+		assertEquals(2, (int)dataDescending[1]);
+		assertEquals(3, (int)dataDescending[2]);
+		assertEquals(4, (int)dataDescending[3]);
+		assertEquals(5, (int)dataDescending[4]);
+
+		mergeSorter.sort(dataRandom);
+		assertEquals(1, (int)dataRandom[0]);
+		assertEquals(2, (int)dataRandom[1]);
+		assertEquals(3, (int)dataRandom[2]);
+		assertEquals(4, (int)dataRandom[3]);
+		assertEquals(5, (int)dataRandom[4]);
+
+		Integer[] empty = {};
+		mergeSorter.sort(empty);
+		assertEquals(0, empty.length);
+	}
+
+	/**
+	 * Tests ParallelMergeSorter.sort() with a custom comparator, and checks that
+	 * equal elements keep their original order
+	 */
+	@Test
+	public void testSortStudents() {
+		Random random = new Random(316);
+		Student[] roster = new Student[5000];
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First" + i, "Last" + i, random.nextInt(100), i, random.nextInt(401) / 100.0, "unity" + i);
+		}
+
+		Student[] byGpa = roster.clone();
+		new ParallelMergeSorter<Student>(new StudentGPAComparator(), 16).sort(byGpa);
+		Student[] expected = roster.clone();
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+		assertArrayEquals(expected, byGpa);
+
+		// IDs repeat, so credit hours (the original index) must stay ascending within an ID
+		Student[] byId = roster.clone();
+		new ParallelMergeSorter<Student>(new StudentIDComparator(), 16).sort(byId);
+		for (int i = 1; i < byId.length; i++) {
+			assertTrue(byId[i - 1].getId() <= byId[i].getId());
+			if (byId[i - 1].getId() == byId[i].getId()) {
+				assertTrue(byId[i - 1].getCreditHours() < byId[i].getCreditHours());
+			}
+		}
+	}
+
+	/**
+	 * Tests that an invalid threshold is rejected
+	 */
+	@Test
+	public void testInvalidThreshold() {
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSorter<Integer>(null, 0));
+		assertEquals("Threshold must be at least 1: 0", e.getMessage());
+	}
+
+	/**
+	 * Tests ParallelMergeSorter.sort() on ranges at an offset whose lengths fall
+	 * on both sides of the sequential threshold, so the range is split into
+	 * tasks and merged back with the range offset
+	 */
+	@Test
+	public void testSortRange() {
+		Random random = new Random(316);
+		for (ParallelMergeSorter<Integer> sorter : Arrays.asList(mergeSorter, new ParallelMergeSorter<Integer>(null, 8))) {
+			for (int length = 0; length <= 20; length++) {
+				SorterTest.assertSortsRange(sorter, length + 7, 3, 3 + length, random);
+			}
+		}
+		int threshold = ParallelMergeSorter.DEFAULT_THRESHOLD;
+		ParallelMergeSorter<Integer> defaultThreshold = new ParallelMergeSorter<Integer>();
+		SorterTest.assertSortsRange(defaultThreshold, threshold + 200, 100, 100 + threshold, random);
+		SorterTest.assertSortsRange(defaultThreshold, threshold + 201, 100, 101 + threshold, random);
+	}
+}
@@ -0,0 +1,116 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Tests ParallelSampleSorter class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class ParallelSampleSorterTest {
+
+	/**
+	 * Tests ParallelSampleSorter.sort() on small arrays, which are sorted
+	 * sequentially
+	 */
+	@Test
+	public void testSortSmall() {
+		ParallelSampleSorter<Integer> sorter = new ParallelSampleSorter<Integer>();
+		Integer[] data = { 4, 1, 5, 3, 2 };
+		sorter.sort(data);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, data);
+
+		Integer[] empty = {};
+		sorter.sort(empty);
+		assertEquals(0, empty.length);
+	}
+
+	/**
+	 * Tests ParallelSampleSorter.sort() on large random, sorted, all-equal, and
+	 * duplicate-heavy inputs with several worker counts and a low threshold
+	 */
+	@Test
+	public void testSortLarge() {
+		Random random = new Random(316);
+		int n = 20000;
+		Integer[] randomData = new Integer[n];
+		Integer[] ascending = new Integer[n];
+		Integer[] allEqual = new Integer[n];
+		Integer[] fewUnique = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			randomData[i] = random.nextInt();
+			ascending[i] = i;
+			allEqual[i] = 7;
+			fewUnique[i] = random.nextInt(3);
+		}
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (int parallelism : new int[] { 1, 2, 3, 8 }) {
+				ParallelSampleSorter<Integer> sorter = new ParallelSampleSorter<Integer>(null, parallelism, 64, pool);
+				for (Integer[] original : new Integer[][] { randomData, ascending, allEqual, fewUnique }) {
+					Integer[] data = original.clone();
+					Integer[] expected = original.clone();
+					Arrays.sort(expected);
+					sorter.sort(data);
+					assertArrayEquals(expected, data);
+				}
+
+				Integer[] range = randomData.clone();
+				Integer[] expected = randomData.clone();
+				Arrays.sort(expected, 1000, 19000);
+				sorter.sort(range, 1000, 19000);
+				assertArrayEquals(expected, range);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Tests that ParallelSampleSorter.sort() is stable, with Students that share
+	 * GPAs and IDs, and with a custom Comparator
+	 */
+	@Test
+	public void testSortStable() {
+		Random random = new Random(316);
+		Student[] roster = new Student[30000];
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", "Last", random.nextInt(50), i, random.nextInt(5), "unity");
+		}
+		Student[] byID = roster.clone();
+		new ParallelSampleSorter<Student>(new StudentIDComparator(), 4, 128, null).sort(byID);
+		for (int i = 1; i < byID.length; i++) {
+			assertTrue(byID[i - 1].getId() <= byID[i].getId());
+			if (byID[i - 1].getId() == byID[i].getId()) {
+				assertTrue(byID[i - 1].getCreditHours() < byID[i].getCreditHours());
+			}
+		}
+
+		Student[] byGPA = roster.clone();
+		Student[] expected = roster.clone();
+		new BufferedMergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+		new ParallelSampleSorter<Student>(new StudentGPAComparator(), 4, 128, null).sort(byGPA);
+		assertArrayEquals(expected, byGPA);
+	}
+
+	/**
+	 * Tests that invalid worker counts and thresholds are rejected
+	 */
+	@Test
+	public void testInvalid() {
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new ParallelSampleSorter<Integer>(null, 0));
+		assertEquals("Parallelism must be at least 1: 0", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> new ParallelSampleSorter<Integer>(null, 2, 0, null));
+		assertEquals("Threshold must be at least 1: 0", e.getMessage());
+	}
+}
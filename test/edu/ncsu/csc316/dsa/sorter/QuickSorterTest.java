@@ -5,6 +5,9 @@ package edu.ncsu.csc316.dsa.sorter;
 
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -153,6 +156,27 @@ public class QuickSorterTest {
 		assertEquals(4, (int)dataRandom[3]);
 		assertEquals(5, (int)dataRandom[4]);
 		
+		// Test QuickSorter using a median of three pivot selector
+		QuickSorter<Integer> medianSort = new QuickSorter<Integer>(QuickSorter.MEDIAN_OF_THREE_SELECTOR);
+		
+		Integer[] medianData = { 3, 9, 1, 7, 5, 8, 2, 6, 4 };
+		medianSort.sort(medianData);
+		for(int i = 0; i < medianData.length; i++) {
+			assertEquals(i + 1, (int)medianData[i]);
+		}
+		
+		// Test QuickSorter using a ninther pivot selector on a range large enough to use the ninther
+		QuickSorter<Integer> nintherSort = new QuickSorter<Integer>(QuickSorter.NINTHER_SELECTOR);
+		
+		Integer[] nintherData = new Integer[100];
+		for(int i = 0; i < nintherData.length; i++) {
+			nintherData[i] = (i * 37) % 100;
+		}
+		nintherSort.sort(nintherData);
+		for(int i = 0; i < nintherData.length; i++) {
+			assertEquals(i, (int)nintherData[i]);
+		}
+		
 		// Test QuickSorter with students and with a custom comparator
 		QuickSorter<Student> sortGPA = new QuickSorter<Student>(new StudentGPAComparator());
 		
@@ -164,4 +188,79 @@ public class QuickSorterTest {
 		assertEquals(sTwo, original[3]);
 		assertEquals(sOne, original[4]);
 	}
+	
+	/**
+	 * Tests QuickSorter.sort() with the dual-pivot and block partitioning schemes
+	 * on inputs large enough to use several blocks, with every pivot selector
+	 */
+	@Test
+	public void testSortPartitionSchemes() {
+		int n = 5000;
+		Integer[] ascending = new Integer[n];
+		Integer[] descending = new Integer[n];
+		Integer[] fewUnique = new Integer[n];
+		Integer[] random = new Integer[n];
+		Random rand = new Random(316);
+		for(int i = 0; i < n; i++) {
+			ascending[i] = i;
+			descending[i] = n - i;
+			fewUnique[i] = rand.nextInt(8);
+			random[i] = rand.nextInt();
+		}
+		
+		QuickSorter.PivotSelector[] selectors = { QuickSorter.FIRST_ELEMENT_SELECTOR, QuickSorter.LAST_ELEMENT_SELECTOR,
+				QuickSorter.MIDDLE_ELEMENT_SELECTOR, QuickSorter.RANDOM_ELEMENT_SELECTOR,
+				QuickSorter.MEDIAN_OF_THREE_SELECTOR, QuickSorter.NINTHER_SELECTOR };
+		QuickSorter.PartitionScheme[] schemes = { QuickSorter.PartitionScheme.DUAL_PIVOT, QuickSorter.PartitionScheme.BLOCK };
+		for(QuickSorter.PartitionScheme scheme : schemes) {
+			for(QuickSorter.PivotSelector selector : selectors) {
+				QuickSorter<Integer> sorter = new QuickSorter<Integer>(null, selector, scheme);
+				for(Integer[] input : new Integer[][] { ascending, descending, fewUnique, random }) {
+					// Comparing with Arrays.sort also catches elements that are dropped or duplicated
+					Integer[] expected = input.clone();
+					Arrays.sort(expected);
+					Integer[] data = input.clone();
+					sorter.sort(data);
+					assertArrayEquals(expected, data);
+				}
+				
+				Integer[] small = { 4, 1, 5, 3, 2 };
+				sorter.sort(small);
+				for(int i = 0; i < small.length; i++) {
+					assertEquals(i + 1, (int)small[i]);
+				}
+			}
+		}
+		
+		// Test each scheme with students and with a custom comparator
+		for(QuickSorter.PartitionScheme scheme : schemes) {
+			QuickSorter<Student> sortGPA = new QuickSorter<Student>(new StudentGPAComparator(), null, scheme);
+			Student[] original = { sTwo, sOne, sFour, sThree, sFive };
+			sortGPA.sort(original);
+			assertEquals(sFive, original[0]);
+			assertEquals(sFour, original[1]);
+			assertEquals(sThree, original[2]);
+			assertEquals(sTwo, original[3]);
+			assertEquals(sOne, original[4]);
+		}
+	}
+
+	/**
+	 * Tests QuickSorter.sort() on ranges at an offset with each partition scheme.
+	 * The block scheme partitions whole blocks of 128 while the range is longer
+	 * than two blocks, so lengths on both sides of 256 are checked.
+	 */
+	@Test
+	public void testSortRange() {
+		Random random = new Random(316);
+		for (QuickSorter.PartitionScheme scheme : QuickSorter.PartitionScheme.values()) {
+			QuickSorter<Integer> sorter = new QuickSorter<Integer>(null, QuickSorter.MEDIAN_OF_THREE_SELECTOR, scheme);
+			for (int length = 0; length <= 12; length++) {
+				SorterTest.assertSortsRange(sorter, length + 7, 3, 3 + length, random);
+			}
+			for (int length : new int[] { 255, 256, 257, 258, 400 }) {
+				SorterTest.assertSortsRange(sorter, length + 100, 50, 50 + length, random);
+			}
+		}
+	}
 }
@@ -5,6 +5,8 @@ package edu.ncsu.csc316.dsa.sorter;
 
 import static org.junit.Assert.*;
 
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -66,4 +68,155 @@ public class RadixSorterTest {
 		assertEquals("Bob", two[1].getFirst());
 		assertEquals("Zola", two[2].getFirst());
 	}
+	
+	/**
+	 * Tests RadixSorter.sort() with an empty array
+	 */
+	@Test
+	public void testSortEmpty() {
+		Student[] empty = {};
+		sorter.sort(empty);
+		assertEquals(0, empty.length);
+		new RadixSorter<Student>(RadixSorter.Radix.BYTE).sort(empty);
+		assertEquals(0, empty.length);
+	}
+	
+	/**
+	 * Tests RadixSorter.sort() in byte-wise mode, including negative and extreme IDs
+	 * and keeping students with equal IDs in their original order
+	 */
+	@Test
+	public void testSortByte() {
+		RadixSorter<Student> byteSorter = new RadixSorter<Student>(RadixSorter.Radix.BYTE);
+		Student[] original = { sTwo, sOne, sFour, sThree, sFive };
+		byteSorter.sort(original);
+		assertEquals(sOne, original[0]);
+		assertEquals(sTwo, original[1]);
+		assertEquals(sThree, original[2]);
+		assertEquals(sFour, original[3]);
+		assertEquals(sFive, original[4]);
+		
+		Student min = new Student("Min", "Value", Integer.MIN_VALUE, 1, 1.0, "min");
+		Student max = new Student("Max", "Value", Integer.MAX_VALUE, 1, 1.0, "max");
+		Student negative = new Student("Negative", "One", -1, 1, 1.0, "neg");
+		Student zero = new Student("Zero", "Zero", 0, 1, 1.0, "zero");
+		Student big = new Student("Big", "Number", 70000, 1, 1.0, "big");
+		Student[] mixed = { big, max, zero, negative, min };
+		byteSorter.sort(mixed);
+		assertEquals(min, mixed[0]);
+		assertEquals(negative, mixed[1]);
+		assertEquals(zero, mixed[2]);
+		assertEquals(big, mixed[3]);
+		assertEquals(max, mixed[4]);
+		
+		Random random = new Random(316);
+		Student[] roster = new Student[2000];
+		for(int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", "Last", random.nextInt(1000) - 500, i, 1.0, "unity");
+		}
+		byteSorter.sort(roster);
+		for(int i = 1; i < roster.length; i++) {
+			assertTrue(roster[i - 1].getId() <= roster[i].getId());
+			if(roster[i - 1].getId() == roster[i].getId()) {
+				assertTrue(roster[i - 1].getCreditHours() < roster[i].getCreditHours());
+			}
+		}
+	}
+	
+	/**
+	 * Tests RadixSorter.sort() in parallel mode with both radixes, keeping students
+	 * with equal IDs in their original order
+	 */
+	@Test
+	public void testSortParallel() {
+		Random random = new Random(316);
+		Student[] roster = new Student[50000];
+		for(int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", "Last", random.nextInt(100000), i, 1.0, "unity");
+		}
+		for(RadixSorter.Radix radix : RadixSorter.Radix.values()) {
+			Student[] data = roster.clone();
+			new RadixSorter<Student>(radix, 4).sort(data);
+			for(int i = 1; i < data.length; i++) {
+				assertTrue(data[i - 1].getId() <= data[i].getId());
+				if(data[i - 1].getId() == data[i].getId()) {
+					assertTrue(data[i - 1].getCreditHours() < data[i].getCreditHours());
+				}
+			}
+		}
+		
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new RadixSorter<Student>(RadixSorter.Radix.BYTE, 0));
+		assertEquals("Parallelism must be at least 1: 0", e.getMessage());
+	}
+
+	/**
+	 * Tests that RadixSorter.sort() with the decimal radix rejects negative IDs,
+	 * sequentially and in parallel, without changing the data
+	 */
+	@Test
+	public void testSortDecimalNegative() {
+		Random random = new Random(316);
+		Student[] roster = new Student[100000];
+		for(int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", "Last", -1 - random.nextInt(100000), i, 1.0, "unity");
+		}
+		for(int parallelism : new int[] { 1, 4 }) {
+			Student[] data = roster.clone();
+			RadixSorter<Student> decimal = new RadixSorter<Student>(RadixSorter.Radix.DECIMAL, parallelism);
+			Exception e = assertThrows(IllegalArgumentException.class, () -> decimal.sort(data));
+			assertTrue(e.getMessage().startsWith("IDs must not be negative with the decimal radix: "));
+			assertArrayEquals(roster, data);
+		}
+
+		// A single negative ID among non-negative ones is also rejected
+		Student[] mixed = { sFive, sFour, new Student("Negative", "One", -1, 1, 1.0, "neg"), sOne };
+		Exception e = assertThrows(IllegalArgumentException.class, () -> sorter.sort(mixed));
+		assertEquals("IDs must not be negative with the decimal radix: -1", e.getMessage());
+
+		// The byte-wise radix sorts them
+		Student[] data = roster.clone();
+		new RadixSorter<Student>(RadixSorter.Radix.BYTE, 4).sort(data);
+		for(int i = 1; i < data.length; i++) {
+			assertTrue(data[i - 1].getId() <= data[i].getId());
+		}
+	}
+
+	/**
+	 * Tests RadixSorter.sort() on a range with both radixes, sequentially and in
+	 * parallel, which must leave the students outside the range unchanged
+	 */
+	@Test
+	public void testSortRange() {
+		Student[] data = { sFive, sFour, sTwo, sThree, sOne };
+		sorter.sort(data, 1, 4);
+		assertEquals(sFive, data[0]);
+		assertEquals(sTwo, data[1]);
+		assertEquals(sThree, data[2]);
+		assertEquals(sFour, data[3]);
+		assertEquals(sOne, data[4]);
+		assertThrows(IllegalArgumentException.class, () -> sorter.sort(data, 3, 2));
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(data, -1, 2));
+
+		Random random = new Random(316);
+		Student[] roster = new Student[40000];
+		for(int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", "Last", random.nextInt(100000), i, 1.0, "unity");
+		}
+		for(RadixSorter.Radix radix : RadixSorter.Radix.values()) {
+			for(int parallelism = 1; parallelism <= 4; parallelism += 3) {
+				Student[] range = roster.clone();
+				new RadixSorter<Student>(radix, parallelism).sort(range, 1000, 39000);
+				for(int i = 0; i < range.length; i++) {
+					if(i < 1000 || i >= 39000) {
+						assertEquals(roster[i], range[i]);
+					} else if(i > 1000) {
+						assertTrue(range[i - 1].getId() <= range[i].getId());
+						if(range[i - 1].getId() == range[i].getId()) {
+							assertTrue(range[i - 1].getCreditHours() < range[i].getCreditHours());
+						}
+					}
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,157 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+
+/**
+ * Tests RunMergeSorter class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class RunMergeSorterTest {
+	/** An array of Integers in ascending order */
+	private Integer[] dataAscending = { 1, 2, 3, 4, 5 };
+	/** An array of Integers in descending order */
+	private Integer[] dataDescending = { 5, 4, 3, 2, 1 };
+	/** An array of Integers in random order */
+	private Integer[] dataRandom = { 4, 1, 5, 3, 2 };
+	/** A RunMergeSorter for Integers */
+	private RunMergeSorter<Integer> runSorter;
+
+	/**
+	 * Constructs a RunMergeSorter which will be used for testing
+	 */
+	@Before
+	public void setUp() {
+		runSorter = new RunMergeSorter<Integer>();
+	}
+
+	/**
+	 * Tests RunMergeSorter.sort() on small arrays
+	 */
+	@Test
+	public void testSort() {
+		runSorter.sort(dataAscending);
+		assertEquals(1, (int)dataAscending[0]);
+		assertEquals(2, (int)dataAscending[1]);
+		assertEquals(3, (int)dataAscending[2]);
+		assertEquals(4, (int)dataAscending[3]);
+		assertEquals(5, (int)dataAscending[4]);
+
+		runSorter.sort(dataDescending);
+		assertEquals(1, (int)dataDescending[0]);
+		assertEquals(2, (int)dataDescending[1]);
+		assertEquals(3, (int)dataDescending[2]);
+		assertEquals(4, (int)dataDescending[3]);
+		assertEquals(5, (int)dataDescending[4]);
+
+		runSorter.sort(dataRandom);
+		assertEquals(1, (int)dataRandom[0]);
+		assertEquals(2, (int)dataRandom[1]);
+		assertEquals(3, (int)dataRandom[2]);
+		assertEquals(4, (int)dataRandom[3]);
+		assertEquals(5, (int)dataRandom[4]);
+
+		Integer[] empty = {};
+		runSorter.sort(empty);
+		assertEquals(0, empty.length);
+	}
+
+	/**
+	 * Tests that RunMergeSorter.sort() only needs n - 1 comparisons for sorted and
+	 * reverse sorted input, and few comparisons for nearly sorted input
+	 */
+	@Test
+	public void testSortNearlySorted() {
+		int n = 100000;
+		int[] comparisons = new int[1];
+		Comparator<Integer> counting = (a, b) -> {
+			comparisons[0]++;
+			return a.compareTo(b);
+		};
+		RunMergeSorter<Integer> sorter = new RunMergeSorter<Integer>(counting);
+
+		Integer[] ascending = new Integer[n];
+		Integer[] descending = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			ascending[i] = i;
+			descending[i] = n - i;
+		}
+		sorter.sort(ascending);
+		assertEquals(n - 1, comparisons[0]);
+		comparisons[0] = 0;
+		sorter.sort(descending);
+		assertEquals(n - 1, comparisons[0]);
+		for (int i = 0; i < n; i++) {
+			assertEquals(i, (int)ascending[i]);
+			assertEquals(i + 1, (int)descending[i]);
+		}
+
+		// A few swapped pairs and an appended block, as in a daily roster feed
+		Random random = new Random(316);
+		Integer[] nearly = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			nearly[i] = i;
+		}
+		for (int i = 0; i < 20; i++) {
+			int j = random.nextInt(n);
+			int k = random.nextInt(n);
+			Integer temp = nearly[j];
+			nearly[j] = nearly[k];
+			nearly[k] = temp;
+		}
+		comparisons[0] = 0;
+		sorter.sort(nearly);
+		assertTrue(comparisons[0] < 3 * n);
+		for (int i = 0; i < n; i++) {
+			assertEquals(i, (int)nearly[i]);
+		}
+	}
+
+	/**
+	 * Tests RunMergeSorter.sort() on random and partly ordered input against
+	 * MergeSorter, including keeping equal elements in their original order
+	 */
+	@Test
+	public void testSortStudents() {
+		Random random = new Random(316);
+		for (int size = 10; size <= 100000; size *= 10) {
+			Student[] roster = new Student[size];
+			for (int i = 0; i < roster.length; i++) {
+				// Half ordered by ID, half random, so both runs and galloping are exercised
+				int id = i < size / 2 ? i / 3 : random.nextInt(size);
+				roster[i] = new Student("First" + i, "Last" + i, id, i, random.nextInt(401) / 100.0, "unity" + i);
+			}
+			Student[] expected = roster.clone();
+			new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+			Student[] actual = roster.clone();
+			new RunMergeSorter<Student>(new StudentGPAComparator()).sort(actual);
+			assertArrayEquals(expected, actual);
+
+			// IDs repeat, so credit hours (the original index) must stay ascending within an ID
+			new RunMergeSorter<Student>(new StudentIDComparator()).sort(roster);
+			for (int i = 1; i < roster.length; i++) {
+				assertTrue(roster[i - 1].getId() <= roster[i].getId());
+				if (roster[i - 1].getId() == roster[i].getId()) {
+					assertTrue(roster[i - 1].getCreditHours() < roster[i].getCreditHours());
+				}
+			}
+		}
+
+		Student[] descending = StudentReader.readInputAsArray("input/student_descendingID.csv");
+		Student[] expected = descending.clone();
+		new MergeSorter<Student>(new StudentIDComparator()).sort(expected);
+		new RunMergeSorter<Student>(new StudentIDComparator()).sort(descending);
+		assertArrayEquals(expected, descending);
+	}
+}
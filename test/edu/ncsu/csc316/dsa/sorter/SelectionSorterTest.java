@@ -3,8 +3,11 @@
  */
 package edu.ncsu.csc316.dsa.sorter;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -58,4 +61,18 @@ public class SelectionSorterTest {
 		assertEquals(4, (int) dataRandom[3]);
 		assertEquals(5, (int) dataRandom[4]);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Tests SelectionSorter.sort() on ranges at an offset. The minimum must be
+	 * searched for only up to to, even when the elements after the range are
+	 * smaller.
+	 */
+	@Test
+	public void testSortRange() {
+		Random random = new Random(316);
+		for (int length = 0; length <= 12; length++) {
+			SorterTest.assertSortsRange(integerSorter, length + 5, 2, 2 + length, random);
+			SorterTest.assertSortsRange(integerSorter, length + 3, 3, 3 + length, random);
+		}
+	}
+}
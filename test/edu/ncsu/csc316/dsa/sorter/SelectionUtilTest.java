@@ -0,0 +1,103 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Tests SelectionUtil class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class SelectionUtilTest {
+
+	/**
+	 * Tests SelectionUtil.select() for every rank of small arrays, and for
+	 * duplicate-heavy, sorted, and random large arrays
+	 */
+	@Test
+	public void testSelect() {
+		Integer[] data = { 4, 1, 5, 3, 2 };
+		for (int rank = 0; rank < data.length; rank++) {
+			Integer[] copy = data.clone();
+			assertEquals(rank + 1, (int)SelectionUtil.select(copy, rank, null));
+			for (int i = 0; i < copy.length; i++) {
+				assertTrue(i < rank ? copy[i] <= rank + 1 : copy[i] >= rank + 1);
+			}
+		}
+
+		Random random = new Random(316);
+		int n = 100000;
+		Integer[] fewUnique = new Integer[n];
+		Integer[] ascending = new Integer[n];
+		Integer[] randomData = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			fewUnique[i] = random.nextInt(4);
+			ascending[i] = i;
+			randomData[i] = random.nextInt();
+		}
+		for (Integer[] input : new Integer[][] { fewUnique, ascending, randomData }) {
+			Integer[] expected = input.clone();
+			Arrays.sort(expected);
+			for (int rank : new int[] { 0, n / 2, n - 1, random.nextInt(n) }) {
+				Integer[] copy = input.clone();
+				assertEquals(expected[rank], SelectionUtil.select(copy, rank, null));
+			}
+		}
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> SelectionUtil.select(data, 5, null));
+		assertEquals("Rank must be between 0 and 4: 5", e.getMessage());
+	}
+
+	/**
+	 * Tests SelectionUtil.partialSort() and SelectionUtil.topK() with Student
+	 * comparators against a full sort
+	 */
+	@Test
+	public void testPartialSortAndTopK() {
+		Random random = new Random(316);
+		Student[] roster = new Student[5000];
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First" + i, "Last" + i, random.nextInt(100000), i, random.nextInt(401) / 100.0, "unity" + i);
+		}
+		Student[] byID = roster.clone();
+		new MergeSorter<Student>(new StudentIDComparator()).sort(byID);
+
+		for (int k : new int[] { 0, 1, 100, roster.length }) {
+			Student[] copy = roster.clone();
+			SelectionUtil.partialSort(copy, k, new StudentIDComparator());
+			for (int i = 0; i < k; i++) {
+				assertEquals(byID[i].getId(), copy[i].getId());
+			}
+
+			Student[] top = SelectionUtil.topK(roster, k, new StudentIDComparator());
+			assertEquals(k, top.length);
+			for (int i = 0; i < k; i++) {
+				assertEquals(byID[i].getId(), top[i].getId());
+			}
+		}
+
+		// The 100 highest GPAs come first in StudentGPAComparator's ordering
+		Student[] before = roster.clone();
+		Student[] top = SelectionUtil.topK(roster, 100, new StudentGPAComparator());
+		assertArrayEquals(before, roster);
+		Student[] byGPA = roster.clone();
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(byGPA);
+		for (int i = 0; i < top.length; i++) {
+			assertEquals(byGPA[i].getGpa(), top[i].getGpa(), 0);
+		}
+		assertEquals(3, SelectionUtil.topK(new Integer[] { 3, 1, 2 }, 10, null).length);
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> SelectionUtil.partialSort(roster, 5001, null));
+		assertEquals("k must be between 0 and 5000: 5001", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> SelectionUtil.topK(roster, -1, null));
+		assertEquals("k must not be negative: -1", e.getMessage());
+	}
+}
@@ -0,0 +1,192 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Tests SortInstrumentation class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class SortInstrumentationTest {
+
+	/**
+	 * Tests the counters, phase times, reset, and a disabled instrumentation
+	 */
+	@Test
+	public void testCounters() {
+		SortInstrumentation instrumentation = new SortInstrumentation();
+		assertTrue(instrumentation.isEnabled());
+		instrumentation.addComparisons(3);
+		instrumentation.addMoves(5);
+		instrumentation.addArray(10, SortInstrumentation.REFERENCE_BYTES);
+		instrumentation.recordDepth(4);
+		instrumentation.recordDepth(2);
+		instrumentation.endPhase("phase", instrumentation.startPhase());
+
+		SortInstrumentation.Snapshot snapshot = instrumentation.snapshot();
+		assertEquals(3, snapshot.getComparisons());
+		assertEquals(5, snapshot.getMoves());
+		assertEquals(SortInstrumentation.ARRAY_HEADER_BYTES + 10 * SortInstrumentation.REFERENCE_BYTES,
+				snapshot.getAuxiliaryBytes());
+		assertEquals(4, snapshot.getMaxRecursionDepth());
+		assertTrue(snapshot.getPhaseNanos().containsKey("phase"));
+		assertEquals(0, snapshot.getPhaseNanos("missing"));
+		assertTrue(snapshot.toString().startsWith("comparisons=3 moves=5 auxiliaryBytes=56 maxRecursionDepth=4 phase="));
+
+		instrumentation.reset();
+		snapshot = instrumentation.snapshot();
+		assertEquals(0, snapshot.getComparisons());
+		assertEquals(0, snapshot.getMaxRecursionDepth());
+		assertTrue(snapshot.getPhaseNanos().isEmpty());
+
+		SortInstrumentation disabled = SortInstrumentation.DISABLED;
+		assertFalse(disabled.isEnabled());
+		disabled.addComparisons(1);
+		disabled.addMoves(1);
+		disabled.recordDepth(1);
+		disabled.endPhase("phase", disabled.startPhase());
+		assertEquals(0, disabled.snapshot().getComparisons());
+		assertEquals(0, disabled.snapshot().getMoves());
+		assertTrue(disabled.snapshot().getPhaseNanos().isEmpty());
+	}
+
+	/**
+	 * Tests the exact counts recorded by an instrumented InsertionSorter, and that
+	 * nothing is recorded once instrumentation is removed
+	 */
+	@Test
+	public void testInsertionSorter() {
+		InsertionSorter<Integer> sorter = new InsertionSorter<Integer>();
+		assertSame(SortInstrumentation.DISABLED, sorter.getInstrumentation());
+		SortInstrumentation instrumentation = new SortInstrumentation();
+		sorter.setInstrumentation(instrumentation);
+		assertSame(instrumentation, sorter.getInstrumentation());
+
+		Integer[] data = { 3, 2, 1 };
+		sorter.sort(data);
+		assertArrayEquals(new Integer[] { 1, 2, 3 }, data);
+		SortInstrumentation.Snapshot snapshot = instrumentation.snapshot();
+		assertEquals(3, snapshot.getComparisons());
+		assertEquals(5, snapshot.getMoves());
+		assertEquals(0, snapshot.getAuxiliaryBytes());
+		assertTrue(snapshot.getPhaseNanos().containsKey("sort"));
+
+		sorter.setInstrumentation(null);
+		assertSame(SortInstrumentation.DISABLED, sorter.getInstrumentation());
+		sorter.sort(new Integer[] { 2, 1 });
+		assertEquals(3, instrumentation.snapshot().getComparisons());
+	}
+
+	/**
+	 * Tests the recursion depth, allocations, and phases recorded by recursive,
+	 * buffered, and multi-phase sorters
+	 */
+	@Test
+	public void testRecursiveSorters() {
+		Integer[] original = new Integer[1024];
+		Random random = new Random(316);
+		for (int i = 0; i < original.length; i++) {
+			original[i] = random.nextInt();
+		}
+
+		SortInstrumentation instrumentation = new SortInstrumentation();
+		MergeSorter<Integer> merge = new MergeSorter<Integer>();
+		merge.setInstrumentation(instrumentation);
+		merge.sort(original.clone());
+		SortInstrumentation.Snapshot snapshot = instrumentation.snapshot();
+		// 1024 elements split in half 10 times
+		assertEquals(10, snapshot.getMaxRecursionDepth());
+		// Every level copies and merges back all 1024 elements
+		assertEquals(2 * 10 * 1024, snapshot.getMoves());
+		assertTrue(snapshot.getComparisons() > 0);
+		assertTrue(snapshot.getAuxiliaryBytes() > 10 * 1024 * SortInstrumentation.REFERENCE_BYTES);
+
+		instrumentation.reset();
+		HeapSorter<Integer> heap = new HeapSorter<Integer>();
+		heap.setInstrumentation(instrumentation);
+		heap.sort(original.clone());
+		snapshot = instrumentation.snapshot();
+		assertTrue(snapshot.getPhaseNanos().containsKey("heapify"));
+		assertTrue(snapshot.getPhaseNanos().containsKey("sortdown"));
+		assertEquals(0, snapshot.getMaxRecursionDepth());
+		assertEquals(0, snapshot.getAuxiliaryBytes());
+
+		instrumentation.reset();
+		QuickSorter<Integer> quick = new QuickSorter<Integer>(QuickSorter.FIRST_ELEMENT_SELECTOR);
+		quick.setInstrumentation(instrumentation);
+		Integer[] sorted = original.clone();
+		new RunMergeSorter<Integer>().sort(sorted);
+		quick.sort(sorted);
+		// The first element is always the smallest, so every partition removes one element
+		assertEquals(sorted.length - 1, instrumentation.snapshot().getMaxRecursionDepth());
+	}
+
+	/**
+	 * Tests that sorters built from other sorters pass their instrumentation on
+	 */
+	@Test
+	public void testComposedSorters() {
+		Student[] roster = new Student[2000];
+		Random random = new Random(316);
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First" + random.nextInt(100), "Last" + random.nextInt(100), random.nextInt(5000),
+					1, 3.0, "unity");
+		}
+
+		SortInstrumentation instrumentation = new SortInstrumentation();
+		AdaptiveStudentSorter adaptive = new AdaptiveStudentSorter();
+		adaptive.setInstrumentation(instrumentation);
+		adaptive.sort(roster.clone());
+		SortInstrumentation.Snapshot snapshot = instrumentation.snapshot();
+		assertEquals(AdaptiveStudentSorter.Strategy.NAME, adaptive.getLastDecision().getStrategy());
+		assertTrue(snapshot.getPhaseNanos().containsKey("analysis"));
+		assertTrue(snapshot.getPhaseNanos().containsKey("sort"));
+		assertTrue(snapshot.getMoves() > 0);
+		assertTrue(snapshot.getMaxRecursionDepth() > 0);
+
+		instrumentation.reset();
+		CountingSorter<Student> counting = new CountingSorter<Student>();
+		counting.setInstrumentation(instrumentation);
+		counting.sort(roster.clone());
+		snapshot = instrumentation.snapshot();
+		assertEquals(0, snapshot.getComparisons());
+		assertEquals(2 * roster.length, snapshot.getMoves());
+		assertTrue(snapshot.getPhaseNanos().containsKey("place"));
+
+		instrumentation.reset();
+		ParallelSampleSorter<Student> sample = new ParallelSampleSorter<Student>(new StudentIDComparator(), 4, 64,
+				null);
+		sample.setInstrumentation(instrumentation);
+		sample.sort(roster.clone());
+		snapshot = instrumentation.snapshot();
+		assertTrue(snapshot.getComparisons() > 0);
+		assertTrue(snapshot.getPhaseNanos().containsKey("buckets"));
+		assertTrue(snapshot.getPhaseNanos().containsKey("merge") || snapshot.getPhaseNanos().containsKey("runs"));
+	}
+
+	/**
+	 * Tests that a sorter without instrumentation support ignores it, so it can
+	 * still be measured and used inside sorters that pass instrumentation on
+	 */
+	@Test
+	public void testUnsupported() {
+		Sorter<Integer> sorter = (data, from, to) -> {
+			// Leaves the data unchanged
+		};
+		assertSame(SortInstrumentation.DISABLED, sorter.getInstrumentation());
+		SortInstrumentation instrumentation = new SortInstrumentation();
+		sorter.setInstrumentation(instrumentation);
+		assertSame(SortInstrumentation.DISABLED, sorter.getInstrumentation());
+		sorter.sort(new Integer[] { 2, 1 });
+		assertEquals(0, instrumentation.snapshot().getMoves());
+		sorter.setInstrumentation(null);
+		assertSame(SortInstrumentation.DISABLED, sorter.getInstrumentation());
+	}
+}
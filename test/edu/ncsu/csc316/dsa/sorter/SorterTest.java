@@ -0,0 +1,90 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the Sorter interface's range checking, and provides the range check
+ * that the sorter tests use
+ * @author Jake Donovan
+ *
+ */
+public class SorterTest {
+
+	/**
+	 * Sorts data[from, to) of an array of the given length with a sorter, and
+	 * asserts that the range, and only the range, was sorted. Every element before
+	 * the range is larger than every element in it, and every element after it is
+	 * smaller, so a sorter whose offset arithmetic reads or writes past either end
+	 * of the range moves one of them into it.
+	 * @param sorter the sorter to check
+	 * @param length the length of the array
+	 * @param from the index of the first element to sort
+	 * @param to one past the index of the last element to sort
+	 * @param random the source of the values in the range
+	 */
+	static void assertSortsRange(Sorter<Integer> sorter, int length, int from, int to, Random random) {
+		Integer[] data = new Integer[length];
+		for (int i = 0; i < length; i++) {
+			if (i < from) {
+				data[i] = 1000 + random.nextInt(100);
+			} else if (i < to) {
+				// Few distinct values, so the range has duplicates
+				data[i] = random.nextInt(Math.max(1, (to - from) / 2));
+			} else {
+				data[i] = -1 - random.nextInt(100);
+			}
+		}
+		Integer[] expected = data.clone();
+		Arrays.sort(expected, from, to);
+		sorter.sort(data, from, to);
+		assertArrayEquals(expected, data);
+	}
+
+	/**
+	 * Tests Sorter.checkRange() accepts every range inside an array, including
+	 * empty ones at either end
+	 */
+	@Test
+	public void testCheckRange() {
+		Sorter.checkRange(0, 0, 0);
+		Sorter.checkRange(7, 0, 7);
+		Sorter.checkRange(7, 0, 0);
+		Sorter.checkRange(7, 7, 7);
+		Sorter.checkRange(7, 3, 5);
+	}
+
+	/**
+	 * Tests Sorter.checkRange() rejects reversed ranges and ranges outside the array
+	 */
+	@Test
+	public void testCheckRangeInvalid() {
+		Exception e = assertThrows(IllegalArgumentException.class, () -> Sorter.checkRange(7, 4, 3));
+		assertEquals("From index 4 is greater than to index 3", e.getMessage());
+		e = assertThrows(ArrayIndexOutOfBoundsException.class, () -> Sorter.checkRange(7, -1, 3));
+		assertEquals("Range [-1, 3) is outside an array of length 7", e.getMessage());
+		e = assertThrows(ArrayIndexOutOfBoundsException.class, () -> Sorter.checkRange(7, 0, 8));
+		assertEquals("Range [0, 8) is outside an array of length 7", e.getMessage());
+		// A reversed range is reported before one outside the array
+		assertThrows(IllegalArgumentException.class, () -> Sorter.checkRange(7, 9, 8));
+	}
+
+	/**
+	 * Tests that the default Sorter.sort() sorts the whole array through the
+	 * range sort
+	 */
+	@Test
+	public void testSortWholeArray() {
+		int[] range = new int[2];
+		Sorter<Integer> sorter = (data, from, to) -> {
+			range[0] = from;
+			range[1] = to;
+		};
+		sorter.sort(new Integer[5]);
+		assertArrayEquals(new int[] { 0, 5 }, range);
+	}
+}
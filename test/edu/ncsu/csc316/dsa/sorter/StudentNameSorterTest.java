@@ -0,0 +1,60 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+
+/**
+ * Tests StudentNameSorter class to make sure everything functions as required
+ * @author Jake Donovan
+ *
+ */
+public class StudentNameSorterTest {
+
+	/**
+	 * Tests StudentNameSorter.sort() on the input rosters against MergeSorter
+	 */
+	@Test
+	public void testSort() {
+		for (String file : new String[] { "input/student_ascendingID.csv", "input/student_descendingID.csv",
+				"input/student_randomOrder.csv" }) {
+			Student[] roster = StudentReader.readInputAsArray(file);
+			Student[] expected = roster.clone();
+			new MergeSorter<Student>().sort(expected);
+			new StudentNameSorter().sort(roster);
+			assertArrayEquals(expected, roster);
+		}
+
+		Student[] empty = {};
+		new StudentNameSorter().sort(empty);
+		assertEquals(0, empty.length);
+	}
+
+	/**
+	 * Tests StudentNameSorter.sort() against MergeSorter on large rosters with
+	 * shared prefixes, empty names, names that are prefixes of each other,
+	 * non-ASCII characters, and repeated names
+	 */
+	@Test
+	public void testSortSharedPrefixes() {
+		Random random = new Random(316);
+		String[] names = { "", "A", "Ab", "Abb", "Abbott", "Abbot", "a", "Smith", "Smithson", "Smit", "Z",
+				"\u00C5berg", "\u0000", "Le", "Lee", "Leigh" };
+		for (int size : new int[] { 10, 1000, 50000 }) {
+			Student[] roster = new Student[size];
+			for (int i = 0; i < size; i++) {
+				roster[i] = new Student(names[random.nextInt(names.length)], names[random.nextInt(names.length)],
+						random.nextInt(size), i, 1.0, "unity" + i);
+			}
+			Student[] expected = roster.clone();
+			new MergeSorter<Student>().sort(expected);
+			new StudentNameSorter().sort(roster);
+			assertArrayEquals(expected, roster);
+		}
+	}
+}